@@ -0,0 +1,68 @@
+package org.saltations.endeavour.benchmarks;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.saltations.endeavour.CircuitBreaker;
+import org.saltations.endeavour.Result;
+import org.saltations.endeavour.Try;
+
+/**
+ * Compares a call through a closed {@link CircuitBreaker} with a call refused by an open one, against a plain
+ * {@code Try.attempt} of the same failing call.
+ * <p>
+ * Run with {@code -prof gc}: the open breaker returns its preallocated failure and should allocate nothing per call.
+ */
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class CircuitBreakerBenchmark
+{
+    private static final IOException DOWN = new IOException("down");
+
+    private CircuitBreaker closed;
+    private CircuitBreaker open;
+    private String value;
+
+    @Setup
+    public void setUp()
+    {
+        value = "payload";
+        closed = CircuitBreaker.of("closed").minimumCalls(Integer.MAX_VALUE).build();
+        open = CircuitBreaker.of("open").minimumCalls(1).openDuration(Duration.ofDays(1)).build();
+        open.attempt(() -> { throw DOWN; });
+    }
+
+    @Benchmark
+    public Result<String> plainFailingAttempt()
+    {
+        return Try.attempt(() -> { throw DOWN; });
+    }
+
+    @Benchmark
+    public Result<String> closedBreakerSuccess()
+    {
+        return closed.attempt(() -> value);
+    }
+
+    @Benchmark
+    public Result<String> openBreakerRefusal()
+    {
+        return open.attempt(() -> { throw DOWN; });
+    }
+}
@@ -0,0 +1,58 @@
+package org.saltations.endeavour.benchmarks;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.saltations.endeavour.exception.DomainException;
+import org.saltations.endeavour.exception.TraceIdGenerator;
+
+/**
+ * Measures the cost of creating {@link DomainException}s with and without a stack trace, and of reading their trace ids.
+ * <p>
+ * Run with {@code -t 64} to see how trace id generation behaves when many threads create exceptions at once;
+ * {@code randomTraceId} shows the {@code SecureRandom} backed alternative for comparison.
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class DomainExceptionBenchmark
+{
+    private static final TraceIdGenerator RANDOM = TraceIdGenerator.random();
+
+    @Benchmark
+    public DomainException create()
+    {
+        return new DomainException("Order {} rejected", 42);
+    }
+
+    @Benchmark
+    public DomainException createStackless()
+    {
+        return DomainException.stackless("Order {} rejected", 42);
+    }
+
+    @Benchmark
+    public UUID createStacklessAndReadTraceId()
+    {
+        return DomainException.stackless("Order {} rejected", 42).getTraceId();
+    }
+
+    @Benchmark
+    public UUID randomTraceId()
+    {
+        return RANDOM.next();
+    }
+}
@@ -0,0 +1,79 @@
+package org.saltations.endeavour.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.saltations.endeavour.CheckedConsumer;
+import org.saltations.endeavour.CheckedFunction;
+import org.saltations.endeavour.Result;
+import org.saltations.endeavour.Success;
+import org.saltations.endeavour.Try;
+
+/**
+ * Shows that a failure travels through the rest of a chain without allocating.
+ * <p>
+ * Run with {@code -prof gc}. {@code propagateExistingFailure} should report a {@code gc.alloc.rate.norm} of
+ * {@code ~0 B/op} at every depth, and {@code failAtFirstStep} should report the same allocation at every depth
+ * because only the first failure is ever created. Escape analysis is switched off so that a zero reading cannot come
+ * from the JIT scalar-replacing throwaway failures.
+ */
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = "-XX:-DoEscapeAnalysis")
+public class FailurePropagationBenchmark
+{
+    private static final CheckedFunction<Long, Long> INCREMENT = x -> x + 1;
+    private static final CheckedFunction<Long, Result<Long>> INCREMENT_RESULT = x -> Try.success(x + 1);
+    private static final CheckedConsumer<Success<Long>> INSPECT = x -> x;
+
+    @Param({"1", "10", "100"})
+    private int depth;
+
+    private Result<Long> failure;
+
+    @Setup
+    public void setUp()
+    {
+        failure = Try.failure();
+    }
+
+    @Benchmark
+    public Result<Long> propagateExistingFailure() throws Exception
+    {
+        return propagate(failure);
+    }
+
+    @Benchmark
+    public Result<Long> failAtFirstStep() throws Exception
+    {
+        return propagate(Try.failure());
+    }
+
+    private Result<Long> propagate(Result<Long> start) throws Exception
+    {
+        var result = start;
+
+        for (int i = 0; i < depth; i++)
+        {
+            result = result.map(INCREMENT)
+                           .flatMap(INCREMENT_RESULT)
+                           .ifSuccess(INSPECT);
+        }
+
+        return result;
+    }
+}
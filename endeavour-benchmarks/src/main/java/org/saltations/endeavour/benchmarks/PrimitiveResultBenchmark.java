@@ -0,0 +1,62 @@
+package org.saltations.endeavour.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.saltations.endeavour.LongResult;
+import org.saltations.endeavour.Result;
+import org.saltations.endeavour.Try;
+
+/**
+ * Compares a numeric chain run through boxed {@code Result<Long>} with the same chain through {@link LongResult}.
+ * <p>
+ * The values are kept outside the small-value box cache so every boxed step allocates. Run with {@code -prof gc}
+ * to compare allocation per chain.
+ */
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class PrimitiveResultBenchmark
+{
+    private long price;
+
+    @Setup
+    public void setUp()
+    {
+        price = 1_250L;
+    }
+
+    @Benchmark
+    public long boxedChain() throws Exception
+    {
+        Result<Long> result = Try.attempt(() -> price)
+                                 .map(p -> p * 3)
+                                 .map(p -> p + 500)
+                                 .map(p -> p - p / 10);
+
+        return result.get();
+    }
+
+    @Benchmark
+    public long primitiveChain() throws Exception
+    {
+        return Try.attemptLong(() -> price)
+                  .map(p -> p * 3)
+                  .map(p -> p + 500)
+                  .map(p -> p - p / 10)
+                  .getAsLong();
+    }
+}
@@ -0,0 +1,149 @@
+package org.saltations.endeavour.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.saltations.endeavour.CheckedFunction;
+import org.saltations.endeavour.Failure;
+import org.saltations.endeavour.Result;
+import org.saltations.endeavour.Try;
+
+/**
+ * Measures whole pipelines of {@link Result} operations at several chain depths and failure rates.
+ * <p>
+ * Every invocation starts with a {@link Try#attempt} whose supplier throws for the configured percentage
+ * of inputs, then runs {@code depth} further steps and finishes with a terminal operation. The
+ * {@code exceptionBaseline} benchmark performs the same work with plain exceptions and a try/catch so
+ * the Result numbers can be read relative to idiomatic exception-based code.
+ */
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ResultChainBenchmark
+{
+    private static final int INPUT_COUNT = 1024;
+
+    private static final CheckedFunction<Long, Long> INCREMENT = x -> x + 1;
+    private static final CheckedFunction<Long, Result<Long>> INCREMENT_RESULT = x -> Try.success(x + 1);
+    private static final CheckedFunction<Long, Long> ON_SUCCESS = x -> x;
+    private static final CheckedFunction<Failure<Long>, Long> ON_FAILURE = f -> -1L;
+
+    @Param({"1", "5", "10"})
+    private int depth;
+
+    @Param({"0", "10", "50", "100"})
+    private int failurePercent;
+
+    private long[] inputs;
+    private boolean[] failing;
+    private int cursor;
+
+    @Setup
+    public void setUp()
+    {
+        var random = new Random(0xE4DEA);
+
+        inputs = new long[INPUT_COUNT];
+        failing = new boolean[INPUT_COUNT];
+
+        for (int i = 0; i < INPUT_COUNT; i++)
+        {
+            inputs[i] = random.nextInt(1_000);
+            failing[i] = random.nextInt(100) < failurePercent;
+        }
+    }
+
+    @Benchmark
+    public Result<Long> mapChain() throws Exception
+    {
+        var index = nextIndex();
+        var result = Try.attempt(() -> lookup(index));
+
+        for (int i = 0; i < depth; i++)
+        {
+            result = result.map(INCREMENT);
+        }
+
+        return result;
+    }
+
+    @Benchmark
+    public Result<Long> flatMapChain()
+    {
+        var index = nextIndex();
+        var result = Try.attempt(() -> lookup(index));
+
+        for (int i = 0; i < depth; i++)
+        {
+            result = result.flatMap(INCREMENT_RESULT);
+        }
+
+        return result;
+    }
+
+    @Benchmark
+    public Object mapChainThenReduce() throws Exception
+    {
+        return mapChain().reduce(ON_SUCCESS, ON_FAILURE);
+    }
+
+    @Benchmark
+    public Result<Long> mapChainThenOrElseGet() throws Exception
+    {
+        return mapChain().orElseGet(() -> Try.success(-1L));
+    }
+
+    @Benchmark
+    public long exceptionBaseline()
+    {
+        var index = nextIndex();
+
+        try
+        {
+            var value = lookup(index);
+
+            for (int i = 0; i < depth; i++)
+            {
+                value = value + 1;
+            }
+
+            return value;
+        }
+        catch (IllegalStateException e)
+        {
+            return -1L;
+        }
+    }
+
+    private int nextIndex()
+    {
+        var index = cursor;
+        cursor = (cursor + 1) & (INPUT_COUNT - 1);
+        return index;
+    }
+
+    private long lookup(int index)
+    {
+        if (failing[index])
+        {
+            throw new IllegalStateException("Lookup of input " + index + " failed");
+        }
+
+        return inputs[index];
+    }
+}
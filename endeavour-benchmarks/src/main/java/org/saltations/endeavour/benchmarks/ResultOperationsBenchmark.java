@@ -0,0 +1,163 @@
+package org.saltations.endeavour.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.saltations.endeavour.CheckedFunction;
+import org.saltations.endeavour.CheckedSupplier;
+import org.saltations.endeavour.CheckedToIntFunction;
+import org.saltations.endeavour.Failure;
+import org.saltations.endeavour.Result;
+import org.saltations.endeavour.Try;
+
+/**
+ * Measures the per-call cost of the individual {@link Result} operations in isolation.
+ * <p>
+ * Each benchmark performs exactly one library call against a prepared receiver so that the numbers
+ * reflect what a single step of a pipeline costs on the success and the failure side.
+ * Run with {@code -prof gc} to see the allocation rate of each call alongside its latency.
+ */
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ResultOperationsBenchmark
+{
+    private static final CheckedFunction<Long, Long> INCREMENT = x -> x + 1;
+    private static final CheckedFunction<Long, Long> TO_NULL = x -> null;
+    private static final CheckedFunction<Long, Result<Long>> INCREMENT_RESULT = x -> Try.success(x + 1);
+    private static final CheckedFunction<Long, String> ON_SUCCESS = x -> "ok";
+    private static final CheckedFunction<Failure<Long>, String> ON_FAILURE = f -> "failed";
+    private static final CheckedToIntFunction<Long> STATUS_OK = x -> 200;
+    private static final CheckedToIntFunction<Failure<Long>> STATUS_FAILED = f -> 502;
+
+    private long payload;
+    private Result<Long> quantSuccess;
+    private Result<Long> qualSuccess;
+    private Result<Long> failure;
+    private Result<Long> alternate;
+    private CheckedSupplier<Long> succeedingSupplier;
+    private CheckedSupplier<Long> throwingSupplier;
+    private CheckedSupplier<Result<Long>> alternateSupplier;
+
+    @Setup
+    public void setUp()
+    {
+        payload = 42L;
+        quantSuccess = Try.success(payload);
+        qualSuccess = Try.success(null);
+        failure = Try.failureWithDetails("Lookup of {} failed", payload);
+        alternate = Try.success(-1L);
+        succeedingSupplier = () -> payload;
+        throwingSupplier = () -> { throw new IllegalStateException("Lookup failed"); };
+        alternateSupplier = () -> alternate;
+    }
+
+    @Benchmark
+    public Result<Long> attemptSuccess()
+    {
+        return Try.attempt(succeedingSupplier);
+    }
+
+    @Benchmark
+    public Result<Long> attemptFailure()
+    {
+        return Try.attempt(throwingSupplier);
+    }
+
+    @Benchmark
+    public Result<Long> successWithValue()
+    {
+        return Try.success(payload);
+    }
+
+    @Benchmark
+    public Result<Boolean> successWithoutValue()
+    {
+        return Try.success();
+    }
+
+    @Benchmark
+    public Result<Long> quantSuccessMap() throws Exception
+    {
+        return quantSuccess.map(INCREMENT);
+    }
+
+    @Benchmark
+    public Result<Long> quantSuccessFlatMap()
+    {
+        return quantSuccess.flatMap(INCREMENT_RESULT);
+    }
+
+    @Benchmark
+    public Result<Long> qualSuccessMap() throws Exception
+    {
+        return qualSuccess.map(TO_NULL);
+    }
+
+    @Benchmark
+    public Result<Long> failureMap() throws Exception
+    {
+        return failure.map(INCREMENT);
+    }
+
+    @Benchmark
+    public Result<Long> failureFlatMap()
+    {
+        return failure.flatMap(INCREMENT_RESULT);
+    }
+
+    @Benchmark
+    public Object reduceSuccess()
+    {
+        return quantSuccess.reduce(ON_SUCCESS, ON_FAILURE);
+    }
+
+    @Benchmark
+    public Object reduceFailure()
+    {
+        return failure.reduce(ON_SUCCESS, ON_FAILURE);
+    }
+
+    @Benchmark
+    public Object foldSuccess() throws Exception
+    {
+        return quantSuccess.fold(ON_SUCCESS, ON_FAILURE);
+    }
+
+    @Benchmark
+    public Object foldFailure() throws Exception
+    {
+        return failure.fold(ON_SUCCESS, ON_FAILURE);
+    }
+
+    @Benchmark
+    public int foldToIntSuccess() throws Exception
+    {
+        return quantSuccess.foldToInt(STATUS_OK, STATUS_FAILED);
+    }
+
+    @Benchmark
+    public Result<Long> orElseGetOnSuccess()
+    {
+        return quantSuccess.orElseGet(alternateSupplier);
+    }
+
+    @Benchmark
+    public Result<Long> orElseGetOnFailure()
+    {
+        return failure.orElseGet(alternateSupplier);
+    }
+}
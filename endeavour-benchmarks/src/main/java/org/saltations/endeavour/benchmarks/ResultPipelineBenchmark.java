@@ -0,0 +1,111 @@
+package org.saltations.endeavour.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.saltations.endeavour.CheckedFunction;
+import org.saltations.endeavour.Result;
+import org.saltations.endeavour.ResultPipeline;
+import org.saltations.endeavour.Try;
+
+/**
+ * Compares a ten step chain of {@code map}/{@code flatMap}/filter steps written directly against {@link Result}
+ * with the same steps fused into a {@link ResultPipeline} that is built once.
+ * <p>
+ * {@code chained} is the best case for plain chaining: one call site the JIT inlines whole, after which escape
+ * analysis removes the intermediate results. {@code chainedFromSteps} applies the steps from a list, as generic
+ * request handling code does, where that inlining cannot happen and every step allocates a result. Run with
+ * {@code -prof gc} to compare allocation per chain.
+ */
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ResultPipelineBenchmark
+{
+    private static final ResultPipeline<String, String> PIPELINE = ResultPipeline.<String>of()
+        .map(String::trim)
+        .map(String::length)
+        .map(x -> x * 1_000)
+        .flatMap(x -> Try.success(x + 17))
+        .filter(x -> x > 0)
+        .map(x -> x * 3)
+        .map(x -> x - 5)
+        .flatMap(x -> Try.success((long) x))
+        .map(x -> x / 2)
+        .map(x -> "Total " + x)
+        .build();
+
+    /**
+     * The mapping steps of the chain held as data, the way generic request handling code applies them.
+     */
+
+    private static final List<CheckedFunction<Object, Object>> STEPS = List.of(
+        x -> ((String) x).trim(),
+        x -> ((String) x).length(),
+        x -> (Integer) x * 1_000,
+        x -> (Integer) x + 17,
+        x -> (Integer) x * 3,
+        x -> (Integer) x - 5,
+        x -> (long) (Integer) x,
+        x -> (Long) x / 2,
+        x -> "Total " + x
+    );
+
+    private String input;
+
+    @Setup
+    public void setUp()
+    {
+        input = "  order-12345  ";
+    }
+
+    @Benchmark
+    public Result<String> chained() throws Exception
+    {
+        return Try.success(input)
+                  .map(String::trim)
+                  .map(String::length)
+                  .map(x -> x * 1_000)
+                  .flatMap(x -> Try.success(x + 17))
+                  .flatMap(x -> x > 0 ? Try.success(x) : Try.failure())
+                  .map(x -> x * 3)
+                  .map(x -> x - 5)
+                  .flatMap(x -> Try.success((long) x))
+                  .map(x -> x / 2)
+                  .map(x -> "Total " + x);
+    }
+
+    @Benchmark
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public Result<String> chainedFromSteps() throws Exception
+    {
+        Result result = Try.success(input);
+
+        for (var step : STEPS)
+        {
+            result = result.map(step);
+        }
+
+        return result;
+    }
+
+    @Benchmark
+    public Result<String> pipeline()
+    {
+        return PIPELINE.apply(input);
+    }
+}
@@ -0,0 +1,69 @@
+package org.saltations.endeavour.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.saltations.endeavour.Result;
+import org.saltations.endeavour.Try;
+
+/**
+ * Measures combining five independent results into one with {@link Result#zip} against the nested {@code flatMap}s
+ * it replaces.
+ * <p>
+ * With {@code failing} set the third result is a failure, so both forms stop early.
+ * Run with {@code -prof gc} to compare the allocation per combination.
+ */
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ResultZipBenchmark
+{
+    @Param({"false", "true"})
+    private boolean failing;
+
+    private Result<Long> id;
+    private Result<String> name;
+    private Result<Integer> quantity;
+    private Result<Double> price;
+    private Result<Boolean> active;
+
+    @Setup
+    public void setUp()
+    {
+        id = Try.success(42L);
+        name = Try.success("widget");
+        quantity = failing ? Try.failureWithDetails("Lookup of {} failed", "quantity") : Try.success(7);
+        price = Try.success(9.99);
+        active = Try.success(true);
+    }
+
+    @Benchmark
+    public Result<Line> zip()
+    {
+        return Result.zip(id, name, quantity, price, active, Line::new);
+    }
+
+    @Benchmark
+    public Result<Line> nestedFlatMap()
+    {
+        return id.flatMap(i -> name.flatMap(n -> quantity.flatMap(q -> price.flatMap(p -> active.flatMap(a -> Try.success(new Line(i, n, q, p, a)))))));
+    }
+
+    public record Line(Long id, String name, Integer quantity, Double price, Boolean active)
+    {
+    }
+}
@@ -0,0 +1,121 @@
+package org.saltations.endeavour.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.saltations.endeavour.FailureDescription;
+import org.saltations.endeavour.FailureType;
+import org.saltations.endeavour.ParsedTemplate;
+import org.slf4j.helpers.MessageFormatter;
+
+/**
+ * Compares failure message expansion through {@link ParsedTemplate} with the {@code MessageFormatter} path it replaced.
+ * <p>
+ * {@code messageFormatterPadded} reproduces the former {@code FailureDescription} expansion: count the placeholders,
+ * copy the arguments into a padded {@code ArrayList} and format with {@code MessageFormatter}. Run with
+ * {@code -prof gc} to compare allocation per expansion.
+ */
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class TemplateExpansionBenchmark
+{
+    private static final String TEMPLATE = "Order {} for customer {} could not be shipped to {}";
+
+    enum ShippingFailure implements FailureType
+    {
+        NOT_SHIPPED;
+
+        @Override
+        public String getTitle()
+        {
+            return "not-shipped";
+        }
+
+        @Override
+        public String getTemplate()
+        {
+            return TEMPLATE;
+        }
+    }
+
+    private Object[] allArgs;
+    private Object[] partialArgs;
+    private ParsedTemplate parsed;
+
+    @Setup
+    public void setUp()
+    {
+        allArgs = new Object[]{12345L, "ACME-42", "Springfield"};
+        partialArgs = new Object[]{12345L};
+        parsed = ShippingFailure.NOT_SHIPPED.parsedTemplate();
+    }
+
+    @Benchmark
+    public String messageFormatterPadded()
+    {
+        return paddedMessageFormatter(TEMPLATE, partialArgs);
+    }
+
+    @Benchmark
+    public String parsedTemplatePadded()
+    {
+        return parsed.formatOr(partialArgs, "NotSupplied");
+    }
+
+    @Benchmark
+    public String messageFormatter()
+    {
+        return MessageFormatter.basicArrayFormat(TEMPLATE, allArgs);
+    }
+
+    @Benchmark
+    public String parsedTemplate()
+    {
+        return parsed.format(allArgs);
+    }
+
+    @Benchmark
+    public String singlePassExpansion()
+    {
+        return ParsedTemplate.expand(TEMPLATE, allArgs);
+    }
+
+    @Benchmark
+    public String typedFailureDetail()
+    {
+        return FailureDescription.of()
+                                 .type(ShippingFailure.NOT_SHIPPED)
+                                 .args(allArgs)
+                                 .build()
+                                 .getDetail();
+    }
+
+    private static String paddedMessageFormatter(String template, Object[] args)
+    {
+        var expected = ParsedTemplate.countPlaceholders(template);
+        var augmentedArgs = new ArrayList<>(Arrays.asList(args));
+
+        while (augmentedArgs.size() < expected)
+        {
+            augmentedArgs.add("NotSupplied");
+        }
+
+        return MessageFormatter.basicArrayFormat(template, augmentedArgs.toArray());
+    }
+}
@@ -0,0 +1,427 @@
+package org.saltations.endeavour;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import lombok.NonNull;
+
+/**
+ * The {@link Result} of an operation running on another thread, by default a virtual thread.
+ * <p>
+ * {@code map}, {@code flatMap}, {@code flatMapAsync} and {@code recover} never block: they return a new async result
+ * that completes when this one does. The mapping runs on the thread that completes this result, or on the caller's
+ * thread if this result is already complete. {@link #join()} waits for the outcome and always returns a
+ * {@code Result}: it never throws {@code ExecutionException}, and an interrupted wait becomes a
+ * {@code GENERIC_INTERRUPTED_EXCEPTION} failure with the interrupt flag restored, just as in
+ * {@link Try#attempt(CheckedSupplier)}.
+ * <p>
+ * Exceptions thrown by the operation and by mapping functions are converted to failures the same way as
+ * {@code Try.attempt} converts them. {@link #cancel()} completes the result with a {@code GENERIC_CANCELLED}
+ * failure and interrupts the operation if it is running. Cancelling a derived result leaves the other results derived
+ * from the same one alone; the result it derives from is only cancelled once every result derived from it has been.
+ *
+ * <p>
+ * <b>Example:</b>
+ * <pre>{@code
+ *   var customer = Try.attemptAsync(() -> customers.fetch(id))
+ *                     .map(Customer::address)
+ *                     .recover(failure -> Address.UNKNOWN);
+ *
+ *   // ... other work while the fetch runs ...
+ *
+ *   Result<Address> address = customer.join();
+ * }
+ * </pre>
+ *
+ * @param <T> Success payload type
+ *
+ * @see Try#attemptAsync(CheckedSupplier)
+ */
+
+public final class AsyncResult<T>
+{
+    private static final Executor VIRTUAL_THREADS = Executors.newThreadPerTaskExecutor(Thread.ofVirtual()
+                                                                                             .name("endeavour-async-", 0)
+                                                                                             .factory());
+
+    private final CompletableFuture<Result<T>> promise;
+
+    /**
+     * The async result this one derives from; {@code null} for an attempt or a completed result.
+     */
+
+    private final AsyncResult<?> parent;
+
+    /**
+     * The number of results derived from this one that have not been cancelled.
+     */
+
+    private final AtomicInteger liveDependents = new AtomicInteger();
+
+    /**
+     * The thread running the attempt, while it runs. Guarded by {@code this}.
+     */
+
+    private Thread runner;
+
+    private AsyncResult(CompletableFuture<Result<T>> promise, AsyncResult<?> parent)
+    {
+        this.promise = promise;
+        this.parent = parent;
+
+        if (parent != null)
+        {
+            parent.liveDependents.incrementAndGet();
+        }
+    }
+
+    /**
+     * Runs the supplier on a new virtual thread.
+     *
+     * @param supplier function that supplies a new value and may throw checked exceptions. <b>Not null</b>.
+     *
+     * @param <T> Type of the supplied value
+     *
+     * @return an async result that completes with the outcome of the supplier
+     */
+
+    static <T> AsyncResult<T> attempt(CheckedSupplier<T> supplier)
+    {
+        return attempt(supplier, VIRTUAL_THREADS);
+    }
+
+    /**
+     * Runs the supplier with the given executor.
+     * <p>
+     * If the executor rejects the task the result is completed at once with the corresponding failure.
+     *
+     * @param supplier function that supplies a new value and may throw checked exceptions. <b>Not null</b>.
+     * @param executor executor to run the supplier with. <b>Not null</b>.
+     *
+     * @param <T> Type of the supplied value
+     *
+     * @return an async result that completes with the outcome of the supplier
+     */
+
+    static <T> AsyncResult<T> attempt(CheckedSupplier<T> supplier, Executor executor)
+    {
+        var async = new AsyncResult<T>(new CompletableFuture<>(), null);
+
+        try
+        {
+            executor.execute(() -> async.run(supplier));
+        }
+        catch (RejectedExecutionException e)
+        {
+            async.promise.complete(Try.failureFrom(e));
+        }
+
+        return async;
+    }
+
+    /**
+     * Wraps an outcome that is already known.
+     *
+     * @param outcome the outcome. <b>Not null.</b>
+     *
+     * @param <T> Success payload type
+     *
+     * @return a completed async result
+     */
+
+    public static <T> AsyncResult<T> completed(@NonNull Result<T> outcome)
+    {
+        Objects.requireNonNull(outcome, "Outcome cannot be null");
+
+        return new AsyncResult<>(CompletableFuture.completedFuture(outcome), null);
+    }
+
+    /**
+     * Returns <em>true</em> if the outcome is known.
+     *
+     * @return <em>true</em> if this result has completed, <em>false</em> otherwise.
+     */
+
+    public boolean isDone()
+    {
+        return promise.isDone();
+    }
+
+    /**
+     * Waits for the outcome.
+     *
+     * @return the outcome, or a {@code GENERIC_INTERRUPTED_EXCEPTION} failure if the calling thread is interrupted
+     * while waiting. The interrupt flag is restored in that case.
+     */
+
+    public Result<T> join()
+    {
+        try
+        {
+            return promise.get();
+        }
+        catch (InterruptedException e)
+        {
+            return Try.failureFrom(e);
+        }
+        catch (ExecutionException e)
+        {
+            // Not expected: every stage completes with a Result rather than an exception
+
+            return Try.failureFrom(e.getCause() instanceof Exception cause ? cause : e);
+        }
+    }
+
+    /**
+     * Waits at most the given time for the outcome. Timing out does not cancel the operation.
+     *
+     * @param timeout the longest time to wait. <b>Not null, not negative.</b>
+     *
+     * @return the outcome, a {@code GENERIC_TIMEOUT} failure if it is not known in time, or a
+     * {@code GENERIC_INTERRUPTED_EXCEPTION} failure if the calling thread is interrupted while waiting.
+     */
+
+    public Result<T> join(@NonNull Duration timeout)
+    {
+        return join(Deadline.after(timeout));
+    }
+
+    /**
+     * Waits for the outcome until the deadline passes.
+     */
+
+    Result<T> join(Deadline deadline)
+    {
+        try
+        {
+            return promise.get(Math.max(0L, deadline.remainingNanos()), TimeUnit.NANOSECONDS);
+        }
+        catch (TimeoutException e)
+        {
+            return deadline.timedOut();
+        }
+        catch (InterruptedException e)
+        {
+            return Try.failureFrom(e);
+        }
+        catch (ExecutionException e)
+        {
+            return Try.failureFrom(e.getCause() instanceof Exception cause ? cause : e);
+        }
+    }
+
+    /**
+     * Returns an async result that maps the payload of this one once it completes.
+     *
+     * @param mapping a mapping function for T to U. <b>Not null.</b> <b>Must handle nulls.</b>
+     *
+     * @return the mapped async result
+     *
+     * @param <U> type of the new payload
+     *
+     * @see Result#map(CheckedFunction)
+     */
+
+    public <U> AsyncResult<U> map(@NonNull CheckedFunction<T, U> mapping)
+    {
+        Objects.requireNonNull(mapping, "Mapping function cannot be null");
+
+        return derive(promise.thenApply(outcome -> applySafely(() -> outcome.map(mapping), null)));
+    }
+
+    /**
+     * Returns an async result that maps the payload of this one to a new {@code Result} once it completes.
+     *
+     * @param mapping a mapping function for T to {@code Result<U>}. <b>Not null.</b> <b>Must handle nulls.</b>
+     *
+     * @return the mapped async result
+     *
+     * @param <U> type of the new payload
+     *
+     * @see Result#flatMap(CheckedFunction)
+     */
+
+    public <U> AsyncResult<U> flatMap(@NonNull CheckedFunction<T, Result<U>> mapping)
+    {
+        Objects.requireNonNull(mapping, "Mapping function cannot be null");
+
+        return derive(promise.thenApply(outcome -> applySafely(() -> Objects.requireNonNull(outcome.flatMap(mapping), "Mapping function must not return null"), null)));
+    }
+
+    /**
+     * Returns an async result that continues with a further asynchronous operation once this one completes.
+     *
+     * @param mapping a mapping function for T to {@code AsyncResult<U>}. <b>Not null.</b> <b>Must handle nulls.</b>
+     *
+     * @return the async result of the further operation, or the failure of this one
+     *
+     * @param <U> type of the new payload
+     */
+
+    public <U> AsyncResult<U> flatMapAsync(@NonNull CheckedFunction<T, AsyncResult<U>> mapping)
+    {
+        Objects.requireNonNull(mapping, "Mapping function cannot be null");
+
+        return derive(promise.thenCompose(outcome -> switch (outcome)
+        {
+            case Failure<T> failure -> CompletableFuture.completedFuture(failure.cast());
+            case Success<T> success -> {
+                try
+                {
+                    yield Objects.requireNonNull(mapping.apply(success.get()), "Mapping function must not return null").promise;
+                }
+                catch (Exception e)
+                {
+                    yield CompletableFuture.completedFuture(Try.failureFrom(e));
+                }
+            }
+        }));
+    }
+
+    /**
+     * Returns an async result that turns a failure of this one into a value once it completes.
+     * Successes pass through unchanged.
+     * <p>
+     * If the recovery throws, the result is a failure that is preceded by the recovered one.
+     *
+     * @param recovery function from the failure to a replacement value. <b>Not null.</b>
+     *
+     * @return the recovered async result
+     */
+
+    public AsyncResult<T> recover(@NonNull CheckedFunction<Failure<T>, T> recovery)
+    {
+        Objects.requireNonNull(recovery, "Recovery function cannot be null");
+
+        return derive(promise.thenApply(outcome -> switch (outcome)
+        {
+            case Success<T> success -> success;
+            case Failure<T> failure -> applySafely(() -> Try.success(recovery.apply(failure)), failure.description());
+        }));
+    }
+
+    /**
+     * Completes this result with a {@code GENERIC_CANCELLED} failure if it has not completed yet. An attempt has its
+     * thread interrupted if it is running.
+     * <p>
+     * Other results derived from the same one are not affected. Once every result derived from a pending one has been
+     * cancelled, that one is cancelled too, so cancelling the only result derived from an attempt stops the attempt.
+     *
+     * @return <em>true</em> if this call completed the result, <em>false</em> if it had already completed
+     */
+
+    public boolean cancel()
+    {
+        var cancelled = promise.complete(cancelled());
+
+        if (cancelled)
+        {
+            interruptRunner();
+
+            if (parent != null && parent.liveDependents.decrementAndGet() == 0)
+            {
+                parent.cancel();
+            }
+        }
+
+        return cancelled;
+    }
+
+    /**
+     * Returns a view of this result as a {@code CompletionStage} for code that composes futures. The stage always
+     * completes normally with the outcome.
+     *
+     * @return a completion stage of the outcome
+     */
+
+    public CompletionStage<Result<T>> toCompletionStage()
+    {
+        return promise.minimalCompletionStage();
+    }
+
+    @Override
+    public String toString()
+    {
+        return promise.isDone() ? "AsyncResult[" + promise.join() + "]" : "AsyncResult[Pending]";
+    }
+
+    private void run(CheckedSupplier<T> supplier)
+    {
+        synchronized (this)
+        {
+            if (promise.isDone())
+            {
+                return;
+            }
+
+            runner = Thread.currentThread();
+        }
+
+        try
+        {
+            promise.complete(Try.attempt(supplier));
+        }
+        catch (Error e)
+        {
+            // Make sure nobody waits forever on an operation that died
+
+            promise.complete(Try.failureFrom(new ExecutionException(e)));
+            throw e;
+        }
+        finally
+        {
+            synchronized (this)
+            {
+                runner = null;
+
+                // A cancellation may have interrupted this thread; do not let that leak into whatever it runs next
+
+                if (promise.getNow(null) instanceof Failure<T> failure && failure.getType() == FailureDescription.GenericFailureType.GENERIC_CANCELLED)
+                {
+                    Thread.interrupted();
+                }
+            }
+        }
+    }
+
+    private synchronized void interruptRunner()
+    {
+        if (runner != null)
+        {
+            runner.interrupt();
+        }
+    }
+
+    private <U> AsyncResult<U> derive(CompletableFuture<Result<U>> next)
+    {
+        return new AsyncResult<>(next, this);
+    }
+
+    private static <U> Result<U> applySafely(CheckedSupplier<Result<U>> step, FailureDescription precedingFailure)
+    {
+        try
+        {
+            return step.get();
+        }
+        catch (Exception e)
+        {
+            return Try.failureFrom(e, precedingFailure);
+        }
+    }
+
+    private static <U> Result<U> cancelled()
+    {
+        return new Failure<>(FailureDescription.of()
+            .type(FailureDescription.GenericFailureType.GENERIC_CANCELLED)
+            .build());
+    }
+}
@@ -0,0 +1,466 @@
+package org.saltations.endeavour;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * Caps the number of calls to a dependency that run at the same time, so a slow dependency cannot use up the threads
+ * of every caller.
+ * <p>
+ * A call that finds the bulkhead full waits in a queue of at most {@code maxQueued} callers for at most
+ * {@code maxWait}. If the queue is full, or no capacity frees up in time, the call is not made and the same
+ * preallocated {@code GENERIC_BULKHEAD_FULL} failure is returned. By default nothing queues: a full bulkhead refuses
+ * at once. Queueing needs both settings, so building with only one of {@code maxQueued} and {@code maxWait} is
+ * rejected. Waiting never blocks without limit and parks rather than pins the carrier thread, so bulkheads work the
+ * same for platform and virtual threads. Callers arriving while others wait may take freed capacity first.
+ * <p>
+ * With {@link Builder#adaptiveLimit(int, int, Duration)} the limit follows the observed latency, additive increase and
+ * multiplicative decrease style: a call that completes within the latency threshold while the bulkhead is at least
+ * half used raises the limit by one, and a call that takes longer cuts it by {@code backoffRatio}. The limit stays
+ * between the given minimum and maximum.
+ *
+ * <p>
+ * <b>Example:</b>
+ * <pre>{@code
+ *   static final Bulkhead SEARCH = Bulkhead.of("search")
+ *                                          .maxConcurrent(16)
+ *                                          .maxQueued(32)
+ *                                          .maxWait(Duration.ofMillis(50))
+ *                                          .build();
+ *
+ *   var hits = SEARCH.attempt(() -> search.query(terms));
+ * }
+ * </pre>
+ */
+
+@Getter
+public final class Bulkhead
+{
+    private final String name;
+    private final int maxQueued;
+    private final Duration maxWait;
+
+    /**
+     * Smallest and largest limit of an adaptive bulkhead; both equal to the fixed limit otherwise.
+     */
+
+    private final int minLimit;
+    private final int maxLimit;
+
+    /**
+     * Latency above which an adaptive bulkhead lowers its limit, or {@code null} for a fixed limit.
+     */
+
+    private final Duration latencyThreshold;
+
+    private final double backoffRatio;
+
+    @Getter(AccessLevel.NONE)
+    private final long maxWaitNanos;
+
+    @Getter(AccessLevel.NONE)
+    private final long latencyThresholdNanos;
+
+    @Getter(AccessLevel.NONE)
+    private final LongSupplier clock;
+
+    /**
+     * The failure returned for every refused call. Shared by every caller, so its description is frozen.
+     */
+
+    @Getter(AccessLevel.NONE)
+    private final Failure<?> fullFailure;
+
+    @Getter(AccessLevel.NONE)
+    private final AtomicInteger limit;
+
+    @Getter(AccessLevel.NONE)
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    @Getter(AccessLevel.NONE)
+    private final AtomicInteger waiting = new AtomicInteger();
+
+    @Getter(AccessLevel.NONE)
+    private final ReentrantLock lock = new ReentrantLock();
+
+    @Getter(AccessLevel.NONE)
+    private final Condition released = lock.newCondition();
+
+    Bulkhead(Builder builder, LongSupplier clock)
+    {
+        this.name = builder.name;
+        this.maxQueued = builder.maxQueued;
+        this.maxWait = builder.maxWait;
+        this.minLimit = builder.minLimit;
+        this.maxLimit = builder.maxLimit;
+        this.latencyThreshold = builder.latencyThreshold;
+        this.backoffRatio = builder.backoffRatio;
+        this.maxWaitNanos = maxWait.toNanos();
+        this.latencyThresholdNanos = latencyThreshold == null ? Long.MAX_VALUE : latencyThreshold.toNanos();
+        this.clock = clock;
+        this.limit = new AtomicInteger(builder.initialLimit);
+        this.fullFailure = new Failure<>(FailureDescription.of()
+            .type(FailureDescription.GenericFailureType.GENERIC_BULKHEAD_FULL)
+            .args(name)
+            .build()
+            .freeze());
+    }
+
+    /**
+     * Starts a new bulkhead. Without further settings it allows 10 concurrent calls and refuses any more at once.
+     *
+     * @param name name of the bulkhead, used in the failure returned when it is full. <b>Not null.</b>
+     *
+     * @return A new Builder instance
+     */
+
+    public static Builder of(@NonNull String name)
+    {
+        Objects.requireNonNull(name, "Name cannot be null");
+
+        return new Builder(name);
+    }
+
+    /**
+     * Returns the number of calls that may currently run at the same time.
+     *
+     * @return the current limit
+     */
+
+    public int getLimit()
+    {
+        return limit.get();
+    }
+
+    /**
+     * Returns the number of calls running now.
+     *
+     * @return the number of calls in flight
+     */
+
+    public int getInFlight()
+    {
+        return inFlight.get();
+    }
+
+    /**
+     * Returns the number of callers waiting for capacity.
+     *
+     * @return the number of queued callers
+     */
+
+    public int getWaiting()
+    {
+        return waiting.get();
+    }
+
+    /**
+     * Calls the supplier once the bulkhead has capacity for it.
+     *
+     * @param supplier function that supplies a new value and may throw checked exceptions. <b>Not null</b>.
+     *
+     * @return the result of the supplier as from {@link Try#attempt(CheckedSupplier)}, the shared
+     * {@code GENERIC_BULKHEAD_FULL} failure if the call was refused, or a {@code GENERIC_INTERRUPTED_EXCEPTION}
+     * failure if the caller was interrupted while waiting
+     *
+     * @param <T> Type of the supplied value
+     */
+
+    public <T> Result<T> attempt(@NonNull CheckedSupplier<T> supplier)
+    {
+        Objects.requireNonNull(supplier, "Supplier function cannot be null");
+
+        if (!tryEnter())
+        {
+            try
+            {
+                if (!awaitEntry())
+                {
+                    return fullFailure.cast();
+                }
+            }
+            catch (InterruptedException e)
+            {
+                return Try.failureFrom(e);
+            }
+        }
+
+        var startedAt = clock.getAsLong();
+
+        try
+        {
+            return Try.attempt(supplier);
+        }
+        finally
+        {
+            exit(clock.getAsLong() - startedAt);
+        }
+    }
+
+    private boolean tryEnter()
+    {
+        while (true)
+        {
+            var running = inFlight.get();
+
+            if (running >= limit.get())
+            {
+                return false;
+            }
+
+            if (inFlight.compareAndSet(running, running + 1))
+            {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Waits in the queue until there is capacity or the wait times out.
+     *
+     * @return <em>true</em> once entered, <em>false</em> if the queue is full or the wait timed out
+     */
+
+    private boolean awaitEntry() throws InterruptedException
+    {
+        if (maxWaitNanos == 0L || waiting.get() >= maxQueued)
+        {
+            return false;
+        }
+
+        lock.lockInterruptibly();
+
+        try
+        {
+            if (waiting.get() >= maxQueued)
+            {
+                return false;
+            }
+
+            waiting.incrementAndGet();
+
+            try
+            {
+                var remaining = maxWaitNanos;
+
+                // Registered as waiting before checking, so a release after this check is sure to signal
+
+                while (!tryEnter())
+                {
+                    if (remaining <= 0L)
+                    {
+                        return false;
+                    }
+
+                    remaining = released.awaitNanos(remaining);
+                }
+
+                return true;
+            }
+            finally
+            {
+                waiting.decrementAndGet();
+            }
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    private void exit(long latencyNanos)
+    {
+        var running = inFlight.getAndDecrement();
+
+        if (latencyThreshold != null)
+        {
+            adapt(latencyNanos, running);
+        }
+
+        if (waiting.get() > 0)
+        {
+            lock.lock();
+
+            try
+            {
+                released.signalAll();
+            }
+            finally
+            {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Adjusts the limit of an adaptive bulkhead from one call's latency and the calls running alongside it.
+     */
+
+    private void adapt(long latencyNanos, int running)
+    {
+        while (true)
+        {
+            var current = limit.get();
+            int next;
+
+            if (latencyNanos > latencyThresholdNanos)
+            {
+                next = Math.max(minLimit, (int) (current * backoffRatio));
+            }
+            else if (running * 2 >= current)
+            {
+                next = Math.min(maxLimit, current + 1);
+            }
+            else
+            {
+                return;
+            }
+
+            if (next == current || limit.compareAndSet(current, next))
+            {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Builder for {@link Bulkhead}.
+     */
+
+    public static final class Builder
+    {
+        private final String name;
+        private int initialLimit = 10;
+        private int minLimit = 10;
+        private int maxLimit = 10;
+        private int maxQueued = 0;
+        private Duration maxWait = Duration.ZERO;
+        private Duration latencyThreshold;
+        private double backoffRatio = 0.9;
+
+        private Builder(String name)
+        {
+            this.name = name;
+        }
+
+        /**
+         * Sets a fixed limit on concurrent calls.
+         *
+         * @param maxConcurrent the limit. <b>At least 1.</b>
+         *
+         * @return The builder instance.
+         */
+
+        public Builder maxConcurrent(int maxConcurrent)
+        {
+            checkArgument(maxConcurrent >= 1, "Max concurrent must be at least 1 but was %s", maxConcurrent);
+
+            this.initialLimit = maxConcurrent;
+            this.minLimit = maxConcurrent;
+            this.maxLimit = maxConcurrent;
+            this.latencyThreshold = null;
+            return this;
+        }
+
+        /**
+         * Lets the limit on concurrent calls adapt to the observed latency, starting at the minimum.
+         *
+         * @param minLimit the smallest limit. <b>At least 1.</b>
+         * @param maxLimit the largest limit. <b>Not less than the smallest.</b>
+         * @param latencyThreshold latency above which the limit is lowered. <b>Not null, positive.</b>
+         *
+         * @return The builder instance.
+         */
+
+        public Builder adaptiveLimit(int minLimit, int maxLimit, Duration latencyThreshold)
+        {
+            Objects.requireNonNull(latencyThreshold, "Latency threshold cannot be null");
+            checkArgument(minLimit >= 1, "Min limit must be at least 1 but was %s", minLimit);
+            checkArgument(maxLimit >= minLimit, "Max limit %s is less than min limit %s", maxLimit, minLimit);
+            checkArgument(!latencyThreshold.isNegative() && !latencyThreshold.isZero(), "Latency threshold must be positive but was %s", latencyThreshold);
+
+            this.initialLimit = minLimit;
+            this.minLimit = minLimit;
+            this.maxLimit = maxLimit;
+            this.latencyThreshold = latencyThreshold;
+            return this;
+        }
+
+        /**
+         * Sets the factor an adaptive limit is multiplied by when a call is too slow.
+         *
+         * @param backoffRatio the factor. <b>Greater than 0.0, less than 1.0.</b>
+         *
+         * @return The builder instance.
+         */
+
+        public Builder backoffRatio(double backoffRatio)
+        {
+            checkArgument(backoffRatio > 0.0 && backoffRatio < 1.0, "Backoff ratio must be between 0.0 and 1.0 but was %s", backoffRatio);
+
+            this.backoffRatio = backoffRatio;
+            return this;
+        }
+
+        /**
+         * Sets the number of callers that may wait for capacity. A positive number needs a positive {@code maxWait}.
+         *
+         * @param maxQueued the number of waiting callers. <b>Not negative.</b>
+         *
+         * @return The builder instance.
+         */
+
+        public Builder maxQueued(int maxQueued)
+        {
+            checkArgument(maxQueued >= 0, "Max queued cannot be negative but was %s", maxQueued);
+
+            this.maxQueued = maxQueued;
+            return this;
+        }
+
+        /**
+         * Sets how long a queued caller waits for capacity before giving up. A positive wait needs a positive
+         * {@code maxQueued}.
+         *
+         * @param maxWait the longest wait. <b>Not null, not negative.</b>
+         *
+         * @return The builder instance.
+         */
+
+        public Builder maxWait(Duration maxWait)
+        {
+            Objects.requireNonNull(maxWait, "Max wait cannot be null");
+            checkArgument(!maxWait.isNegative(), "Max wait cannot be negative: %s", maxWait);
+
+            this.maxWait = maxWait;
+            return this;
+        }
+
+        /**
+         * Builds the bulkhead.
+         *
+         * @return the new bulkhead
+         *
+         * @throws IllegalArgumentException if only one of {@code maxQueued} and {@code maxWait} is positive
+         */
+
+        public Bulkhead build()
+        {
+            checkArgument((maxQueued > 0) == maxWait.isPositive(),
+                "Max queued and max wait must be set together but were %s and %s", maxQueued, maxWait);
+
+            return new Bulkhead(this, System::nanoTime);
+        }
+    }
+}
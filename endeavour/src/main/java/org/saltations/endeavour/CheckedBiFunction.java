@@ -0,0 +1,28 @@
+package org.saltations.endeavour;
+
+/**
+ * A Java {@code BiFunction} that can throw a checked exception.
+ *
+ * @param <T> Type of the first input value
+ * @param <U> Type of the second input value
+ * @param <R> Type of the output value
+ *
+ * @throws Exception if the function operation fails.
+ */
+
+@FunctionalInterface
+public interface CheckedBiFunction<T, U, R>
+{
+    /**
+     * Applies a function to the input values.
+     *
+     * @param t The first input value.
+     * @param u The second input value.
+     * @return The function result.
+     *
+     * @throws Exception if the function operation fails.
+     */
+
+    R apply(T t, U u) throws Exception;
+
+}
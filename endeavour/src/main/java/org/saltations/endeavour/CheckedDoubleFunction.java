@@ -0,0 +1,25 @@
+package org.saltations.endeavour;
+
+/**
+ * A Java {@code DoubleFunction} that can throw a checked exception.
+ *
+ * @param <R> Type of the output value
+ *
+ * @throws Exception if the function operation fails.
+ */
+
+@FunctionalInterface
+public interface CheckedDoubleFunction<R>
+{
+    /**
+     * Applies a function to the double input value.
+     *
+     * @param value The input value.
+     * @return The function result.
+     *
+     * @throws Exception if the function operation fails.
+     */
+
+    R apply(double value) throws Exception;
+
+}
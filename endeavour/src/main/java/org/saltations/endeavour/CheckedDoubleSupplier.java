@@ -0,0 +1,22 @@
+package org.saltations.endeavour;
+
+/**
+ * A Java {@code DoubleSupplier} that can throw a checked exception.
+ *
+ * @throws Exception if the supply operation fails.
+ */
+
+@FunctionalInterface
+public interface CheckedDoubleSupplier
+{
+    /**
+     * Supplies a double value.
+     *
+     * @return A double value.
+     *
+     * @throws Exception if the supply operation fails.
+     */
+
+    double getAsDouble() throws Exception;
+
+}
@@ -0,0 +1,23 @@
+package org.saltations.endeavour;
+
+/**
+ * A Java {@code DoubleUnaryOperator} that can throw a checked exception.
+ *
+ * @throws Exception if the operation fails.
+ */
+
+@FunctionalInterface
+public interface CheckedDoubleUnaryOperator
+{
+    /**
+     * Applies the operation to the double input value.
+     *
+     * @param operand The input value.
+     * @return The result of the operation.
+     *
+     * @throws Exception if the operation fails.
+     */
+
+    double applyAsDouble(double operand) throws Exception;
+
+}
@@ -0,0 +1,30 @@
+package org.saltations.endeavour;
+
+/**
+ * A Java function of 3 arguments that can throw a checked exception.
+ *
+ * @param <T1> Type of the first input value
+ * @param <T2> Type of the second input value
+ * @param <T3> Type of the third input value
+ * @param <R> Type of the output value
+ *
+ * @throws Exception if the function operation fails.
+ */
+
+@FunctionalInterface
+public interface CheckedFunction3<T1, T2, T3, R>
+{
+    /**
+     * Applies a function to the input values.
+     *
+     * @param t1 The first input value.
+     * @param t2 The second input value.
+     * @param t3 The third input value.
+     * @return The function result.
+     *
+     * @throws Exception if the function operation fails.
+     */
+
+    R apply(T1 t1, T2 t2, T3 t3) throws Exception;
+
+}
@@ -0,0 +1,36 @@
+package org.saltations.endeavour;
+
+/**
+ * A Java function of 6 arguments that can throw a checked exception.
+ *
+ * @param <T1> Type of the first input value
+ * @param <T2> Type of the second input value
+ * @param <T3> Type of the third input value
+ * @param <T4> Type of the fourth input value
+ * @param <T5> Type of the fifth input value
+ * @param <T6> Type of the sixth input value
+ * @param <R> Type of the output value
+ *
+ * @throws Exception if the function operation fails.
+ */
+
+@FunctionalInterface
+public interface CheckedFunction6<T1, T2, T3, T4, T5, T6, R>
+{
+    /**
+     * Applies a function to the input values.
+     *
+     * @param t1 The first input value.
+     * @param t2 The second input value.
+     * @param t3 The third input value.
+     * @param t4 The fourth input value.
+     * @param t5 The fifth input value.
+     * @param t6 The sixth input value.
+     * @return The function result.
+     *
+     * @throws Exception if the function operation fails.
+     */
+
+    R apply(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6) throws Exception;
+
+}
@@ -0,0 +1,25 @@
+package org.saltations.endeavour;
+
+/**
+ * A Java {@code IntFunction} that can throw a checked exception.
+ *
+ * @param <R> Type of the output value
+ *
+ * @throws Exception if the function operation fails.
+ */
+
+@FunctionalInterface
+public interface CheckedIntFunction<R>
+{
+    /**
+     * Applies a function to the int input value.
+     *
+     * @param value The input value.
+     * @return The function result.
+     *
+     * @throws Exception if the function operation fails.
+     */
+
+    R apply(int value) throws Exception;
+
+}
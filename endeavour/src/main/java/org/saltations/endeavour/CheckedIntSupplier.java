@@ -0,0 +1,22 @@
+package org.saltations.endeavour;
+
+/**
+ * A Java {@code IntSupplier} that can throw a checked exception.
+ *
+ * @throws Exception if the supply operation fails.
+ */
+
+@FunctionalInterface
+public interface CheckedIntSupplier
+{
+    /**
+     * Supplies an int value.
+     *
+     * @return An int value.
+     *
+     * @throws Exception if the supply operation fails.
+     */
+
+    int getAsInt() throws Exception;
+
+}
@@ -0,0 +1,23 @@
+package org.saltations.endeavour;
+
+/**
+ * A Java {@code IntUnaryOperator} that can throw a checked exception.
+ *
+ * @throws Exception if the operation fails.
+ */
+
+@FunctionalInterface
+public interface CheckedIntUnaryOperator
+{
+    /**
+     * Applies the operation to the int input value.
+     *
+     * @param operand The input value.
+     * @return The result of the operation.
+     *
+     * @throws Exception if the operation fails.
+     */
+
+    int applyAsInt(int operand) throws Exception;
+
+}
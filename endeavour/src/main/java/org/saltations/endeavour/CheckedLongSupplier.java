@@ -0,0 +1,22 @@
+package org.saltations.endeavour;
+
+/**
+ * A Java {@code LongSupplier} that can throw a checked exception.
+ *
+ * @throws Exception if the supply operation fails.
+ */
+
+@FunctionalInterface
+public interface CheckedLongSupplier
+{
+    /**
+     * Supplies a long value.
+     *
+     * @return A long value.
+     *
+     * @throws Exception if the supply operation fails.
+     */
+
+    long getAsLong() throws Exception;
+
+}
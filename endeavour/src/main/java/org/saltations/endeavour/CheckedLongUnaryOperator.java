@@ -0,0 +1,23 @@
+package org.saltations.endeavour;
+
+/**
+ * A Java {@code LongUnaryOperator} that can throw a checked exception.
+ *
+ * @throws Exception if the operation fails.
+ */
+
+@FunctionalInterface
+public interface CheckedLongUnaryOperator
+{
+    /**
+     * Applies the operation to the long input value.
+     *
+     * @param operand The input value.
+     * @return The result of the operation.
+     *
+     * @throws Exception if the operation fails.
+     */
+
+    long applyAsLong(long operand) throws Exception;
+
+}
@@ -0,0 +1,25 @@
+package org.saltations.endeavour;
+
+/**
+ * A Java {@code ToDoubleFunction} that can throw a checked exception.
+ *
+ * @param <T> Type of the input value
+ *
+ * @throws Exception if the function operation fails.
+ */
+
+@FunctionalInterface
+public interface CheckedToDoubleFunction<T>
+{
+    /**
+     * Applies a function to the input value, producing a double.
+     *
+     * @param t The input value.
+     * @return The double function result.
+     *
+     * @throws Exception if the function operation fails.
+     */
+
+    double applyAsDouble(T t) throws Exception;
+
+}
@@ -0,0 +1,25 @@
+package org.saltations.endeavour;
+
+/**
+ * A Java {@code ToIntFunction} that can throw a checked exception.
+ *
+ * @param <T> Type of the input value
+ *
+ * @throws Exception if the function operation fails.
+ */
+
+@FunctionalInterface
+public interface CheckedToIntFunction<T>
+{
+    /**
+     * Applies a function to the input value, producing a int.
+     *
+     * @param t The input value.
+     * @return The int function result.
+     *
+     * @throws Exception if the function operation fails.
+     */
+
+    int applyAsInt(T t) throws Exception;
+
+}
@@ -0,0 +1,25 @@
+package org.saltations.endeavour;
+
+/**
+ * A Java {@code ToLongFunction} that can throw a checked exception.
+ *
+ * @param <T> Type of the input value
+ *
+ * @throws Exception if the function operation fails.
+ */
+
+@FunctionalInterface
+public interface CheckedToLongFunction<T>
+{
+    /**
+     * Applies a function to the input value, producing a long.
+     *
+     * @param t The input value.
+     * @return The long function result.
+     *
+     * @throws Exception if the function operation fails.
+     */
+
+    long applyAsLong(T t) throws Exception;
+
+}
@@ -0,0 +1,441 @@
+package org.saltations.endeavour;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Stops calling a dependency that keeps failing and gives it time to recover.
+ * <p>
+ * While {@link State#CLOSED} every call goes ahead and its outcome is counted over a sliding {@code window}. Once at
+ * least {@code minimumCalls} have been made in the window and the share of failures reaches
+ * {@code failureRateThreshold}, the breaker opens. While {@link State#OPEN} calls are not made at all: they return at
+ * once with the same preallocated {@code GENERIC_CIRCUIT_OPEN} failure, so failing fast allocates nothing. After
+ * {@code openDuration} the breaker becomes {@link State#HALF_OPEN} and lets {@code halfOpenCalls} trial calls through.
+ * If they all succeed it closes again with a fresh window; the first trial failure opens it again.
+ * <p>
+ * State is kept in atomics and counts in lock-free striped counters, so a breaker can be shared by any number of
+ * threads. Listeners are told about every state change on the thread that made it.
+ *
+ * <p>
+ * <b>Example:</b>
+ * <pre>{@code
+ *   static final CircuitBreaker PAYMENTS = CircuitBreaker.of("payments")
+ *                                                        .failureRateThreshold(0.5)
+ *                                                        .openDuration(Duration.ofSeconds(20))
+ *                                                        .listener((breaker, from, to) -> log.warn("{} {} -> {}", breaker.getName(), from, to))
+ *                                                        .build();
+ *
+ *   var receipt = PAYMENTS.attempt(() -> payments.charge(order));
+ * }
+ * </pre>
+ */
+
+@Slf4j
+@Getter
+public final class CircuitBreaker
+{
+    private static final int CALLS = 0;
+    private static final int FAILURES = 1;
+
+    /**
+     * The states of a circuit breaker.
+     */
+
+    public enum State
+    {
+        /** Calls go ahead and their outcomes are counted. */
+        CLOSED,
+
+        /** Calls are refused without being made. */
+        OPEN,
+
+        /** A limited number of trial calls decide whether to close or open again. */
+        HALF_OPEN
+    }
+
+    /**
+     * Told about every change of state.
+     */
+
+    @FunctionalInterface
+    public interface Listener
+    {
+        void onStateChange(CircuitBreaker breaker, State from, State to);
+    }
+
+    private final String name;
+    private final double failureRateThreshold;
+    private final int minimumCalls;
+    private final Duration window;
+    private final Duration openDuration;
+    private final int halfOpenCalls;
+
+    @Getter(AccessLevel.NONE)
+    private final Predicate<Failure<?>> counted;
+
+    @Getter(AccessLevel.NONE)
+    private final List<Listener> listeners;
+
+    @Getter(AccessLevel.NONE)
+    private final LongSupplier clock;
+
+    @Getter(AccessLevel.NONE)
+    private final long openNanos;
+
+    /**
+     * The failure returned for every refused call. Shared by every caller, so its description is frozen.
+     */
+
+    @Getter(AccessLevel.NONE)
+    private final Failure<?> openFailure;
+
+    @Getter(AccessLevel.NONE)
+    private final AtomicReference<Phase> phase;
+
+    CircuitBreaker(Builder builder, LongSupplier clock)
+    {
+        this.name = builder.name;
+        this.failureRateThreshold = builder.failureRateThreshold;
+        this.minimumCalls = builder.minimumCalls;
+        this.window = builder.window;
+        this.openDuration = builder.openDuration;
+        this.halfOpenCalls = builder.halfOpenCalls;
+        this.counted = builder.counted;
+        this.listeners = List.copyOf(builder.listeners);
+        this.clock = clock;
+        this.openNanos = openDuration.toNanos();
+        this.openFailure = new Failure<>(FailureDescription.of()
+            .type(FailureDescription.GenericFailureType.GENERIC_CIRCUIT_OPEN)
+            .args(name)
+            .build()
+            .freeze());
+        this.phase = new AtomicReference<>(closed());
+    }
+
+    /**
+     * Starts a new circuit breaker. Without further settings it opens once half of at least 20 calls in the last
+     * 60 seconds have failed, stays open for 30 seconds and then needs 3 successful trial calls to close.
+     *
+     * @param name name of the breaker, used in the failure returned while open. <b>Not null.</b>
+     *
+     * @return A new Builder instance
+     */
+
+    public static Builder of(@NonNull String name)
+    {
+        Objects.requireNonNull(name, "Name cannot be null");
+
+        return new Builder(name);
+    }
+
+    /**
+     * Returns the current state. An open breaker whose {@code openDuration} has passed reports {@code OPEN} until
+     * the next call moves it to {@code HALF_OPEN}.
+     *
+     * @return the current state
+     */
+
+    public State getState()
+    {
+        return phase.get().state;
+    }
+
+    /**
+     * Calls the supplier through the breaker.
+     *
+     * @param supplier function that supplies a new value and may throw checked exceptions. <b>Not null</b>.
+     *
+     * @return the result of the supplier as from {@link Try#attempt(CheckedSupplier)}, or the shared
+     * {@code GENERIC_CIRCUIT_OPEN} failure if the call was refused. An {@code Error} thrown by the supplier is counted
+     * as a failed call and rethrown.
+     *
+     * @param <T> Type of the supplied value
+     */
+
+    public <T> Result<T> attempt(@NonNull CheckedSupplier<T> supplier)
+    {
+        Objects.requireNonNull(supplier, "Supplier function cannot be null");
+
+        var current = phase.get();
+
+        // A lost transition returns the winner's phase, which may already be a fresh OPEN after a failed trial
+
+        while (current.state == State.OPEN)
+        {
+            if (clock.getAsLong() - current.enteredAtNanos < openNanos)
+            {
+                return openFailure.cast();
+            }
+
+            current = transition(current, halfOpen());
+        }
+
+        if (current.state == State.HALF_OPEN && current.trialPermits.getAndDecrement() <= 0)
+        {
+            return openFailure.cast();
+        }
+
+        Result<T> outcome;
+
+        try
+        {
+            outcome = Try.attempt(supplier);
+        }
+        catch (Throwable e)
+        {
+            // An Error escapes Try.attempt; count it as a failed call so that a trial does not keep its permit
+            record(current, true);
+            throw e;
+        }
+
+        record(current, outcome instanceof Failure<T> failure && counted.test(failure));
+
+        return outcome;
+    }
+
+    /**
+     * Closes the breaker and forgets the outcomes counted so far.
+     */
+
+    public void reset()
+    {
+        transition(phase.get(), closed());
+    }
+
+    private void record(Phase during, boolean failed)
+    {
+        switch (during.state)
+        {
+            case CLOSED -> {
+                during.counts.increment(CALLS);
+
+                if (failed)
+                {
+                    during.counts.increment(FAILURES);
+
+                    var sums = during.counts.sums();
+
+                    if (sums[CALLS] >= minimumCalls && sums[FAILURES] >= failureRateThreshold * sums[CALLS])
+                    {
+                        transition(during, open());
+                    }
+                }
+            }
+            case HALF_OPEN -> {
+                if (failed)
+                {
+                    transition(during, open());
+                }
+                else if (during.trialSuccesses.incrementAndGet() >= halfOpenCalls)
+                {
+                    transition(during, closed());
+                }
+            }
+            case OPEN -> {
+                // Only reached if the call started before a reset reopened the breaker; nothing to count
+            }
+        }
+    }
+
+    /**
+     * Moves from the expected phase to the next one. If another thread got there first, returns its phase instead.
+     */
+
+    private Phase transition(Phase expected, Phase next)
+    {
+        if (!phase.compareAndSet(expected, next))
+        {
+            return phase.get();
+        }
+
+        if (expected.state != next.state)
+        {
+            for (var listener : listeners)
+            {
+                try
+                {
+                    listener.onStateChange(this, expected.state, next.state);
+                }
+                catch (RuntimeException e)
+                {
+                    log.error("Circuit breaker [{}] listener failed on change from {} to {}", name, expected.state, next.state, e);
+                }
+            }
+        }
+
+        return next;
+    }
+
+    private Phase closed()
+    {
+        return new Phase(State.CLOSED, clock.getAsLong(), new SlidingWindow(2, window, clock), null, null);
+    }
+
+    private Phase open()
+    {
+        return new Phase(State.OPEN, clock.getAsLong(), null, null, null);
+    }
+
+    private Phase halfOpen()
+    {
+        return new Phase(State.HALF_OPEN, clock.getAsLong(), null, new AtomicInteger(halfOpenCalls), new AtomicInteger());
+    }
+
+    /**
+     * One stay in a state, with the counts that belong to it.
+     */
+
+    private record Phase(State state, long enteredAtNanos, SlidingWindow counts, AtomicInteger trialPermits, AtomicInteger trialSuccesses)
+    {
+    }
+
+    /**
+     * Builder for {@link CircuitBreaker}.
+     */
+
+    public static final class Builder
+    {
+        private final String name;
+        private double failureRateThreshold = 0.5;
+        private int minimumCalls = 20;
+        private Duration window = Duration.ofSeconds(60);
+        private Duration openDuration = Duration.ofSeconds(30);
+        private int halfOpenCalls = 3;
+        private Predicate<Failure<?>> counted = failure -> true;
+        private final List<Listener> listeners = new ArrayList<>();
+
+        private Builder(String name)
+        {
+            this.name = name;
+        }
+
+        /**
+         * Sets the share of failed calls in the window that opens the breaker.
+         *
+         * @param failureRateThreshold the share of failures. <b>Greater than 0.0, at most 1.0.</b>
+         *
+         * @return The builder instance.
+         */
+
+        public Builder failureRateThreshold(double failureRateThreshold)
+        {
+            checkArgument(failureRateThreshold > 0.0 && failureRateThreshold <= 1.0, "Failure rate threshold must be greater than 0.0 and at most 1.0 but was %s", failureRateThreshold);
+
+            this.failureRateThreshold = failureRateThreshold;
+            return this;
+        }
+
+        /**
+         * Sets the number of calls in the window below which the breaker never opens.
+         *
+         * @param minimumCalls the number of calls. <b>At least 1.</b>
+         *
+         * @return The builder instance.
+         */
+
+        public Builder minimumCalls(int minimumCalls)
+        {
+            checkArgument(minimumCalls >= 1, "Minimum calls must be at least 1 but was %s", minimumCalls);
+
+            this.minimumCalls = minimumCalls;
+            return this;
+        }
+
+        /**
+         * Sets how far back calls are counted while closed.
+         *
+         * @param window the length of the sliding window. <b>Not null, positive.</b>
+         *
+         * @return The builder instance.
+         */
+
+        public Builder window(Duration window)
+        {
+            Objects.requireNonNull(window, "Window cannot be null");
+            checkArgument(!window.isNegative() && !window.isZero(), "Window must be positive but was %s", window);
+
+            this.window = window;
+            return this;
+        }
+
+        /**
+         * Sets how long the breaker stays open before letting trial calls through.
+         *
+         * @param openDuration the time to stay open. <b>Not null, not negative.</b>
+         *
+         * @return The builder instance.
+         */
+
+        public Builder openDuration(Duration openDuration)
+        {
+            Objects.requireNonNull(openDuration, "Open duration cannot be null");
+            checkArgument(!openDuration.isNegative(), "Open duration cannot be negative: %s", openDuration);
+
+            this.openDuration = openDuration;
+            return this;
+        }
+
+        /**
+         * Sets the number of trial calls allowed while half open, all of which must succeed to close the breaker.
+         *
+         * @param halfOpenCalls the number of trial calls. <b>At least 1.</b>
+         *
+         * @return The builder instance.
+         */
+
+        public Builder halfOpenCalls(int halfOpenCalls)
+        {
+            checkArgument(halfOpenCalls >= 1, "Half open calls must be at least 1 but was %s", halfOpenCalls);
+
+            this.halfOpenCalls = halfOpenCalls;
+            return this;
+        }
+
+        /**
+         * Counts only failures that match the predicate against the breaker. Others are treated like successes, for
+         * example failures that are the caller's fault rather than the dependency's.
+         *
+         * @param counted the predicate. <b>Not null.</b>
+         *
+         * @return The builder instance.
+         */
+
+        public Builder countFailuresIf(Predicate<Failure<?>> counted)
+        {
+            this.counted = Objects.requireNonNull(counted, "Predicate cannot be null");
+            return this;
+        }
+
+        /**
+         * Adds a listener for state changes.
+         *
+         * @param listener the listener. <b>Not null.</b>
+         *
+         * @return The builder instance.
+         */
+
+        public Builder listener(Listener listener)
+        {
+            listeners.add(Objects.requireNonNull(listener, "Listener cannot be null"));
+            return this;
+        }
+
+        public CircuitBreaker build()
+        {
+            return new CircuitBreaker(this, System::nanoTime);
+        }
+    }
+}
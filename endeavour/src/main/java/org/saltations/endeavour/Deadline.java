@@ -0,0 +1,166 @@
+package org.saltations.endeavour;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The point in time by which the current {@link Try#attemptWithin(Duration, CheckedSupplier)} must complete.
+ * <p>
+ * While a bounded attempt runs, its deadline is visible to the supplier through {@link #current()}. A nested
+ * {@code attemptWithin} never extends it: the inner attempt gets the smaller of its own timeout and the time the
+ * outer attempt has left. Suppliers can also pass {@link #remaining()} on to clients that take their own timeouts.
+ *
+ * <p>
+ * <b>Example:</b>
+ * <pre>{@code
+ *   Try.attemptWithin(Duration.ofMillis(250), () -> {
+ *       var budget = Deadline.current().map(Deadline::remaining).orElse(DEFAULT_TIMEOUT);
+ *       return httpClient.send(request.timeout(budget), BodyHandlers.ofString());
+ *   });
+ * }
+ * </pre>
+ */
+
+public final class Deadline
+{
+    /**
+     * Upper bound on a timeout, far enough below overflow that {@code System.nanoTime()} differences stay meaningful.
+     */
+
+    private static final long MAX_TIMEOUT_NANOS = Long.MAX_VALUE / 4;
+
+    private static final ThreadLocal<Deadline> CURRENT = new ThreadLocal<>();
+
+    private final long startedAtNanos;
+    private final long expiresAtNanos;
+
+    private Deadline(long startedAtNanos, long expiresAtNanos)
+    {
+        this.startedAtNanos = startedAtNanos;
+        this.expiresAtNanos = expiresAtNanos;
+    }
+
+    /**
+     * Returns the deadline of the bounded attempt the calling thread is running in, if any.
+     *
+     * @return the current deadline, or an empty {@code Optional} outside of {@code Try.attemptWithin}
+     */
+
+    public static Optional<Deadline> current()
+    {
+        return Optional.ofNullable(CURRENT.get());
+    }
+
+    /**
+     * Returns the time left before this deadline passes.
+     *
+     * @return the time left; {@link Duration#ZERO} once the deadline has passed
+     */
+
+    public Duration remaining()
+    {
+        return Duration.ofNanos(Math.max(0L, remainingNanos()));
+    }
+
+    /**
+     * Returns <em>true</em> if this deadline has passed.
+     *
+     * @return <em>true</em> if the deadline has passed, <em>false</em> otherwise.
+     */
+
+    public boolean isExpired()
+    {
+        return remainingNanos() <= 0L;
+    }
+
+    @Override
+    public String toString()
+    {
+        return "Deadline[remaining=" + remaining() + "]";
+    }
+
+    /**
+     * Returns a deadline the given time from now.
+     */
+
+    static Deadline after(Duration timeout)
+    {
+        Objects.requireNonNull(timeout, "Timeout cannot be null");
+
+        if (timeout.isNegative())
+        {
+            throw new IllegalArgumentException("Timeout cannot be negative: " + timeout);
+        }
+
+        var now = System.nanoTime();
+
+        return new Deadline(now, now + toNanos(timeout));
+    }
+
+    /**
+     * Returns a deadline the given time from now, but never later than the calling thread's current deadline.
+     */
+
+    static Deadline within(Duration timeout)
+    {
+        var requested = after(timeout);
+        var inherited = CURRENT.get();
+
+        return inherited != null && inherited.expiresAtNanos - requested.expiresAtNanos < 0
+            ? new Deadline(requested.startedAtNanos, inherited.expiresAtNanos)
+            : requested;
+    }
+
+    /**
+     * Runs the supplier with this deadline as the current one.
+     */
+
+    <T> T run(CheckedSupplier<T> supplier) throws Exception
+    {
+        var previous = CURRENT.get();
+        CURRENT.set(this);
+
+        try
+        {
+            return supplier.get();
+        }
+        finally
+        {
+            if (previous == null)
+            {
+                CURRENT.remove();
+            }
+            else
+            {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    long remainingNanos()
+    {
+        return expiresAtNanos - System.nanoTime();
+    }
+
+    /**
+     * Creates the failure returned when this deadline passes, recording the time budget and the time actually spent.
+     */
+
+    <T> Failure<T> timedOut()
+    {
+        var budgetMillis = TimeUnit.NANOSECONDS.toMillis(expiresAtNanos - startedAtNanos);
+        var elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAtNanos);
+
+        return new Failure<>(FailureDescription.of()
+            .type(FailureDescription.GenericFailureType.GENERIC_TIMEOUT)
+            .args(budgetMillis, elapsedMillis)
+            .build());
+    }
+
+    private static long toNanos(Duration timeout)
+    {
+        return timeout.compareTo(Duration.ofNanos(MAX_TIMEOUT_NANOS)) > 0 ? MAX_TIMEOUT_NANOS : timeout.toNanos();
+    }
+}
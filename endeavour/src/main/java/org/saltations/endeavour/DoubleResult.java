@@ -0,0 +1,370 @@
+package org.saltations.endeavour;
+
+import java.util.Objects;
+import java.util.OptionalDouble;
+
+import lombok.NonNull;
+
+/**
+ * The result of an operation that produces a primitive {@code double}.
+ * <p>
+ * A primitive specialization of {@link Result} for numeric chains: a success holds its value unboxed, and
+ * {@code map}, {@code flatMap} and {@code fold} over {@code double} values never box it. A failure holds the
+ * same {@link Failure} that a {@code Result<Double>} would, so failures pass between the two without being rebuilt.
+ * <p>
+ * Use {@link #boxed()} and {@link #mapToObj(CheckedDoubleFunction)} to leave the primitive chain, and
+ * {@link Result#mapToDouble(CheckedToDoubleFunction)} or {@link #from(Result)} to enter it.
+ *
+ * <p>
+ * <b>Example:</b>
+ * <pre>{@code
+ *   var total = Try.attemptDouble(() -> pricing.basePrice(sku))
+ *                  .map(price -> price * quantity)
+ *                  .fold(price -> "Total " + price, failure -> failure.getDetail());
+ * }
+ * </pre>
+ *
+ * @see Try#attemptDouble(CheckedDoubleSupplier)
+ */
+
+public final class DoubleResult
+{
+    private final double value;
+    private final Failure<Double> failure;
+
+    private DoubleResult(double value, Failure<Double> failure)
+    {
+        this.value = value;
+        this.failure = failure;
+    }
+
+    /**
+     * Construct a successful result with the given value.
+     *
+     * @param value the value payload
+     *
+     * @return a successful {@code DoubleResult}
+     */
+
+    public static DoubleResult success(double value)
+    {
+        return new DoubleResult(value, null);
+    }
+
+    /**
+     * Construct a failed result from an existing failure.
+     * <p>
+     * The failure is kept as is, so it can be handed back to a {@code Result} chain without being rebuilt.
+     *
+     * @param failure the failure. <b>Not null.</b>
+     *
+     * @return a failed {@code DoubleResult}
+     */
+
+    public static DoubleResult failure(@NonNull Failure<?> failure)
+    {
+        Objects.requireNonNull(failure, "Failure cannot be null");
+
+        return new DoubleResult(0.0d, failure.cast());
+    }
+
+    /**
+     * Converts a boxed result to its primitive form.
+     * <p>
+     * A {@code QualSuccess} has no value to unbox and becomes a generic failure.
+     *
+     * @param result the boxed result. <b>Not null.</b>
+     *
+     * @return the primitive form of the result
+     */
+
+    public static DoubleResult from(@NonNull Result<Double> result)
+    {
+        Objects.requireNonNull(result, "Result cannot be null");
+
+        return switch (result)
+        {
+            case Failure<Double> failure -> new DoubleResult(0.0d, failure);
+            case QuantSuccess<Double> success -> new DoubleResult(success.get(), null);
+            case QualSuccess<Double> success -> new DoubleResult(0.0d, new Failure<>(FailureDescription.of()
+                .type(FailureDescription.GenericFailureType.GENERIC)
+                .template("Result has no double value to unbox")
+                .build()));
+        };
+    }
+
+    /**
+     * Returns <em>true</em> if this result is a success.
+     *
+     * @return <em>true</em> if this result holds a value, <em>false</em> if it is a failure.
+     */
+
+    public boolean isSuccess()
+    {
+        return failure == null;
+    }
+
+    /**
+     * Returns <em>true</em> if this result is a failure.
+     *
+     * @return <em>true</em> if this result is a failure, <em>false</em> if it holds a value.
+     */
+
+    public boolean isFailure()
+    {
+        return failure != null;
+    }
+
+    /**
+     * Returns the value of a successful result.
+     *
+     * @return the value
+     *
+     * @throws IllegalStateException if called on a failure
+     */
+
+    public double getAsDouble()
+    {
+        if (failure != null)
+        {
+            throw new IllegalStateException("Cannot get value from a failure: " + failure.getTitle() + " - " + failure.getDetail());
+        }
+
+        return value;
+    }
+
+    /**
+     * Returns the value of a successful result, or the given value if this is a failure.
+     *
+     * @param other the value to return if this is a failure
+     *
+     * @return the value if success, {@code other} if failure
+     */
+
+    public double getOrElse(double other)
+    {
+        return failure == null ? value : other;
+    }
+
+    /**
+     * Returns the failure held by a failed result.
+     *
+     * @return the failure
+     *
+     * @throws IllegalStateException if called on a success
+     */
+
+    public Failure<Double> getFailure()
+    {
+        if (failure == null)
+        {
+            throw new IllegalStateException("Cannot get failure from a success: " + value);
+        }
+
+        return failure;
+    }
+
+    /**
+     * Returns an {@code OptionalDouble} containing the value (if any).
+     *
+     * @return {@code OptionalDouble} with the value if success, otherwise an empty {@code OptionalDouble}.
+     */
+
+    public OptionalDouble opt()
+    {
+        return failure == null ? OptionalDouble.of(value) : OptionalDouble.empty();
+    }
+
+    /**
+     * Maps the value of a successful result. A failure is returned unchanged.
+     *
+     * @param mapping a mapping function from {@code double} to {@code double}. <b>Not null.</b>
+     *
+     * @return mapped result
+     *
+     * @throws Exception if the mapping function throws a checked exception
+     */
+
+    public DoubleResult map(@NonNull CheckedDoubleUnaryOperator mapping) throws Exception
+    {
+        Objects.requireNonNull(mapping, "Mapping function cannot be null");
+
+        return failure == null ? new DoubleResult(mapping.applyAsDouble(value), null) : this;
+    }
+
+    /**
+     * Maps the value of a successful result to an object, leaving the primitive chain.
+     * <p>
+     * If the mapping function returns a null the result will be a {@code QualSuccess}. A failure is returned as
+     * a failure of the new payload type.
+     *
+     * @param mapping a mapping function from {@code double} to {@code U}. <b>Not null.</b>
+     *
+     * @return mapped result
+     *
+     * @throws Exception if the mapping function throws a checked exception
+     *
+     * @param <U> type of the new payload
+     */
+
+    public <U> Result<U> mapToObj(@NonNull CheckedDoubleFunction<U> mapping) throws Exception
+    {
+        Objects.requireNonNull(mapping, "Mapping function cannot be null");
+
+        if (failure != null)
+        {
+            return failure.cast();
+        }
+
+        var newValue = mapping.apply(value);
+        return Objects.isNull(newValue) ? QualSuccess.instance() : QuantSuccess.of(newValue);
+    }
+
+    /**
+     * Maps the value of a successful result to a new {@code DoubleResult}. A failure is returned unchanged.
+     * <p>
+     * Exceptions thrown by the mapping function are caught and converted to a {@code Failure}.
+     *
+     * @param mapping a mapping function from {@code double} to {@code DoubleResult}. <b>Not null.</b>
+     *
+     * @return mapped result
+     */
+
+    public DoubleResult flatMap(@NonNull CheckedDoubleFunction<DoubleResult> mapping)
+    {
+        Objects.requireNonNull(mapping, "Mapping function cannot be null");
+
+        if (failure != null)
+        {
+            return this;
+        }
+
+        try
+        {
+            return Objects.requireNonNull(mapping.apply(value), "Mapping function must not return null");
+        }
+        catch (Exception ex)
+        {
+            return new DoubleResult(0.0d, new Failure<>(FailureDescription.of()
+                .type(FailureDescription.GenericFailureType.GENERIC_EXCEPTION)
+                .cause(ex)
+                .build()));
+        }
+    }
+
+    /**
+     * Reduces this result to a single value by applying {@code onSuccess} to the value of a success or
+     * {@code onFailure} to the failure.
+     *
+     * @param onSuccess function to apply if this is a success. <b>Not null.</b>
+     * @param onFailure function to apply if this is a failure. <b>Not null.</b>
+     *
+     * @return the result of the applied function
+     *
+     * @throws Exception if the applied function throws a checked exception
+     *
+     * @param <V> the type of the reduced value
+     */
+
+    public <V> V fold(@NonNull CheckedDoubleFunction<V> onSuccess, @NonNull CheckedFunction<Failure<Double>, V> onFailure) throws Exception
+    {
+        Objects.requireNonNull(onSuccess, "Success function cannot be null");
+        Objects.requireNonNull(onFailure, "Failure function cannot be null");
+
+        return failure == null ? onSuccess.apply(value) : onFailure.apply(failure);
+    }
+
+    /**
+     * Returns this result if it is a success, otherwise the alternate result.
+     *
+     * @param alternateResult the result to return if this is a failure. <b>Not null.</b>
+     *
+     * @return this result if success, the alternate result if failure
+     */
+
+    public DoubleResult orElse(@NonNull DoubleResult alternateResult)
+    {
+        Objects.requireNonNull(alternateResult, "Alternate result cannot be null");
+
+        return failure == null ? this : alternateResult;
+    }
+
+    /**
+     * Returns this result if it is a success, otherwise the result of the supplier.
+     * <p>
+     * Exceptions thrown by the supplier are caught and converted to a {@code Failure} preceded by this failure.
+     *
+     * @param supplier function that supplies a new value. <b>Not null.</b>
+     *
+     * @return this result if success, the supplied value if failure
+     */
+
+    public DoubleResult orElseGet(@NonNull CheckedDoubleSupplier supplier)
+    {
+        Objects.requireNonNull(supplier, "CheckedSupplier cannot be null");
+
+        if (failure == null)
+        {
+            return this;
+        }
+
+        try
+        {
+            return new DoubleResult(supplier.getAsDouble(), null);
+        }
+        catch (InterruptedException ex)
+        {
+            // restore the interrupted flag
+            Thread.currentThread().interrupt();
+            return new DoubleResult(0.0d, new Failure<>(FailureDescription.of()
+                .type(FailureDescription.GenericFailureType.GENERIC_INTERRUPTED_EXCEPTION)
+                .cause(ex)
+                .precedingFailure(failure.description())
+                .build()));
+        }
+        catch (Exception ex)
+        {
+            return new DoubleResult(0.0d, new Failure<>(FailureDescription.of()
+                .type(FailureDescription.GenericFailureType.GENERIC_EXCEPTION)
+                .cause(ex)
+                .precedingFailure(failure.description())
+                .build()));
+        }
+    }
+
+    /**
+     * Returns the boxed equivalent of this result.
+     *
+     * @return a {@code QuantSuccess} holding the boxed value if success, otherwise the held failure
+     */
+
+    public Result<Double> boxed()
+    {
+        return failure == null ? QuantSuccess.of(value) : failure;
+    }
+
+    @Override
+    public boolean equals(Object other)
+    {
+        if (this == other)
+        {
+            return true;
+        }
+
+        return other instanceof DoubleResult that
+            && Double.compare(value, that.value) == 0
+            && Objects.equals(failure, that.failure);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return failure == null ? Double.hashCode(value) : failure.hashCode();
+    }
+
+    @Override
+    public String toString()
+    {
+        return failure == null ? "Success[" + value + "]" : failure.toString();
+    }
+}
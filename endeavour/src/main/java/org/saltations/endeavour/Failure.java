@@ -5,6 +5,10 @@ import java.util.Objects;
 
 /**
  * Represents a failed result.
+ * <p>
+ * The payload type of a failure is a phantom type: nothing of type {@code T} is ever held. Operations that only
+ * change that type, such as {@code map} and {@code flatMap}, therefore pass this same instance along instead of
+ * allocating a new failure at every step of a chain.
  *
  * @param <T> The class of the unrealized Success payload value.
  */
@@ -31,6 +35,22 @@ public record Failure<T>(FailureDescription description) implements Result<T>
         return description.getCause();
     }
 
+    /**
+     * Returns this failure viewed as a failure of another payload type.
+     * <p>
+     * No payload is ever present in a failure so the conversion is always safe and no new instance is created.
+     *
+     * @param <U> the new payload type
+     *
+     * @return this failure
+     */
+
+    @SuppressWarnings("unchecked")
+    public <U> Failure<U> cast()
+    {
+        return (Failure<U>) this;
+    }
+
     @Override
     public boolean hasPayload()
     {
@@ -52,13 +72,13 @@ public record Failure<T>(FailureDescription description) implements Result<T>
     @Override
     public <U> Result<U> map(CheckedFunction<T, U> mapping) throws Exception
     {
-        return new Failure<U>(description);
+        return cast();
     }
 
     @Override
     public <U> Result<U> flatMap(CheckedFunction<T, Result<U>> mapping)
     {
-        return new Failure<U>(description);
+        return cast();
     }
 
     @Override
@@ -1,19 +1,19 @@
 package org.saltations.endeavour;
 
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NonNull;
 import lombok.Setter;
+import lombok.ToString;
 import lombok.extern.slf4j.Slf4j;
-import org.slf4j.helpers.MessageFormatter;
 
 import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 import static java.util.Objects.requireNonNull;
 
-import java.util.ArrayList;
-import java.util.Arrays;
 
 /**
  * A class that describes a failure with details about what went wrong.
@@ -36,6 +36,15 @@ import java.util.Arrays;
  *     .type(FailureType.GENERIC)
  *     .build();
  * }</pre>
+ * <p>
+ * For failures whose text is rarely read, the template expansion can be deferred until the detail is first asked for:
+ * <pre>{@code
+ * var recoverable = FailureDescription.of()
+ *     .template("Lookup of {} failed")
+ *     .args(key)
+ *     .deferDetail()
+ *     .build();
+ * }</pre>
  */
 
 @Slf4j
@@ -46,6 +55,7 @@ public class FailureDescription
 {
     static final String FAILURE_FROM_EXCEPTION = "Failure from exception";
     static final String MEANINGLESS_FAILURE_ANALYSIS = "This failure was created with no meaningful information.";
+    static final String NOT_SUPPLIED = "NotSupplied";
 
     /**
      * The type or category of the failure.
@@ -90,6 +100,43 @@ public class FailureDescription
      */
     private final FailureDescription precedingFailure;
 
+    /**
+     * Template held back by a deferred build. Expanded into {@link #detail} on the first read of the detail.
+     */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private String deferredTemplate;
+
+    /**
+     * Pre-split form of {@link #deferredTemplate} when it came from the failure type, otherwise {@code null}.
+     */
+    @Getter(AccessLevel.PACKAGE)
+    @Setter(AccessLevel.NONE)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private ParsedTemplate deferredParsedTemplate;
+
+    /**
+     * Arguments held back by a deferred build. Used with {@link #deferredTemplate}.
+     */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private Object[] deferredArgs;
+
+    /**
+     * Set on descriptions that are shared between callers, such as the failures returned for refused calls, so that
+     * one caller cannot change what the others see.
+     */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private boolean frozen;
+
     /**
      * Creates a new FailureAnalysis with the specified parameters.
      *
@@ -107,6 +154,109 @@ public class FailureDescription
         this.precedingFailure = precedingFailure;
     }
 
+    private FailureDescription(FailureType type, String title, String deferredTemplate, ParsedTemplate deferredParsedTemplate, Object[] deferredArgs, Exception cause, FailureDescription precedingFailure) {
+        this(type, title, null, cause, precedingFailure);
+        this.deferredTemplate = deferredTemplate;
+        this.deferredParsedTemplate = deferredParsedTemplate;
+        this.deferredArgs = deferredArgs;
+    }
+
+    /**
+     * Returns the detail of the failure.
+     * <p>
+     * If the description was built with {@link Builder#deferDetail()} the template is expanded on the first call
+     * and the expanded text is kept for later calls.
+     *
+     * @return the detail of the failure
+     */
+
+    public String getDetail()
+    {
+        var expanded = detail;
+
+        if (isNull(expanded) && nonNull(deferredTemplate))
+        {
+            expanded = Builder.expandAsNecessary(deferredTemplate, deferredParsedTemplate, deferredArgs);
+
+            // Unsynchronized on purpose: racing readers expand the same text, and a String is safe to publish racily
+
+            detail = expanded;
+        }
+
+        return expanded;
+    }
+
+    /**
+     * Sets the detail of the failure, replacing any detail that was still waiting to be expanded.
+     *
+     * @param detail the detail of the failure
+     *
+     * @throws IllegalStateException if the description is shared and cannot be changed
+     */
+
+    public void setDetail(String detail)
+    {
+        checkNotFrozen();
+
+        this.detail = detail;
+        this.deferredTemplate = null;
+        this.deferredParsedTemplate = null;
+        this.deferredArgs = null;
+    }
+
+    /**
+     * Sets the title of the failure.
+     *
+     * @param title the title of the failure
+     *
+     * @throws IllegalStateException if the description is shared and cannot be changed
+     */
+
+    public void setTitle(String title)
+    {
+        checkNotFrozen();
+
+        this.title = title;
+    }
+
+    /**
+     * Sets the underlying exception that caused this failure.
+     *
+     * @param cause the cause of the failure
+     *
+     * @throws IllegalStateException if the description is shared and cannot be changed
+     */
+
+    public void setCause(Exception cause)
+    {
+        checkNotFrozen();
+
+        this.cause = cause;
+    }
+
+    /**
+     * Makes this description unchangeable so that it can be shared between callers. Setters throw afterwards.
+     * Expands a deferred detail first so that nothing is written once the description is shared.
+     *
+     * @return this description
+     */
+
+    FailureDescription freeze()
+    {
+        getDetail();
+        frozen = true;
+
+        return this;
+    }
+
+    private void checkNotFrozen()
+    {
+        if (frozen)
+        {
+            throw new IllegalStateException("Failure description is shared and cannot be changed");
+        }
+    }
+
     public boolean hasCause()
     {
         return cause != null;
@@ -134,7 +284,13 @@ public class FailureDescription
         GENERIC_EXCEPTION("generic-checked-exception-failure", ""),
         GENERIC_INTERRUPTED_EXCEPTION("generic-interrupted-exception-failure", ""),
         GENERIC_RUNTIME_EXCEPTION("generic-runtime-exception-failure", ""),
-        GENERIC_CONSUMER_EXCEPTION("generic-consumer-exception-failure", "")
+        GENERIC_CONSUMER_EXCEPTION("generic-consumer-exception-failure", ""),
+        GENERIC_CANCELLED("generic-cancelled-failure", ""),
+        GENERIC_TIMEOUT("generic-timeout-failure", "Did not complete within {} ms; gave up after {} ms"),
+        GENERIC_RETRY_BUDGET_EXHAUSTED("generic-retry-budget-exhausted-failure", "Retry budget exhausted; not retrying after attempt {}"),
+        GENERIC_CIRCUIT_OPEN("generic-circuit-open-failure", "Circuit breaker {} is open; call not attempted"),
+        GENERIC_BULKHEAD_FULL("generic-bulkhead-full-failure", "Bulkhead {} is full; call not attempted"),
+        GENERIC_RATE_LIMITED("generic-rate-limited-failure", "Rate limiter {} has no permits left; call not attempted")
         ;
 
         private final String title;
@@ -149,7 +305,9 @@ public class FailureDescription
 
     public String getTotalMessage()
     {
-        return (title != null ? title : "") + "-" + (detail != null ? detail : "");
+        var currentDetail = getDetail();
+
+        return (title != null ? title : "") + "-" + (currentDetail != null ? currentDetail : "");
     }
 
     /**
@@ -185,6 +343,8 @@ public class FailureDescription
         private String title;
         private String detail;
         private String template;
+        private ParsedTemplate parsedTemplate;
+        private boolean deferDetail;
 
         private Builder()
         {
@@ -198,6 +358,14 @@ public class FailureDescription
             this.detail = initialData.detail;
             this.cause = initialData.cause;
             this.precedingFailure = initialData.precedingFailure;
+
+            if (isNull(initialData.detail) && nonNull(initialData.deferredTemplate))
+            {
+                this.template = initialData.deferredTemplate;
+                this.parsedTemplate = initialData.deferredParsedTemplate;
+                this.args = initialData.deferredArgs;
+                this.deferDetail = true;
+            }
         }
 
 
@@ -245,8 +413,8 @@ public class FailureDescription
 
         /**
          * Sets the template of the failure message.
-         * <p>Uses {@link MessageFormatter} to expand the template with the provided arguments  
-         * .
+         * <p>Uses {@link ParsedTemplate} to expand the template, in {@link org.slf4j.helpers.MessageFormatter} notation,
+         * with the provided arguments.
          * @param template The template of the failure.
          * 
          * @return The builder instance.
@@ -255,6 +423,7 @@ public class FailureDescription
         public Builder template(String template)
         {
             this.template = template;
+            this.parsedTemplate = null;
             return this;
         }
 
@@ -286,6 +455,23 @@ public class FailureDescription
             return this;
         }
 
+        /**
+         * Defers expansion of the template into the detail until the detail is first read.
+         * <p>
+         * The template and arguments are kept as given and formatted by {@link FailureDescription#getDetail()},
+         * {@link FailureDescription#getTotalMessage()} or {@code toString()}. Failures that are recovered from
+         * without their text being read never pay for the formatting. Arguments should not be mutated after
+         * the build as they are only rendered when the detail is read.
+         *
+         * @return The builder instance.
+         */
+
+        public Builder deferDetail()
+        {
+            this.deferDetail = true;
+            return this;
+        }
+
         /**
          * Sets the preceding failure in the failure chain.
          * <p>
@@ -346,11 +532,13 @@ public class FailureDescription
 
             // Detail can be provided (always wins) or Derived from provided template (always wins) or the Cause Message
 
+            var expandTemplate = false;
+
             if (!detailProvided) {
 
                 if (templateProvided) 
                 {
-                    this.detail = expandAsNecessary(this.template, tempArgs);
+                    expandTemplate = true;
                 } 
                 else 
                 {
@@ -359,7 +547,7 @@ public class FailureDescription
                         this.detail = nonNull(this.cause.getMessage()) ? this.cause.getMessage() : "";
                     } 
                     else {
-                        this.detail = expandAsNecessary(this.template, tempArgs);
+                        expandTemplate = true;
                     }
                 }
             }
@@ -368,6 +556,22 @@ public class FailureDescription
 
             this.title = titleProvided ? this.title : this.type.getTitle();
 
+            if (expandTemplate) {
+
+                // A type's template is parsed once per type, and copies carry it over; a provided template is
+                // expanded in a single pass
+
+                var parsedTemplate = templateProvided ? this.parsedTemplate : this.type.parsedTemplate();
+
+                // A deferred build hands the template over unexpanded; it is expanded on the first read of the detail
+
+                if (deferDetail) {
+                    return new FailureDescription(this.type, this.title, this.template, parsedTemplate, tempArgs, this.cause, this.precedingFailure);
+                }
+
+                this.detail = expandAsNecessary(this.template, parsedTemplate, tempArgs);
+            }
+
             return new FailureDescription(this.type, this.title, this.detail, this.cause, this.precedingFailure);
         }
 
@@ -376,10 +580,18 @@ public class FailureDescription
          *
          * @param text The string to search in
          * @param sub The substring to count
-         * @return The number of occurrences of the substring
+         * @return The number of occurrences of the substring. For {@code "{}"} this is the number of placeholders,
+         * not counting escaped ones.
+         *
+         * @deprecated Use {@link ParsedTemplate#countPlaceholders(String)} to count the placeholders of a template.
          */
 
+        @Deprecated
         public static int countOccurrences(String text, String sub) {
+            if ("{}".equals(sub)) {
+                return ParsedTemplate.countPlaceholders(text);
+            }
+
             int count = 0;
             int index = 0;
     
@@ -392,35 +604,29 @@ public class FailureDescription
 
         /**
          * Expands the template using provided arguments and logs any possible mismatches
-         * between the needed and provided arguments
+         * between the needed and provided arguments. Placeholders without an argument are filled with {@code NotSupplied}.
+         *
+         * @param inTemplate The template as written
+         * @param parsedTemplate The pre-split template, or {@code null} to expand {@code inTemplate} in a single pass
+         * @param inArgs The arguments for the placeholders
          */
 
-        private String expandAsNecessary(String inTemplate, Object[] inArgs)
+        static String expandAsNecessary(String inTemplate, ParsedTemplate parsedTemplate, Object[] inArgs)
         {
             if (isNull(inTemplate)) {
                 return "";
             }
 
-            // Initialize args to empty array if null
-
-            if (isNull(inArgs)) {
-                inArgs = new Object[0];
-            }
-            
-            // Count the number of {} in the template
-            var expectedNumOfArgs = countOccurrences(inTemplate, "{}");
+            var argCount = isNull(inArgs) ? 0 : inArgs.length;
+            var expectedNumOfArgs = nonNull(parsedTemplate) ? parsedTemplate.placeholderCount() : ParsedTemplate.countPlaceholders(inTemplate);
 
-            if (expectedNumOfArgs != inArgs.length) {
-                log.warn("The number of arguments provided ({}) does not match the number of arguments expected ({})", inArgs.length, expectedNumOfArgs);
-            }
-            
-            // Create a list from the array and pad with nulls if needed
-            var augmentedArgs = new ArrayList<>(Arrays.asList(inArgs));
-            while (augmentedArgs.size() < expectedNumOfArgs) {
-                augmentedArgs.add("NotSupplied"); 
+            if (expectedNumOfArgs != argCount) {
+                log.warn("The number of arguments provided ({}) does not match the number of arguments expected ({})", argCount, expectedNumOfArgs);
             }
 
-            return MessageFormatter.basicArrayFormat(inTemplate, augmentedArgs.toArray());
+            return nonNull(parsedTemplate)
+                ? parsedTemplate.formatOr(inArgs, NOT_SUPPLIED)
+                : ParsedTemplate.expandOr(inTemplate, inArgs, NOT_SUPPLIED);
         }
     }
 }
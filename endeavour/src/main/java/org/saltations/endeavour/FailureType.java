@@ -1,7 +1,5 @@
 package org.saltations.endeavour;
 
-import java.util.regex.Pattern;
-
 /**
  * Represents the type (category) of a failure .
  * <p>
@@ -10,6 +8,8 @@ import java.util.regex.Pattern;
  * basically what this means is you use {@code {}} to indicate where a parameter needs to be replaced
  * with an argument and make sure you have the arguments in order for the template.
  * Everything else is handled automagically.
+ * <p>
+ * The template is parsed once into a {@link ParsedTemplate} and, for enum failure types, cached per enum class.
  */
 
 public interface FailureType
@@ -17,12 +17,22 @@ public interface FailureType
     String getTitle();
     String getTemplate();
 
+    /**
+     * Returns the template of this type split into literal segments and placeholders.
+     * <p>
+     * Non-enum implementations with a fixed template may override this to return a cached instance.
+     *
+     * @return the parsed template
+     */
+
+    default ParsedTemplate parsedTemplate()
+    {
+        return ParsedTemplate.of(this);
+    }
+
     default long templateParameterCount()
     {
-        return Pattern.compile("\\{\\}")
-                      .matcher(getTemplate())
-                      .results()
-                      .count();
+        return parsedTemplate().placeholderCount();
     }
 
 }
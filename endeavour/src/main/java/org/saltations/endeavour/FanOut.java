@@ -0,0 +1,207 @@
+package org.saltations.endeavour;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Runs independent operations concurrently on virtual threads and combines their results.
+ * <p>
+ * Backs {@link Try#all(List)} and {@link Try#any(List)}.
+ */
+
+final class FanOut
+{
+    private FanOut()
+    {
+    }
+
+    /**
+     * Runs every supplier and succeeds with all of their values in supplier order, or fails on the first failure.
+     * <p>
+     * On the first failure the operations still running are cancelled. The returned failure is the first one, with
+     * any other failures that had already happened chained behind it through {@code precedingFailure}.
+     */
+
+    static <T> Result<List<T>> all(List<? extends CheckedSupplier<? extends T>> suppliers)
+    {
+        if (suppliers.isEmpty())
+        {
+            return QuantSuccess.of(List.of());
+        }
+
+        var run = new Run<T>(suppliers, Failure.class);
+        Result<List<T>> interrupted = run.await();
+
+        if (interrupted != null)
+        {
+            return interrupted;
+        }
+
+        if (run.failures.isEmpty())
+        {
+            var values = new ArrayList<T>(run.tasks.size());
+
+            for (var task : run.tasks)
+            {
+                values.add(task.join().get());
+            }
+
+            return QuantSuccess.of(Collections.unmodifiableList(values));
+        }
+
+        return run.combinedFailure();
+    }
+
+    /**
+     * Runs every supplier and succeeds with the value of the first one to succeed, or fails once all have failed.
+     * <p>
+     * Once one succeeds the operations still running are cancelled. If every operation fails, the returned failure
+     * is the first one, with the others chained behind it through {@code precedingFailure} in the order they failed.
+     */
+
+    static <T> Result<T> any(List<? extends CheckedSupplier<? extends T>> suppliers)
+    {
+        var run = new Run<T>(suppliers, Success.class);
+        Result<T> interrupted = run.await();
+
+        if (interrupted != null)
+        {
+            return interrupted;
+        }
+
+        var winner = run.winner.get();
+
+        return winner != null ? winner : run.combinedFailure();
+    }
+
+    /**
+     * Appends a failure to the end of the chain of failures that preceded another.
+     */
+
+    static FailureDescription appendPreceding(FailureDescription description, FailureDescription tail)
+    {
+        var preceding = description.hasPrecedingFailure() ? appendPreceding(description.getPrecedingFailure(), tail) : tail;
+
+        return new FailureDescription.Builder(description).precedingFailure(preceding).build();
+    }
+
+    /**
+     * One fan out: the running tasks, the outcome that decides the run early and the failures seen so far.
+     */
+
+    private static final class Run<T>
+    {
+        private final List<AsyncResult<T>> tasks;
+        private final Class<?> deciding;
+        private final CompletableFuture<Void> decided = new CompletableFuture<>();
+        private final AtomicInteger pending;
+        private final ConcurrentLinkedQueue<Failure<?>> failures = new ConcurrentLinkedQueue<>();
+
+        private final AtomicReference<Result<T>> winner = new AtomicReference<>();
+        private volatile boolean cancelling;
+
+        @SuppressWarnings("unchecked")
+        Run(List<? extends CheckedSupplier<? extends T>> suppliers, Class<?> deciding)
+        {
+            this.deciding = deciding;
+            this.pending = new AtomicInteger(suppliers.size());
+            this.tasks = new ArrayList<>(suppliers.size());
+
+            for (var supplier : suppliers)
+            {
+                tasks.add(AsyncResult.attempt((CheckedSupplier<T>) supplier));
+            }
+
+            for (var task : tasks)
+            {
+                task.toCompletionStage().thenAccept(this::completed);
+            }
+        }
+
+        private void completed(Result<T> outcome)
+        {
+            // Outcomes that arrive once the run is decided, including our own cancellations, change nothing
+
+            if (cancelling)
+            {
+                return;
+            }
+
+            if (outcome instanceof Failure<T> failure)
+            {
+                failures.add(failure);
+            }
+
+            if (deciding.isInstance(outcome))
+            {
+                // Successes can arrive together before the run is marked as cancelling; only the first one wins
+
+                if (outcome instanceof Success<T>)
+                {
+                    winner.compareAndSet(null, outcome);
+                }
+
+                decided.complete(null);
+            }
+
+            if (pending.decrementAndGet() == 0)
+            {
+                decided.complete(null);
+            }
+        }
+
+        /**
+         * Waits until the run is decided, then cancels whatever is still running.
+         *
+         * @return a failure if the waiting thread was interrupted, otherwise {@code null}
+         */
+
+        <U> Result<U> await()
+        {
+            try
+            {
+                decided.get();
+                return null;
+            }
+            catch (InterruptedException e)
+            {
+                return Try.failureFrom(e);
+            }
+            catch (ExecutionException e)
+            {
+                return Try.failureFrom(e);
+            }
+            finally
+            {
+                cancelling = true;
+                tasks.forEach(AsyncResult::cancel);
+            }
+        }
+
+        <U> Result<U> combinedFailure()
+        {
+            var inOrder = new ArrayList<>(failures);
+            var first = inOrder.get(0);
+
+            if (inOrder.size() == 1)
+            {
+                return first.cast();
+            }
+
+            var chained = inOrder.get(inOrder.size() - 1).description();
+
+            for (int i = inOrder.size() - 2; i >= 0; i--)
+            {
+                chained = appendPreceding(inOrder.get(i).description(), chained);
+            }
+
+            return new Failure<>(chained);
+        }
+    }
+}
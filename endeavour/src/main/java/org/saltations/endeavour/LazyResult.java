@@ -0,0 +1,364 @@
+package org.saltations.endeavour;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+
+import lombok.NonNull;
+
+/**
+ * The deferred {@link Result} of an operation that has not run yet.
+ * <p>
+ * The operation runs at most once, on the first read of the outcome, and its outcome is kept for every later read.
+ * Reads from several threads are safe; one thread runs the operation and the others wait for its outcome.
+ * {@code map}, {@code flatMap}, {@code ifSuccess}, {@code ifFailure}, {@code orElse} and {@code orElseGet} return
+ * new lazy results and run nothing until one of them is read. Reading operations such as {@code get},
+ * {@code hasPayload}, {@code reduce} and {@code toResult} run the chain.
+ * <p>
+ * {@code Result} is sealed to {@link Success} and {@link Failure}, so a lazy result is not itself a {@code Result};
+ * {@link #toResult()} runs it and returns the outcome. Because nothing runs until then, exceptions thrown by
+ * deferred mapping functions are converted to failures instead of being thrown to the caller of {@code map}.
+ *
+ * <p>
+ * <b>Example:</b>
+ * <pre>{@code
+ *   var fallback = Try.defer(() -> catalog.lookupExpensively(sku));
+ *
+ *   // The lookup only runs if the cache misses
+ *   return cache.find(sku).orElseGet(fallback::toResult);
+ * }
+ * </pre>
+ *
+ * @param <T> Success payload type
+ *
+ * @see Try#defer(CheckedSupplier)
+ */
+
+public final class LazyResult<T>
+{
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private volatile Result<T> outcome;
+
+    /**
+     * The pending operation. Cleared when it starts so that whatever it captured can be collected.
+     */
+
+    private CheckedSupplier<Result<T>> operation;
+
+    private LazyResult(CheckedSupplier<Result<T>> operation, Result<T> outcome)
+    {
+        this.operation = operation;
+        this.outcome = outcome;
+    }
+
+    /**
+     * Creates a lazy result from an operation that produces a result.
+     * <p>
+     * Exceptions thrown by the operation are converted to failures the same way as {@link Try#attempt(CheckedSupplier)}
+     * converts them.
+     *
+     * @param operation the operation to defer. <b>Not null.</b> <b>Must not return null.</b>
+     *
+     * @param <T> Success payload type
+     *
+     * @return an unevaluated lazy result
+     */
+
+    public static <T> LazyResult<T> of(@NonNull CheckedSupplier<Result<T>> operation)
+    {
+        Objects.requireNonNull(operation, "Operation cannot be null");
+
+        return new LazyResult<>(operation, null);
+    }
+
+    /**
+     * Wraps an outcome that is already known.
+     *
+     * @param outcome the outcome. <b>Not null.</b>
+     *
+     * @param <T> Success payload type
+     *
+     * @return an evaluated lazy result
+     */
+
+    public static <T> LazyResult<T> evaluated(@NonNull Result<T> outcome)
+    {
+        Objects.requireNonNull(outcome, "Outcome cannot be null");
+
+        return new LazyResult<>(null, outcome);
+    }
+
+    /**
+     * Returns <em>true</em> if the operation has run.
+     *
+     * @return <em>true</em> if the outcome is known, <em>false</em> if the operation has not run yet.
+     */
+
+    public boolean isEvaluated()
+    {
+        return outcome != null;
+    }
+
+    /**
+     * Runs the operation if it has not run yet and returns its outcome.
+     * <p>
+     * An operation that reads its own lazy result gets an {@code IllegalStateException} instead of recursing, so its
+     * outcome ends up a failure caused by that exception. An {@code Error} thrown by the operation is rethrown and
+     * nothing is kept, so the next read runs the operation again.
+     *
+     * @return the outcome of the operation
+     */
+
+    public Result<T> toResult()
+    {
+        var current = outcome;
+
+        if (current != null)
+        {
+            return current;
+        }
+
+        // A lock rather than synchronized so that a virtual thread blocked in the operation does not pin its carrier
+
+        lock.lock();
+
+        try
+        {
+            if (outcome == null)
+            {
+                var pending = operation;
+
+                if (pending == null)
+                {
+                    throw new IllegalStateException("Lazy result was read from within its own operation");
+                }
+
+                operation = null;
+
+                try
+                {
+                    outcome = evaluate(pending);
+                }
+                catch (Throwable e)
+                {
+                    // An Error is not converted to a failure; put the operation back so that a later read runs it again
+                    operation = pending;
+                    throw e;
+                }
+            }
+
+            return outcome;
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Runs the operation if needed and returns <em>true</em> if the outcome has a success payload.
+     *
+     * @return <em>true</em> if the outcome has a success payload, <em>false</em> otherwise.
+     *
+     * @see Result#hasPayload()
+     */
+
+    public boolean hasPayload()
+    {
+        return toResult().hasPayload();
+    }
+
+    /**
+     * Runs the operation if needed and returns the payload of the outcome.
+     *
+     * @return the payload if a {@code QuantSuccess}, a null if a {@code QualSuccess}
+     *
+     * @throws IllegalStateException if the outcome is a {@code Failure}
+     *
+     * @see Result#get()
+     */
+
+    public T get()
+    {
+        return toResult().get();
+    }
+
+    /**
+     * Runs the operation if needed and returns an {@code Optional} containing the success payload (if any).
+     *
+     * @return {@code Optional} containing the success payload, otherwise an empty {@code Optional}.
+     *
+     * @see Result#opt()
+     */
+
+    public Optional<T> opt()
+    {
+        return toResult().opt();
+    }
+
+    /**
+     * Returns a lazy result that maps the payload of this one when it is read.
+     *
+     * @param mapping a mapping function for T to U. <b>Not null.</b> <b>Must handle nulls.</b>
+     *
+     * @return the deferred mapped result
+     *
+     * @param <U> type of the new payload
+     *
+     * @see Result#map(CheckedFunction)
+     */
+
+    public <U> LazyResult<U> map(@NonNull CheckedFunction<T, U> mapping)
+    {
+        Objects.requireNonNull(mapping, "Mapping function cannot be null");
+
+        return new LazyResult<>(() -> toResult().map(mapping), null);
+    }
+
+    /**
+     * Returns a lazy result that maps the payload of this one to a new {@code Result} when it is read.
+     *
+     * @param mapping a mapping function for T to {@code Result<U>}. <b>Not null.</b> <b>Must handle nulls.</b>
+     *
+     * @return the deferred mapped result
+     *
+     * @param <U> type of the new payload
+     *
+     * @see Result#flatMap(CheckedFunction)
+     */
+
+    public <U> LazyResult<U> flatMap(@NonNull CheckedFunction<T, Result<U>> mapping)
+    {
+        Objects.requireNonNull(mapping, "Mapping function cannot be null");
+
+        return new LazyResult<>(() -> toResult().flatMap(mapping), null);
+    }
+
+    /**
+     * Runs the operation if needed and reduces its outcome to a single value.
+     *
+     * @param onSuccess function to apply if the outcome is a success. <b>Not null.</b>
+     * @param onFailure function to apply if the outcome is a failure. <b>Not null.</b>
+     *
+     * @return Optional containing the result of applying the appropriate function
+     *
+     * @param <V> the type of the reduced value
+     *
+     * @see Result#reduce(CheckedFunction, CheckedFunction)
+     */
+
+    public <V> Optional<V> reduce(@NonNull CheckedFunction<T, V> onSuccess, @NonNull CheckedFunction<Failure<T>, V> onFailure)
+    {
+        return toResult().reduce(onSuccess, onFailure);
+    }
+
+    /**
+     * Runs the operation if needed and folds its outcome to a single value.
+     *
+     * @param onSuccess function to apply if the outcome is a success. <b>Not null.</b>
+     * @param onFailure function to apply if the outcome is a failure. <b>Not null.</b>
+     *
+     * @return the result of the applied function
+     *
+     * @throws Exception if the applied function throws a checked exception
+     *
+     * @param <V> the type of the reduced value
+     *
+     * @see Result#fold(CheckedFunction, CheckedFunction)
+     */
+
+    public <V> V fold(@NonNull CheckedFunction<T, V> onSuccess, @NonNull CheckedFunction<Failure<T>, V> onFailure) throws Exception
+    {
+        return toResult().fold(onSuccess, onFailure);
+    }
+
+    /**
+     * Returns a lazy result that executes the action when it is read and the outcome is a success.
+     *
+     * @param action the function that takes action based on success. <b>Not null.</b>
+     *
+     * @return the deferred result of the action
+     *
+     * @see Result#ifSuccess(CheckedConsumer)
+     */
+
+    public LazyResult<T> ifSuccess(@NonNull CheckedConsumer<Success<T>> action)
+    {
+        Objects.requireNonNull(action, "Action cannot be null");
+
+        return new LazyResult<>(() -> toResult().ifSuccess(action), null);
+    }
+
+    /**
+     * Returns a lazy result that executes the action when it is read and the outcome is a failure.
+     *
+     * @param action the function that takes action based on failure. <b>Not null.</b>
+     *
+     * @return the deferred result of the action
+     *
+     * @see Result#ifFailure(CheckedConsumer)
+     */
+
+    public LazyResult<T> ifFailure(@NonNull CheckedConsumer<Failure<T>> action)
+    {
+        Objects.requireNonNull(action, "Action cannot be null");
+
+        return new LazyResult<>(() -> toResult().ifFailure(action), null);
+    }
+
+    /**
+     * Returns a lazy result that falls back to the alternate lazy result if the outcome of this one is a failure.
+     * The alternate only runs if it is needed.
+     *
+     * @param alternateResult the alternate result. <b>Not null.</b>
+     *
+     * @return the deferred outcome, or the alternate if the outcome is a failure
+     *
+     * @see Result#orElse(Result)
+     */
+
+    public LazyResult<T> orElse(@NonNull LazyResult<T> alternateResult)
+    {
+        Objects.requireNonNull(alternateResult, "Alternate result cannot be null");
+
+        return new LazyResult<>(() -> toResult().orElseGet(alternateResult::toResult), null);
+    }
+
+    /**
+     * Returns a lazy result that falls back to the supplied result if the outcome of this one is a failure.
+     *
+     * @param supplier function that supplies a new result. <b>Not null.</b>
+     *
+     * @return the deferred outcome, or the supplied result if the outcome is a failure
+     *
+     * @see Result#orElseGet(CheckedSupplier)
+     */
+
+    public LazyResult<T> orElseGet(@NonNull CheckedSupplier<Result<T>> supplier)
+    {
+        Objects.requireNonNull(supplier, "CheckedSupplier cannot be null");
+
+        return new LazyResult<>(() -> toResult().orElseGet(supplier), null);
+    }
+
+    @Override
+    public String toString()
+    {
+        var current = outcome;
+
+        return current == null ? "LazyResult[Unevaluated]" : "LazyResult[" + current + "]";
+    }
+
+    private static <T> Result<T> evaluate(CheckedSupplier<Result<T>> operation)
+    {
+        try
+        {
+            return Objects.requireNonNull(operation.get(), "Operation must not return null");
+        }
+        catch (Exception e)
+        {
+            return Try.failureFrom(e);
+        }
+    }
+}
@@ -0,0 +1,381 @@
+package org.saltations.endeavour;
+
+import java.util.Objects;
+import java.util.OptionalLong;
+
+import lombok.NonNull;
+
+/**
+ * The result of an operation that produces a primitive {@code long}.
+ * <p>
+ * A primitive specialization of {@link Result} for numeric chains: a success holds its value unboxed, and
+ * {@code map}, {@code flatMap} and {@code fold} over {@code long} values never box it. A failure holds the
+ * same {@link Failure} that a {@code Result<Long>} would, so failures pass between the two without being rebuilt.
+ * <p>
+ * Use {@link #boxed()} and {@link #mapToObj(CheckedLongFunction)} to leave the primitive chain, and
+ * {@link Result#mapToLong(CheckedToLongFunction)} or {@link #from(Result)} to enter it.
+ *
+ * <p>
+ * <b>Example:</b>
+ * <pre>{@code
+ *   var total = Try.attemptLong(() -> pricing.basePrice(sku))
+ *                  .map(price -> price * quantity)
+ *                  .fold(price -> "Total " + price, failure -> failure.getDetail());
+ * }
+ * </pre>
+ *
+ * @see Try#attemptLong(CheckedLongSupplier)
+ */
+
+public final class LongResult
+{
+    private final long value;
+    private final Failure<Long> failure;
+
+    private LongResult(long value, Failure<Long> failure)
+    {
+        this.value = value;
+        this.failure = failure;
+    }
+
+    /**
+     * Construct a successful result with the given value.
+     *
+     * @param value the value payload
+     *
+     * @return a successful {@code LongResult}
+     */
+
+    public static LongResult success(long value)
+    {
+        return new LongResult(value, null);
+    }
+
+    /**
+     * Construct a failed result from an existing failure.
+     * <p>
+     * The failure is kept as is, so it can be handed back to a {@code Result} chain without being rebuilt.
+     *
+     * @param failure the failure. <b>Not null.</b>
+     *
+     * @return a failed {@code LongResult}
+     */
+
+    public static LongResult failure(@NonNull Failure<?> failure)
+    {
+        Objects.requireNonNull(failure, "Failure cannot be null");
+
+        return new LongResult(0L, failure.cast());
+    }
+
+    /**
+     * Converts a boxed result to its primitive form.
+     * <p>
+     * A {@code QualSuccess} has no value to unbox and becomes a generic failure.
+     *
+     * @param result the boxed result. <b>Not null.</b>
+     *
+     * @return the primitive form of the result
+     */
+
+    public static LongResult from(@NonNull Result<Long> result)
+    {
+        Objects.requireNonNull(result, "Result cannot be null");
+
+        return switch (result)
+        {
+            case Failure<Long> failure -> new LongResult(0L, failure);
+            case QuantSuccess<Long> success -> new LongResult(success.get(), null);
+            case QualSuccess<Long> success -> new LongResult(0L, new Failure<>(FailureDescription.of()
+                .type(FailureDescription.GenericFailureType.GENERIC)
+                .template("Result has no long value to unbox")
+                .build()));
+        };
+    }
+
+    /**
+     * Returns <em>true</em> if this result is a success.
+     *
+     * @return <em>true</em> if this result holds a value, <em>false</em> if it is a failure.
+     */
+
+    public boolean isSuccess()
+    {
+        return failure == null;
+    }
+
+    /**
+     * Returns <em>true</em> if this result is a failure.
+     *
+     * @return <em>true</em> if this result is a failure, <em>false</em> if it holds a value.
+     */
+
+    public boolean isFailure()
+    {
+        return failure != null;
+    }
+
+    /**
+     * Returns the value of a successful result.
+     *
+     * @return the value
+     *
+     * @throws IllegalStateException if called on a failure
+     */
+
+    public long getAsLong()
+    {
+        if (failure != null)
+        {
+            throw new IllegalStateException("Cannot get value from a failure: " + failure.getTitle() + " - " + failure.getDetail());
+        }
+
+        return value;
+    }
+
+    /**
+     * Returns the value of a successful result, or the given value if this is a failure.
+     *
+     * @param other the value to return if this is a failure
+     *
+     * @return the value if success, {@code other} if failure
+     */
+
+    public long getOrElse(long other)
+    {
+        return failure == null ? value : other;
+    }
+
+    /**
+     * Returns the failure held by a failed result.
+     *
+     * @return the failure
+     *
+     * @throws IllegalStateException if called on a success
+     */
+
+    public Failure<Long> getFailure()
+    {
+        if (failure == null)
+        {
+            throw new IllegalStateException("Cannot get failure from a success: " + value);
+        }
+
+        return failure;
+    }
+
+    /**
+     * Returns an {@code OptionalLong} containing the value (if any).
+     *
+     * @return {@code OptionalLong} with the value if success, otherwise an empty {@code OptionalLong}.
+     */
+
+    public OptionalLong opt()
+    {
+        return failure == null ? OptionalLong.of(value) : OptionalLong.empty();
+    }
+
+    /**
+     * Maps the value of a successful result. A failure is returned unchanged.
+     *
+     * @param mapping a mapping function from {@code long} to {@code long}. <b>Not null.</b>
+     *
+     * @return mapped result
+     *
+     * @throws Exception if the mapping function throws a checked exception
+     */
+
+    public LongResult map(@NonNull CheckedLongUnaryOperator mapping) throws Exception
+    {
+        Objects.requireNonNull(mapping, "Mapping function cannot be null");
+
+        return failure == null ? new LongResult(mapping.applyAsLong(value), null) : this;
+    }
+
+    /**
+     * Maps the value of a successful result to an object, leaving the primitive chain.
+     * <p>
+     * If the mapping function returns a null the result will be a {@code QualSuccess}. A failure is returned as
+     * a failure of the new payload type.
+     *
+     * @param mapping a mapping function from {@code long} to {@code U}. <b>Not null.</b>
+     *
+     * @return mapped result
+     *
+     * @throws Exception if the mapping function throws a checked exception
+     *
+     * @param <U> type of the new payload
+     */
+
+    public <U> Result<U> mapToObj(@NonNull CheckedLongFunction<U> mapping) throws Exception
+    {
+        Objects.requireNonNull(mapping, "Mapping function cannot be null");
+
+        if (failure != null)
+        {
+            return failure.cast();
+        }
+
+        var newValue = mapping.apply(value);
+        return Objects.isNull(newValue) ? QualSuccess.instance() : QuantSuccess.of(newValue);
+    }
+
+    /**
+     * Maps the value of a successful result to a new {@code LongResult}. A failure is returned unchanged.
+     * <p>
+     * Exceptions thrown by the mapping function are caught and converted to a {@code Failure}.
+     *
+     * @param mapping a mapping function from {@code long} to {@code LongResult}. <b>Not null.</b>
+     *
+     * @return mapped result
+     */
+
+    public LongResult flatMap(@NonNull CheckedLongFunction<LongResult> mapping)
+    {
+        Objects.requireNonNull(mapping, "Mapping function cannot be null");
+
+        if (failure != null)
+        {
+            return this;
+        }
+
+        try
+        {
+            return Objects.requireNonNull(mapping.apply(value), "Mapping function must not return null");
+        }
+        catch (Exception ex)
+        {
+            return new LongResult(0L, new Failure<>(FailureDescription.of()
+                .type(FailureDescription.GenericFailureType.GENERIC_EXCEPTION)
+                .cause(ex)
+                .build()));
+        }
+    }
+
+    /**
+     * Reduces this result to a single value by applying {@code onSuccess} to the value of a success or
+     * {@code onFailure} to the failure.
+     *
+     * @param onSuccess function to apply if this is a success. <b>Not null.</b>
+     * @param onFailure function to apply if this is a failure. <b>Not null.</b>
+     *
+     * @return the result of the applied function
+     *
+     * @throws Exception if the applied function throws a checked exception
+     *
+     * @param <V> the type of the reduced value
+     */
+
+    public <V> V fold(@NonNull CheckedLongFunction<V> onSuccess, @NonNull CheckedFunction<Failure<Long>, V> onFailure) throws Exception
+    {
+        Objects.requireNonNull(onSuccess, "Success function cannot be null");
+        Objects.requireNonNull(onFailure, "Failure function cannot be null");
+
+        return failure == null ? onSuccess.apply(value) : onFailure.apply(failure);
+    }
+
+    /**
+     * Returns this result if it is a success, otherwise the alternate result.
+     *
+     * @param alternateResult the result to return if this is a failure. <b>Not null.</b>
+     *
+     * @return this result if success, the alternate result if failure
+     */
+
+    public LongResult orElse(@NonNull LongResult alternateResult)
+    {
+        Objects.requireNonNull(alternateResult, "Alternate result cannot be null");
+
+        return failure == null ? this : alternateResult;
+    }
+
+    /**
+     * Returns this result if it is a success, otherwise the result of the supplier.
+     * <p>
+     * Exceptions thrown by the supplier are caught and converted to a {@code Failure} preceded by this failure.
+     *
+     * @param supplier function that supplies a new value. <b>Not null.</b>
+     *
+     * @return this result if success, the supplied value if failure
+     */
+
+    public LongResult orElseGet(@NonNull CheckedLongSupplier supplier)
+    {
+        Objects.requireNonNull(supplier, "CheckedSupplier cannot be null");
+
+        if (failure == null)
+        {
+            return this;
+        }
+
+        try
+        {
+            return new LongResult(supplier.getAsLong(), null);
+        }
+        catch (InterruptedException ex)
+        {
+            // restore the interrupted flag
+            Thread.currentThread().interrupt();
+            return new LongResult(0L, new Failure<>(FailureDescription.of()
+                .type(FailureDescription.GenericFailureType.GENERIC_INTERRUPTED_EXCEPTION)
+                .cause(ex)
+                .precedingFailure(failure.description())
+                .build()));
+        }
+        catch (Exception ex)
+        {
+            return new LongResult(0L, new Failure<>(FailureDescription.of()
+                .type(FailureDescription.GenericFailureType.GENERIC_EXCEPTION)
+                .cause(ex)
+                .precedingFailure(failure.description())
+                .build()));
+        }
+    }
+
+    /**
+     * Widens the value of a successful result to a {@code double}. A failure is carried over unchanged.
+     *
+     * @return the widened result
+     */
+
+    public DoubleResult asDoubleResult()
+    {
+        return failure == null ? DoubleResult.success(value) : DoubleResult.failure(failure);
+    }
+
+    /**
+     * Returns the boxed equivalent of this result.
+     *
+     * @return a {@code QuantSuccess} holding the boxed value if success, otherwise the held failure
+     */
+
+    public Result<Long> boxed()
+    {
+        return failure == null ? QuantSuccess.of(value) : failure;
+    }
+
+    @Override
+    public boolean equals(Object other)
+    {
+        if (this == other)
+        {
+            return true;
+        }
+
+        return other instanceof LongResult that
+            && value == that.value
+            && Objects.equals(failure, that.failure);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return failure == null ? Long.hashCode(value) : failure.hashCode();
+    }
+
+    @Override
+    public String toString()
+    {
+        return failure == null ? "Success[" + value + "]" : failure.toString();
+    }
+}
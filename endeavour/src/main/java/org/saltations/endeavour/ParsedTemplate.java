@@ -0,0 +1,477 @@
+package org.saltations.endeavour;
+
+import static java.util.Objects.isNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * A failure message template that has been split once into its literal segments and {@code {}} placeholders.
+ * <p>
+ * Templates use the {@link org.slf4j.helpers.MessageFormatter} notation: {@code {}} marks a placeholder,
+ * {@code \{}} is a literal {@code {}} and {@code \\{}} is a literal backslash followed by a placeholder.
+ * A template with {@code n} placeholders has {@code n + 1} literal segments; placeholder {@code i} sits between
+ * segment {@code i} and segment {@code i + 1}.
+ * <p>
+ * Parsed templates for enum {@link FailureType}s are computed once per enum class and shared, so building a typed
+ * failure never rescans the template.
+ * <p>
+ * This class is also the expansion engine for failure details and formatted exception messages. Expansion writes
+ * into a per-thread {@link StringBuilder} that is reused from call to call, renders arguments the same way
+ * {@code MessageFormatter} does (arrays element by element, {@code null} as {@code "null"}) and fills placeholders
+ * that have no argument without copying the argument array. Escapes are always resolved, even in the part of a
+ * template that is past the last supplied argument.
+ *
+ * @see FailureType#parsedTemplate()
+ */
+
+@Slf4j
+public final class ParsedTemplate
+{
+    private static final String PLACEHOLDER = "{}";
+    private static final char ESCAPE = '\\';
+    private static final Object[] NO_ARGS = new Object[0];
+
+    private static final int INITIAL_BUFFER_CAPACITY = 256;
+    private static final int MAX_RETAINED_BUFFER_CAPACITY = 8192;
+
+    private static final ThreadLocal<Buffer> BUFFER = ThreadLocal.withInitial(Buffer::new);
+
+    private static final ParsedTemplate EMPTY = new ParsedTemplate("", List.of(""), new int[0]);
+
+    /**
+     * Parsed templates of every constant of an enum {@code FailureType}, indexed by ordinal.
+     */
+
+    private static final ClassValue<ParsedTemplate[]> BY_ENUM_TYPE = new ClassValue<>()
+    {
+        @Override
+        protected ParsedTemplate[] computeValue(Class<?> type)
+        {
+            var constants = type.getEnumConstants();
+            var parsed = new ParsedTemplate[constants.length];
+
+            for (int i = 0; i < constants.length; i++)
+            {
+                parsed[i] = parse(((FailureType) constants[i]).getTemplate());
+            }
+
+            return parsed;
+        }
+    };
+
+    private final String template;
+    private final List<String> literals;
+    private final int[] placeholderPositions;
+
+    private ParsedTemplate(String template, List<String> literals, int[] placeholderPositions)
+    {
+        this.template = template;
+        this.literals = literals;
+        this.placeholderPositions = placeholderPositions;
+    }
+
+    /**
+     * Returns the parsed template of the given failure type.
+     * <p>
+     * Enum failure types are parsed once per enum class and their templates are assumed not to change.
+     * Other implementations are parsed on every call unless they override {@link FailureType#parsedTemplate()}.
+     *
+     * @param type the failure type. <b>Not null.</b>
+     *
+     * @return the parsed template of the type
+     */
+
+    public static ParsedTemplate of(FailureType type)
+    {
+        if (type instanceof Enum<?> constant)
+        {
+            return BY_ENUM_TYPE.get(constant.getDeclaringClass())[constant.ordinal()];
+        }
+
+        return parse(type.getTemplate());
+    }
+
+    /**
+     * Splits a template into its literal segments and placeholders.
+     *
+     * @param template the template. A {@code null} template is treated as empty.
+     *
+     * @return the parsed template
+     */
+
+    public static ParsedTemplate parse(String template)
+    {
+        if (isNull(template) || template.isEmpty())
+        {
+            return EMPTY;
+        }
+
+        var literals = new ArrayList<String>();
+        var positions = new ArrayList<Integer>();
+        var literal = new StringBuilder();
+
+        int start = 0;
+        int found;
+
+        while ((found = template.indexOf(PLACEHOLDER, start)) != -1)
+        {
+            var escaped = isEscaped(template, found);
+
+            if (escaped && !isDoubleEscaped(template, found))
+            {
+                // \{} is a literal {}: drop the escape and carry on scanning after the brace
+
+                literal.append(template, start, found - 1).append('{');
+                start = found + 1;
+                continue;
+            }
+
+            // \\{} keeps one backslash in the literal and is still a placeholder
+
+            literal.append(template, start, escaped ? found - 1 : found);
+            literals.add(literal.toString());
+            positions.add(found);
+            literal.setLength(0);
+            start = found + PLACEHOLDER.length();
+        }
+
+        literal.append(template, start, template.length());
+        literals.add(literal.toString());
+
+        return new ParsedTemplate(template, List.copyOf(literals), positions.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    /**
+     * Counts the placeholders in a template without parsing it.
+     *
+     * @param template the template. A {@code null} template has no placeholders.
+     *
+     * @return the number of placeholders, not counting escaped ones
+     */
+
+    public static int countPlaceholders(String template)
+    {
+        if (isNull(template))
+        {
+            return 0;
+        }
+
+        int count = 0;
+        int start = 0;
+        int found;
+
+        while ((found = template.indexOf(PLACEHOLDER, start)) != -1)
+        {
+            if (isEscaped(template, found) && !isDoubleEscaped(template, found))
+            {
+                start = found + 1;
+                continue;
+            }
+
+            count++;
+            start = found + PLACEHOLDER.length();
+        }
+
+        return count;
+    }
+
+    /**
+     * Expands a template that has not been parsed in a single pass. Placeholders without an argument are left as {@code {}}.
+     * <p>
+     * Suited to one-off templates such as exception messages, where parsing first would cost more than it saves.
+     *
+     * @param template the template. <b>Not null.</b>
+     * @param args the arguments, in placeholder order. A {@code null} array is treated as empty.
+     *
+     * @return the expanded text
+     */
+
+    public static String expand(String template, Object... args)
+    {
+        return expandOr(template, args, null);
+    }
+
+    /**
+     * Expands a template that has not been parsed in a single pass, filling placeholders that have no argument with
+     * the given text.
+     *
+     * @param template the template. <b>Not null.</b>
+     * @param args the arguments, in placeholder order. A {@code null} array is treated as empty.
+     * @param missingArgument text used for placeholders that have no argument; {@code null} leaves them as {@code {}}
+     *
+     * @return the expanded text
+     */
+
+    public static String expandOr(String template, Object[] args, String missingArgument)
+    {
+        if (template.indexOf(PLACEHOLDER) == -1)
+        {
+            return template;
+        }
+
+        var inArgs = isNull(args) ? NO_ARGS : args;
+        var out = acquireBuffer();
+
+        try
+        {
+            int argIndex = 0;
+            int start = 0;
+            int found;
+
+            while ((found = template.indexOf(PLACEHOLDER, start)) != -1)
+            {
+                var escaped = isEscaped(template, found);
+
+                if (escaped && !isDoubleEscaped(template, found))
+                {
+                    out.append(template, start, found - 1).append('{');
+                    start = found + 1;
+                    continue;
+                }
+
+                out.append(template, start, escaped ? found - 1 : found);
+                appendArgument(out, inArgs, argIndex++, missingArgument);
+                start = found + PLACEHOLDER.length();
+            }
+
+            return out.append(template, start, template.length()).toString();
+        }
+        finally
+        {
+            releaseBuffer(out);
+        }
+    }
+
+    /**
+     * Expands this template with the given arguments. Placeholders without an argument are left as {@code {}}.
+     *
+     * @param args the arguments, in placeholder order. A {@code null} array is treated as empty.
+     *
+     * @return the expanded text
+     */
+
+    public String format(Object... args)
+    {
+        return formatOr(args, null);
+    }
+
+    /**
+     * Expands this template with the given arguments, filling placeholders that have no argument with the given text.
+     * <p>
+     * Surplus arguments are ignored. A template without placeholders returns its literal text without allocating.
+     *
+     * @param args the arguments, in placeholder order. A {@code null} array is treated as empty.
+     * @param missingArgument text used for placeholders that have no argument; {@code null} leaves them as {@code {}}
+     *
+     * @return the expanded text
+     */
+
+    public String formatOr(Object[] args, String missingArgument)
+    {
+        if (placeholderPositions.length == 0)
+        {
+            return literals.get(0);
+        }
+
+        var inArgs = isNull(args) ? NO_ARGS : args;
+        var out = acquireBuffer();
+
+        try
+        {
+            out.append(literals.get(0));
+
+            for (int i = 0; i < placeholderPositions.length; i++)
+            {
+                appendArgument(out, inArgs, i, missingArgument);
+                out.append(literals.get(i + 1));
+            }
+
+            return out.toString();
+        }
+        finally
+        {
+            releaseBuffer(out);
+        }
+    }
+
+    /**
+     * @return the template as written
+     */
+
+    public String template()
+    {
+        return template;
+    }
+
+    /**
+     * @return the number of placeholders in the template
+     */
+
+    public int placeholderCount()
+    {
+        return placeholderPositions.length;
+    }
+
+    /**
+     * @return the literal text around the placeholders, with escapes resolved. Always one more than the number of placeholders.
+     */
+
+    public List<String> literals()
+    {
+        return literals;
+    }
+
+    /**
+     * Returns the offset in the original template at which the given placeholder starts.
+     *
+     * @param index the placeholder index, from {@code 0} to {@code placeholderCount() - 1}
+     *
+     * @return offset of the placeholder in {@link #template()}
+     */
+
+    public int placeholderPosition(int index)
+    {
+        return placeholderPositions[index];
+    }
+
+    @Override
+    public String toString()
+    {
+        return template;
+    }
+
+    private static boolean isEscaped(String template, int placeholderIndex)
+    {
+        return placeholderIndex > 0 && template.charAt(placeholderIndex - 1) == ESCAPE;
+    }
+
+    private static boolean isDoubleEscaped(String template, int placeholderIndex)
+    {
+        return placeholderIndex > 1 && template.charAt(placeholderIndex - 2) == ESCAPE;
+    }
+
+    private static void appendArgument(StringBuilder out, Object[] args, int index, String missingArgument)
+    {
+        if (index < args.length)
+        {
+            appendValue(out, args[index], null);
+        }
+        else
+        {
+            out.append(isNull(missingArgument) ? PLACEHOLDER : missingArgument);
+        }
+    }
+
+    /**
+     * Renders a value the way {@code MessageFormatter} does, including the contents of (nested) arrays.
+     */
+
+    private static void appendValue(StringBuilder out, Object value, Set<Object[]> seen)
+    {
+        switch (value)
+        {
+            case null -> out.append("null");
+            case Object[] array -> appendArray(out, array, seen);
+            case boolean[] array -> out.append(Arrays.toString(array));
+            case byte[] array -> out.append(Arrays.toString(array));
+            case char[] array -> out.append(Arrays.toString(array));
+            case short[] array -> out.append(Arrays.toString(array));
+            case int[] array -> out.append(Arrays.toString(array));
+            case long[] array -> out.append(Arrays.toString(array));
+            case float[] array -> out.append(Arrays.toString(array));
+            case double[] array -> out.append(Arrays.toString(array));
+            default -> appendSafely(out, value);
+        }
+    }
+
+    private static void appendArray(StringBuilder out, Object[] array, Set<Object[]> seen)
+    {
+        var visited = isNull(seen) ? Collections.<Object[]>newSetFromMap(new IdentityHashMap<>()) : seen;
+
+        if (!visited.add(array))
+        {
+            out.append("[...]");
+            return;
+        }
+
+        out.append('[');
+
+        for (int i = 0; i < array.length; i++)
+        {
+            if (i > 0)
+            {
+                out.append(", ");
+            }
+
+            appendValue(out, array[i], visited);
+        }
+
+        out.append(']');
+        visited.remove(array);
+    }
+
+    private static void appendSafely(StringBuilder out, Object value)
+    {
+        try
+        {
+            out.append(value.toString());
+        }
+        catch (RuntimeException e)
+        {
+            log.error("Failed toString() invocation on an object of type [{}]", value.getClass().getName(), e);
+            out.append("[FAILED toString()]");
+        }
+    }
+
+    /**
+     * Hands out the calling thread's reusable buffer, or a fresh one if the thread is already expanding a template
+     * (for example from inside an argument's {@code toString()}).
+     */
+
+    private static StringBuilder acquireBuffer()
+    {
+        var buffer = BUFFER.get();
+
+        if (buffer.inUse)
+        {
+            return new StringBuilder(INITIAL_BUFFER_CAPACITY);
+        }
+
+        buffer.inUse = true;
+        buffer.builder.setLength(0);
+
+        return buffer.builder;
+    }
+
+    private static void releaseBuffer(StringBuilder builder)
+    {
+        var buffer = BUFFER.get();
+
+        if (buffer.builder != builder)
+        {
+            return;
+        }
+
+        // Drop buffers grown by an unusually long message rather than pin the memory to the thread
+
+        if (builder.capacity() > MAX_RETAINED_BUFFER_CAPACITY)
+        {
+            buffer.builder = new StringBuilder(INITIAL_BUFFER_CAPACITY);
+        }
+
+        buffer.inUse = false;
+    }
+
+    private static final class Buffer
+    {
+        private StringBuilder builder = new StringBuilder(INITIAL_BUFFER_CAPACITY);
+        private boolean inUse;
+    }
+}
@@ -9,11 +9,31 @@ import java.util.Optional;
  * the operation succeeded but produced no meaningful value (e.g., void operations,
  * deletions, updates).
  *
+ * <p>
+ * Because a {@code QualSuccess} carries no state, every factory and mapping path in the library returns the single
+ * shared instance from {@link #instance()} rather than allocating a new one.
+ *
  * @param <T> The type of the value that would have been present if the operation had produced a value.
  */
  
 public record QualSuccess<T>() implements Success<T> {
 
+    private static final QualSuccess<?> INSTANCE = new QualSuccess<>();
+
+    /**
+     * Returns the shared, type-erased {@code QualSuccess}.
+     *
+     * @param <T> The type of the value that would have been present if the operation had produced a value.
+     *
+     * @return the canonical {@code QualSuccess} instance
+     */
+
+    @SuppressWarnings("unchecked")
+    public static <T> QualSuccess<T> instance()
+    {
+        return (QualSuccess<T>) INSTANCE;
+    }
+
     @Override
     public boolean hasPayload()
     {
@@ -42,7 +62,7 @@ public record QualSuccess<T>() implements Success<T> {
 
         var newPayload = mapping.apply(null);
 
-        return Objects.isNull(newPayload) ? new QualSuccess<U>() : new QuantSuccess<U>(newPayload);
+        return Objects.isNull(newPayload) ? QualSuccess.instance() : QuantSuccess.of(newPayload);
     }
 
     @Override
@@ -8,11 +8,122 @@ import java.util.Optional;
  * This is the concrete implementation of {@link Success} for cases where
  * the operation succeeded and produced a meaningful value.
  *
+ * <p>
+ * {@link #of(Object)} returns the shared {@link #TRUE} and {@link #FALSE} instances for boolean payloads and is what
+ * the library's own factories and mapping paths use. {@link #cached(Object)} additionally interns enum constants and
+ * small integral values for callers that opt in.
+ *
  * @param <T> the type of the successful result value
  */
 
 public record QuantSuccess<T>(T value) implements Success<T> {
 
+    /**
+     * Shared success carrying {@link Boolean#TRUE}.
+     */
+
+    public static final QuantSuccess<Boolean> TRUE = new QuantSuccess<>(Boolean.TRUE);
+
+    /**
+     * Shared success carrying {@link Boolean#FALSE}.
+     */
+
+    public static final QuantSuccess<Boolean> FALSE = new QuantSuccess<>(Boolean.FALSE);
+
+    /**
+     * Returns a success carrying the given value, reusing {@link #TRUE} or {@link #FALSE} for boolean payloads.
+     *
+     * @param value the payload. <b>Not null.</b>
+     *
+     * @param <T> the type of the payload
+     *
+     * @return a {@code QuantSuccess} carrying the value
+     */
+
+    @SuppressWarnings("unchecked")
+    public static <T> QuantSuccess<T> of(T value)
+    {
+        Objects.requireNonNull(value, "QuantSuccess requires a non-null payload");
+
+        if (value instanceof Boolean b)
+        {
+            return (QuantSuccess<T>) (b ? TRUE : FALSE);
+        }
+
+        return new QuantSuccess<>(value);
+    }
+
+    /**
+     * Returns a shared success for values that are cheap to intern, otherwise allocates a new one.
+     * <p>
+     * Booleans, enum constants and {@code Integer}/{@code Long} values in the range {@code [-128, 127]} are
+     * served from a cache. Any other value behaves exactly like {@link #of(Object)}.
+     *
+     * @param value the payload. <b>Not null.</b>
+     *
+     * @param <T> the type of the payload
+     *
+     * @return a {@code QuantSuccess} carrying the value, shared where possible
+     */
+
+    @SuppressWarnings("unchecked")
+    public static <T> QuantSuccess<T> cached(T value)
+    {
+        Objects.requireNonNull(value, "QuantSuccess requires a non-null payload");
+
+        return (QuantSuccess<T>) switch (value)
+        {
+            case Enum<?> e -> ValueCache.ENUMS.get(e.getDeclaringClass())[e.ordinal()];
+            case Integer i when ValueCache.isSmall(i) -> ValueCache.INTEGERS[i - ValueCache.LOW];
+            case Long l when ValueCache.isSmall(l) -> ValueCache.LONGS[(int) (l - ValueCache.LOW)];
+            default -> of(value);
+        };
+    }
+
+    /**
+     * Lazily initialised holder for the interned successes served by {@link #cached(Object)}.
+     */
+
+    private static final class ValueCache
+    {
+        private static final int LOW = -128;
+        private static final int HIGH = 127;
+
+        private static final QuantSuccess<?>[] INTEGERS = new QuantSuccess<?>[HIGH - LOW + 1];
+        private static final QuantSuccess<?>[] LONGS = new QuantSuccess<?>[HIGH - LOW + 1];
+
+        private static final ClassValue<QuantSuccess<?>[]> ENUMS = new ClassValue<>()
+        {
+            @Override
+            protected QuantSuccess<?>[] computeValue(Class<?> type)
+            {
+                var constants = type.getEnumConstants();
+                var successes = new QuantSuccess<?>[constants.length];
+
+                for (int i = 0; i < constants.length; i++)
+                {
+                    successes[i] = new QuantSuccess<>(constants[i]);
+                }
+
+                return successes;
+            }
+        };
+
+        static
+        {
+            for (int i = 0; i < INTEGERS.length; i++)
+            {
+                INTEGERS[i] = new QuantSuccess<>(i + LOW);
+                LONGS[i] = new QuantSuccess<>((long) (i + LOW));
+            }
+        }
+
+        private static boolean isSmall(long value)
+        {
+            return value >= LOW && value <= HIGH;
+        }
+    }
+
     @Override
     public boolean hasPayload()
     {
@@ -40,7 +151,7 @@ public record QuantSuccess<T>(T value) implements Success<T> {
         // otherwise we are returning a QuantSuccess with the new payload
 
         var newValue = mapping.apply(get());
-        return Objects.isNull(newValue) ? new QualSuccess<U>() : new QuantSuccess<U>(newValue);
+        return Objects.isNull(newValue) ? QualSuccess.instance() : QuantSuccess.of(newValue);
     }
 
     @Override
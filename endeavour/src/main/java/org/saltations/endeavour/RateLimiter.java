@@ -0,0 +1,253 @@
+package org.saltations.endeavour;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * Limits calls to a rate of {@code permits} per {@code window}, allowing bursts of up to {@code burst} calls.
+ * <p>
+ * This is a token bucket that holds at most {@code burst} tokens and refills one token every
+ * {@code window / permits}. A call that finds a token takes it and goes ahead; a call that finds none is not made and
+ * the same preallocated {@code GENERIC_RATE_LIMITED} failure is returned at once. Nothing ever waits or parks.
+ * <p>
+ * The bucket is held as the single time at which it will next be full, the generic cell rate algorithm form of a
+ * token bucket, so taking a token is one compare-and-set with no lock and no separate refill step.
+ *
+ * <p>
+ * <b>Example:</b>
+ * <pre>{@code
+ *   static final RateLimiter PARTNER = RateLimiter.of("partner")
+ *                                                 .permits(50)
+ *                                                 .per(Duration.ofSeconds(1))
+ *                                                 .burst(10)
+ *                                                 .build();
+ *
+ *   var stock = PARTNER.attempt(() -> partner.stockLevel(sku));
+ * }
+ * </pre>
+ */
+
+@Getter
+public final class RateLimiter
+{
+    private final String name;
+    private final int permits;
+    private final Duration window;
+    private final int burst;
+
+    /**
+     * Time for one token to refill.
+     */
+
+    @Getter(AccessLevel.NONE)
+    private final long intervalNanos;
+
+    @Getter(AccessLevel.NONE)
+    private final long burstNanos;
+
+    @Getter(AccessLevel.NONE)
+    private final LongSupplier clock;
+
+    /**
+     * The failure returned for every refused call. Shared by every caller, so its description is frozen.
+     */
+
+    @Getter(AccessLevel.NONE)
+    private final Failure<?> limitedFailure;
+
+    /**
+     * The time at which the bucket will be full again if no more tokens are taken.
+     */
+
+    @Getter(AccessLevel.NONE)
+    private final AtomicLong fullAtNanos;
+
+    RateLimiter(Builder builder, LongSupplier clock)
+    {
+        this.name = builder.name;
+        this.permits = builder.permits;
+        this.window = builder.window;
+        this.burst = builder.burst == 0 ? permits : builder.burst;
+        this.intervalNanos = Math.max(1L, window.toNanos() / permits);
+        this.burstNanos = (long) Math.min(Long.MAX_VALUE / 4.0, (double) intervalNanos * burst);
+        this.clock = clock;
+        this.fullAtNanos = new AtomicLong(clock.getAsLong());
+        this.limitedFailure = new Failure<>(FailureDescription.of()
+            .type(FailureDescription.GenericFailureType.GENERIC_RATE_LIMITED)
+            .args(name)
+            .build()
+            .freeze());
+    }
+
+    /**
+     * Starts a new rate limiter. Without further settings it allows 10 calls per second in bursts of up to 10.
+     *
+     * @param name name of the rate limiter, used in the failure returned when no permit is left. <b>Not null.</b>
+     *
+     * @return A new Builder instance
+     */
+
+    public static Builder of(@NonNull String name)
+    {
+        Objects.requireNonNull(name, "Name cannot be null");
+
+        return new Builder(name);
+    }
+
+    /**
+     * Takes one permit if one is available. Never waits.
+     *
+     * @return <em>true</em> if a permit was taken, <em>false</em> otherwise.
+     */
+
+    public boolean tryAcquire()
+    {
+        return tryAcquire(1);
+    }
+
+    /**
+     * Takes the given number of permits if they are all available. Never waits.
+     *
+     * @param count the number of permits. <b>At least 1, at most the burst size.</b>
+     *
+     * @return <em>true</em> if the permits were taken, <em>false</em> otherwise.
+     */
+
+    public boolean tryAcquire(int count)
+    {
+        checkArgument(count >= 1 && count <= burst, "Permit count must be between 1 and the burst size %s but was %s", burst, count);
+
+        var cost = intervalNanos * count;
+
+        while (true)
+        {
+            var now = clock.getAsLong();
+            var fullAt = fullAtNanos.get();
+            var from = fullAt - now < 0 ? now : fullAt;
+            var next = from + cost;
+
+            // Taking the tokens would push the full time beyond what a bucket of burst tokens can owe
+
+            if (next - now > burstNanos)
+            {
+                return false;
+            }
+
+            if (fullAtNanos.compareAndSet(fullAt, next))
+            {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of permits that could be taken right now.
+     *
+     * @return the permits available, between 0 and the burst size
+     */
+
+    public int availablePermits()
+    {
+        var owed = fullAtNanos.get() - clock.getAsLong();
+
+        return owed <= 0 ? burst : (int) Math.max(0L, (burstNanos - owed) / intervalNanos);
+    }
+
+    /**
+     * Calls the supplier if a permit is available.
+     *
+     * @param supplier function that supplies a new value and may throw checked exceptions. <b>Not null</b>.
+     *
+     * @return the result of the supplier as from {@link Try#attempt(CheckedSupplier)}, or the shared
+     * {@code GENERIC_RATE_LIMITED} failure if no permit was available
+     *
+     * @param <T> Type of the supplied value
+     */
+
+    public <T> Result<T> attempt(@NonNull CheckedSupplier<T> supplier)
+    {
+        Objects.requireNonNull(supplier, "Supplier function cannot be null");
+
+        return tryAcquire(1) ? Try.attempt(supplier) : limitedFailure.cast();
+    }
+
+    /**
+     * Builder for {@link RateLimiter}.
+     */
+
+    public static final class Builder
+    {
+        private final String name;
+        private int permits = 10;
+        private Duration window = Duration.ofSeconds(1);
+        private int burst;
+
+        private Builder(String name)
+        {
+            this.name = name;
+        }
+
+        /**
+         * Sets the number of calls allowed per window.
+         *
+         * @param permits the number of calls. <b>At least 1.</b>
+         *
+         * @return The builder instance.
+         */
+
+        public Builder permits(int permits)
+        {
+            checkArgument(permits >= 1, "Permits must be at least 1 but was %s", permits);
+
+            this.permits = permits;
+            return this;
+        }
+
+        /**
+         * Sets the window the permits are spread over.
+         *
+         * @param window the window. <b>Not null, positive.</b>
+         *
+         * @return The builder instance.
+         */
+
+        public Builder per(Duration window)
+        {
+            Objects.requireNonNull(window, "Window cannot be null");
+            checkArgument(!window.isNegative() && !window.isZero(), "Window must be positive but was %s", window);
+
+            this.window = window;
+            return this;
+        }
+
+        /**
+         * Sets the largest number of calls that may be made at once after a quiet spell. Defaults to the number of
+         * permits per window.
+         *
+         * @param burst the burst size. <b>At least 1.</b>
+         *
+         * @return The builder instance.
+         */
+
+        public Builder burst(int burst)
+        {
+            checkArgument(burst >= 1, "Burst must be at least 1 but was %s", burst);
+
+            this.burst = burst;
+            return this;
+        }
+
+        public RateLimiter build()
+        {
+            return new RateLimiter(this, System::nanoTime);
+        }
+    }
+}
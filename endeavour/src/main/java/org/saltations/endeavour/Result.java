@@ -1,5 +1,6 @@
 package org.saltations.endeavour;
 
+import java.util.Objects;
 import java.util.Optional;
 
 import lombok.NonNull;
@@ -113,6 +114,9 @@ public sealed interface Result<T> permits Failure, Success
      * Applies {@code onSuccess} when this is a success, or {@code onFailure} when this is a failure.
      * If the applied function throws an exception, that exception is caught and an empty
      * {@code Optional} is returned (the exception is not propagated).
+     * <p>
+     * Allocates an {@code Optional} on every call. Prefer {@link #fold(CheckedFunction, CheckedFunction)} or one of its
+     * primitive variants on hot paths.
      *
      * @param onSuccess function to apply if this is a success. <b>Not null.</b>
      * @param onFailure function to apply if this is a failure. <b>Not null.</b>
@@ -125,6 +129,124 @@ public sealed interface Result<T> permits Failure, Success
 
     <V> Optional<V> reduce(@NonNull CheckedFunction<T, V> onSuccess, @NonNull CheckedFunction<Failure<T>, V> onFailure);
 
+    /**
+     * Reduces the {@code Result<T>} to a single value of type {@code V} by applying {@code onSuccess} to the payload of
+     * a success or {@code onFailure} to the failure.
+     * <p>
+     * Unlike {@link #reduce(CheckedFunction, CheckedFunction)} nothing is wrapped and nothing is swallowed: the value
+     * of the applied function is returned as is, {@code null} included, and its exceptions propagate.
+     *
+     * @param onSuccess function to apply if this is a success. <b>Not null.</b> <b>Must handle nulls from the {@code Result#get()}. method</b>
+     * @param onFailure function to apply if this is a failure. <b>Not null.</b>
+     *
+     * @return the result of the applied function
+     *
+     * @throws Exception if the applied function throws a checked exception
+     *
+     * @param <V> the type of the reduced value
+     *
+     * <p>
+     * <b>Example:</b>
+     * <pre>{@code
+     *   var response = outcome.fold(order -> Response.ok(order), failure -> Response.status(502).build());
+     * }
+     * </pre>
+     */
+
+    default <V> V fold(@NonNull CheckedFunction<T, V> onSuccess, @NonNull CheckedFunction<Failure<T>, V> onFailure) throws Exception
+    {
+        Objects.requireNonNull(onSuccess, "Success function cannot be null");
+        Objects.requireNonNull(onFailure, "Failure function cannot be null");
+
+        return switch (this)
+        {
+            case Failure<T> failure -> onFailure.apply(failure);
+            case Success<T> success -> onSuccess.apply(success.get());
+        };
+    }
+
+    /**
+     * Reduces the {@code Result<T>} to a primitive {@code int} without boxing it.
+     *
+     * @param onSuccess function to apply if this is a success. <b>Not null.</b> <b>Must handle nulls from the {@code Result#get()}. method</b>
+     * @param onFailure function to apply if this is a failure. <b>Not null.</b>
+     *
+     * @return the result of the applied function
+     *
+     * @throws Exception if the applied function throws a checked exception
+     *
+     * <p>
+     * <b>Example:</b>
+     * <pre>{@code
+     *   int status = outcome.foldToInt(order -> 200, failure -> 502);
+     * }
+     * </pre>
+     *
+     * @see #fold(CheckedFunction, CheckedFunction)
+     */
+
+    default int foldToInt(@NonNull CheckedToIntFunction<T> onSuccess, @NonNull CheckedToIntFunction<Failure<T>> onFailure) throws Exception
+    {
+        Objects.requireNonNull(onSuccess, "Success function cannot be null");
+        Objects.requireNonNull(onFailure, "Failure function cannot be null");
+
+        return switch (this)
+        {
+            case Failure<T> failure -> onFailure.applyAsInt(failure);
+            case Success<T> success -> onSuccess.applyAsInt(success.get());
+        };
+    }
+
+    /**
+     * Reduces the {@code Result<T>} to a primitive {@code long} without boxing it.
+     *
+     * @param onSuccess function to apply if this is a success. <b>Not null.</b> <b>Must handle nulls from the {@code Result#get()}. method</b>
+     * @param onFailure function to apply if this is a failure. <b>Not null.</b>
+     *
+     * @return the result of the applied function
+     *
+     * @throws Exception if the applied function throws a checked exception
+     *
+     * @see #fold(CheckedFunction, CheckedFunction)
+     */
+
+    default long foldToLong(@NonNull CheckedToLongFunction<T> onSuccess, @NonNull CheckedToLongFunction<Failure<T>> onFailure) throws Exception
+    {
+        Objects.requireNonNull(onSuccess, "Success function cannot be null");
+        Objects.requireNonNull(onFailure, "Failure function cannot be null");
+
+        return switch (this)
+        {
+            case Failure<T> failure -> onFailure.applyAsLong(failure);
+            case Success<T> success -> onSuccess.applyAsLong(success.get());
+        };
+    }
+
+    /**
+     * Reduces the {@code Result<T>} to a primitive {@code double} without boxing it.
+     *
+     * @param onSuccess function to apply if this is a success. <b>Not null.</b> <b>Must handle nulls from the {@code Result#get()}. method</b>
+     * @param onFailure function to apply if this is a failure. <b>Not null.</b>
+     *
+     * @return the result of the applied function
+     *
+     * @throws Exception if the applied function throws a checked exception
+     *
+     * @see #fold(CheckedFunction, CheckedFunction)
+     */
+
+    default double foldToDouble(@NonNull CheckedToDoubleFunction<T> onSuccess, @NonNull CheckedToDoubleFunction<Failure<T>> onFailure) throws Exception
+    {
+        Objects.requireNonNull(onSuccess, "Success function cannot be null");
+        Objects.requireNonNull(onFailure, "Failure function cannot be null");
+
+        return switch (this)
+        {
+            case Failure<T> failure -> onFailure.applyAsDouble(failure);
+            case Success<T> success -> onSuccess.applyAsDouble(success.get());
+        };
+    }
+
     /**
      * Executes action if this outcome is a success, takes no action otherwise.
      *
@@ -187,4 +309,658 @@ public sealed interface Result<T> permits Failure, Success
 
      Result<T> orElseGet(CheckedSupplier<Result<T>> supplier);
 
+    /**
+     * Maps the payload to a primitive {@code int}, entering a boxing-free {@link IntResult} chain.
+     * <p>
+     * A failure is carried over as is.
+     *
+     * @param mapping a mapping function from T to {@code int}. <b>Not null.</b> <b>Must handle nulls from the {@code Result#get()}. method</b>
+     *
+     * @return mapped result
+     *
+     * @throws Exception if the mapping function throws a checked exception
+     */
+
+    default IntResult mapToInt(@NonNull CheckedToIntFunction<T> mapping) throws Exception
+    {
+        Objects.requireNonNull(mapping, "Mapping function cannot be null");
+
+        return switch (this)
+        {
+            case Failure<T> failure -> IntResult.failure(failure);
+            case Success<T> success -> IntResult.success(mapping.applyAsInt(success.get()));
+        };
+    }
+
+    /**
+     * Maps the payload to a primitive {@code long}, entering a boxing-free {@link LongResult} chain.
+     * <p>
+     * A failure is carried over as is.
+     *
+     * @param mapping a mapping function from T to {@code long}. <b>Not null.</b> <b>Must handle nulls from the {@code Result#get()}. method</b>
+     *
+     * @return mapped result
+     *
+     * @throws Exception if the mapping function throws a checked exception
+     */
+
+    default LongResult mapToLong(@NonNull CheckedToLongFunction<T> mapping) throws Exception
+    {
+        Objects.requireNonNull(mapping, "Mapping function cannot be null");
+
+        return switch (this)
+        {
+            case Failure<T> failure -> LongResult.failure(failure);
+            case Success<T> success -> LongResult.success(mapping.applyAsLong(success.get()));
+        };
+    }
+
+    /**
+     * Maps the payload to a primitive {@code double}, entering a boxing-free {@link DoubleResult} chain.
+     * <p>
+     * A failure is carried over as is.
+     *
+     * @param mapping a mapping function from T to {@code double}. <b>Not null.</b> <b>Must handle nulls from the {@code Result#get()}. method</b>
+     *
+     * @return mapped result
+     *
+     * @throws Exception if the mapping function throws a checked exception
+     */
+
+    default DoubleResult mapToDouble(@NonNull CheckedToDoubleFunction<T> mapping) throws Exception
+    {
+        Objects.requireNonNull(mapping, "Mapping function cannot be null");
+
+        return switch (this)
+        {
+            case Failure<T> failure -> DoubleResult.failure(failure);
+            case Success<T> success -> DoubleResult.success(mapping.applyAsDouble(success.get()));
+        };
+    }
+
+    /**
+     * Combines two independent results into one, calling the combiner once with both payloads.
+     * <p>
+     * If every result is a success, the combiner is applied to their payloads, a {@code QualSuccess} giving a
+     * {@code null}, and its value or exception becomes the result as from {@link Try#attempt(CheckedSupplier)}. Otherwise
+     * the combiner is not called and the first failure, in argument order, is returned (the same instance). No tuple,
+     * list or intermediate result is created along the way.
+     *
+     * @param r1 the first result. <b>Not null.</b>
+     * @param r2 the second result. <b>Not null.</b>
+     * @param combiner function that combines the payloads and may throw checked exceptions. <b>Not null.</b>
+     *
+     * @return the combined result, or the first failure
+     *
+     * @param <T1> Type of the first payload
+     * @param <T2> Type of the second payload
+     * @param <R> Type of the combined payload
+     *
+     * <p>
+     * <b>Example:</b>
+     * <pre>{@code
+     *   Result<Quote> quote = Result.zip(customers.find(id), prices.current(sku), Quote::new);
+     * }
+     * </pre>
+     *
+     * @see #zipAccumulating(Result, Result, CheckedBiFunction)
+     */
+
+    static <T1, T2, R> Result<R> zip(@NonNull Result<T1> r1, @NonNull Result<T2> r2, @NonNull CheckedBiFunction<T1, T2, R> combiner)
+    {
+        return combine(false, r1, r2, combiner);
+    }
+
+    /**
+     * Combines 3 independent results into one, calling the combiner once with all payloads.
+     *
+     * @param r1 the first result. <b>Not null.</b>
+     * @param r2 the second result. <b>Not null.</b>
+     * @param r3 the third result. <b>Not null.</b>
+     * @param combiner function that combines the payloads and may throw checked exceptions. <b>Not null.</b>
+     *
+     * @return the combined result, or the first failure
+     *
+     * @param <T1> Type of the first payload
+     * @param <T2> Type of the second payload
+     * @param <T3> Type of the third payload
+     * @param <R> Type of the combined payload
+     *
+     * @see #zip(Result, Result, CheckedBiFunction)
+     */
+
+    static <T1, T2, T3, R> Result<R> zip(@NonNull Result<T1> r1, @NonNull Result<T2> r2, @NonNull Result<T3> r3, @NonNull CheckedFunction3<T1, T2, T3, R> combiner)
+    {
+        return combine(false, r1, r2, r3, combiner);
+    }
+
+    /**
+     * Combines 4 independent results into one, calling the combiner once with all payloads.
+     *
+     * @param r1 the first result. <b>Not null.</b>
+     * @param r2 the second result. <b>Not null.</b>
+     * @param r3 the third result. <b>Not null.</b>
+     * @param r4 the fourth result. <b>Not null.</b>
+     * @param combiner function that combines the payloads and may throw checked exceptions. <b>Not null.</b>
+     *
+     * @return the combined result, or the first failure
+     *
+     * @param <T1> Type of the first payload
+     * @param <T2> Type of the second payload
+     * @param <T3> Type of the third payload
+     * @param <T4> Type of the fourth payload
+     * @param <R> Type of the combined payload
+     *
+     * @see #zip(Result, Result, CheckedBiFunction)
+     */
+
+    static <T1, T2, T3, T4, R> Result<R> zip(@NonNull Result<T1> r1, @NonNull Result<T2> r2, @NonNull Result<T3> r3, @NonNull Result<T4> r4, @NonNull CheckedFunction4<T1, T2, T3, T4, R> combiner)
+    {
+        return combine(false, r1, r2, r3, r4, combiner);
+    }
+
+    /**
+     * Combines 5 independent results into one, calling the combiner once with all payloads.
+     *
+     * @param r1 the first result. <b>Not null.</b>
+     * @param r2 the second result. <b>Not null.</b>
+     * @param r3 the third result. <b>Not null.</b>
+     * @param r4 the fourth result. <b>Not null.</b>
+     * @param r5 the fifth result. <b>Not null.</b>
+     * @param combiner function that combines the payloads and may throw checked exceptions. <b>Not null.</b>
+     *
+     * @return the combined result, or the first failure
+     *
+     * @param <T1> Type of the first payload
+     * @param <T2> Type of the second payload
+     * @param <T3> Type of the third payload
+     * @param <T4> Type of the fourth payload
+     * @param <T5> Type of the fifth payload
+     * @param <R> Type of the combined payload
+     *
+     * @see #zip(Result, Result, CheckedBiFunction)
+     */
+
+    static <T1, T2, T3, T4, T5, R> Result<R> zip(@NonNull Result<T1> r1, @NonNull Result<T2> r2, @NonNull Result<T3> r3, @NonNull Result<T4> r4, @NonNull Result<T5> r5, @NonNull CheckedFunction5<T1, T2, T3, T4, T5, R> combiner)
+    {
+        return combine(false, r1, r2, r3, r4, r5, combiner);
+    }
+
+    /**
+     * Combines 6 independent results into one, calling the combiner once with all payloads.
+     *
+     * @param r1 the first result. <b>Not null.</b>
+     * @param r2 the second result. <b>Not null.</b>
+     * @param r3 the third result. <b>Not null.</b>
+     * @param r4 the fourth result. <b>Not null.</b>
+     * @param r5 the fifth result. <b>Not null.</b>
+     * @param r6 the sixth result. <b>Not null.</b>
+     * @param combiner function that combines the payloads and may throw checked exceptions. <b>Not null.</b>
+     *
+     * @return the combined result, or the first failure
+     *
+     * @param <T1> Type of the first payload
+     * @param <T2> Type of the second payload
+     * @param <T3> Type of the third payload
+     * @param <T4> Type of the fourth payload
+     * @param <T5> Type of the fifth payload
+     * @param <T6> Type of the sixth payload
+     * @param <R> Type of the combined payload
+     *
+     * @see #zip(Result, Result, CheckedBiFunction)
+     */
+
+    static <T1, T2, T3, T4, T5, T6, R> Result<R> zip(@NonNull Result<T1> r1, @NonNull Result<T2> r2, @NonNull Result<T3> r3, @NonNull Result<T4> r4, @NonNull Result<T5> r5, @NonNull Result<T6> r6, @NonNull CheckedFunction6<T1, T2, T3, T4, T5, T6, R> combiner)
+    {
+        return combine(false, r1, r2, r3, r4, r5, r6, combiner);
+    }
+
+    /**
+     * Combines 7 independent results into one, calling the combiner once with all payloads.
+     *
+     * @param r1 the first result. <b>Not null.</b>
+     * @param r2 the second result. <b>Not null.</b>
+     * @param r3 the third result. <b>Not null.</b>
+     * @param r4 the fourth result. <b>Not null.</b>
+     * @param r5 the fifth result. <b>Not null.</b>
+     * @param r6 the sixth result. <b>Not null.</b>
+     * @param r7 the seventh result. <b>Not null.</b>
+     * @param combiner function that combines the payloads and may throw checked exceptions. <b>Not null.</b>
+     *
+     * @return the combined result, or the first failure
+     *
+     * @param <T1> Type of the first payload
+     * @param <T2> Type of the second payload
+     * @param <T3> Type of the third payload
+     * @param <T4> Type of the fourth payload
+     * @param <T5> Type of the fifth payload
+     * @param <T6> Type of the sixth payload
+     * @param <T7> Type of the seventh payload
+     * @param <R> Type of the combined payload
+     *
+     * @see #zip(Result, Result, CheckedBiFunction)
+     */
+
+    static <T1, T2, T3, T4, T5, T6, T7, R> Result<R> zip(@NonNull Result<T1> r1, @NonNull Result<T2> r2, @NonNull Result<T3> r3, @NonNull Result<T4> r4, @NonNull Result<T5> r5, @NonNull Result<T6> r6, @NonNull Result<T7> r7, @NonNull CheckedFunction7<T1, T2, T3, T4, T5, T6, T7, R> combiner)
+    {
+        return combine(false, r1, r2, r3, r4, r5, r6, r7, combiner);
+    }
+
+    /**
+     * Combines 8 independent results into one, calling the combiner once with all payloads.
+     *
+     * @param r1 the first result. <b>Not null.</b>
+     * @param r2 the second result. <b>Not null.</b>
+     * @param r3 the third result. <b>Not null.</b>
+     * @param r4 the fourth result. <b>Not null.</b>
+     * @param r5 the fifth result. <b>Not null.</b>
+     * @param r6 the sixth result. <b>Not null.</b>
+     * @param r7 the seventh result. <b>Not null.</b>
+     * @param r8 the eighth result. <b>Not null.</b>
+     * @param combiner function that combines the payloads and may throw checked exceptions. <b>Not null.</b>
+     *
+     * @return the combined result, or the first failure
+     *
+     * @param <T1> Type of the first payload
+     * @param <T2> Type of the second payload
+     * @param <T3> Type of the third payload
+     * @param <T4> Type of the fourth payload
+     * @param <T5> Type of the fifth payload
+     * @param <T6> Type of the sixth payload
+     * @param <T7> Type of the seventh payload
+     * @param <T8> Type of the eighth payload
+     * @param <R> Type of the combined payload
+     *
+     * @see #zip(Result, Result, CheckedBiFunction)
+     */
+
+    static <T1, T2, T3, T4, T5, T6, T7, T8, R> Result<R> zip(@NonNull Result<T1> r1, @NonNull Result<T2> r2, @NonNull Result<T3> r3, @NonNull Result<T4> r4, @NonNull Result<T5> r5, @NonNull Result<T6> r6, @NonNull Result<T7> r7, @NonNull Result<T8> r8, @NonNull CheckedFunction8<T1, T2, T3, T4, T5, T6, T7, T8, R> combiner)
+    {
+        return combine(false, r1, r2, r3, r4, r5, r6, r7, r8, combiner);
+    }
+
+    /**
+     * Combines two independent results into one, keeping every failure.
+     * <p>
+     * Behaves as {@link #zip(Result, Result, CheckedBiFunction)} when every result is a success. Otherwise the first
+     * failure, in argument order, is returned with any other failures chained behind it through
+     * {@code precedingFailure}. A single failure is returned as is.
+     *
+     * @param r1 the first result. <b>Not null.</b>
+     * @param r2 the second result. <b>Not null.</b>
+     * @param combiner function that combines the payloads and may throw checked exceptions. <b>Not null.</b>
+     *
+     * @return the combined result, or the failures
+     *
+     * @param <T1> Type of the first payload
+     * @param <T2> Type of the second payload
+     * @param <R> Type of the combined payload
+     */
+
+    static <T1, T2, R> Result<R> zipAccumulating(@NonNull Result<T1> r1, @NonNull Result<T2> r2, @NonNull CheckedBiFunction<T1, T2, R> combiner)
+    {
+        return combine(true, r1, r2, combiner);
+    }
+
+    /**
+     * Combines 3 independent results into one, keeping every failure.
+     *
+     * @param r1 the first result. <b>Not null.</b>
+     * @param r2 the second result. <b>Not null.</b>
+     * @param r3 the third result. <b>Not null.</b>
+     * @param combiner function that combines the payloads and may throw checked exceptions. <b>Not null.</b>
+     *
+     * @return the combined result, or the failures
+     *
+     * @param <T1> Type of the first payload
+     * @param <T2> Type of the second payload
+     * @param <T3> Type of the third payload
+     * @param <R> Type of the combined payload
+     *
+     * @see #zipAccumulating(Result, Result, CheckedBiFunction)
+     */
+
+    static <T1, T2, T3, R> Result<R> zipAccumulating(@NonNull Result<T1> r1, @NonNull Result<T2> r2, @NonNull Result<T3> r3, @NonNull CheckedFunction3<T1, T2, T3, R> combiner)
+    {
+        return combine(true, r1, r2, r3, combiner);
+    }
+
+    /**
+     * Combines 4 independent results into one, keeping every failure.
+     *
+     * @param r1 the first result. <b>Not null.</b>
+     * @param r2 the second result. <b>Not null.</b>
+     * @param r3 the third result. <b>Not null.</b>
+     * @param r4 the fourth result. <b>Not null.</b>
+     * @param combiner function that combines the payloads and may throw checked exceptions. <b>Not null.</b>
+     *
+     * @return the combined result, or the failures
+     *
+     * @param <T1> Type of the first payload
+     * @param <T2> Type of the second payload
+     * @param <T3> Type of the third payload
+     * @param <T4> Type of the fourth payload
+     * @param <R> Type of the combined payload
+     *
+     * @see #zipAccumulating(Result, Result, CheckedBiFunction)
+     */
+
+    static <T1, T2, T3, T4, R> Result<R> zipAccumulating(@NonNull Result<T1> r1, @NonNull Result<T2> r2, @NonNull Result<T3> r3, @NonNull Result<T4> r4, @NonNull CheckedFunction4<T1, T2, T3, T4, R> combiner)
+    {
+        return combine(true, r1, r2, r3, r4, combiner);
+    }
+
+    /**
+     * Combines 5 independent results into one, keeping every failure.
+     *
+     * @param r1 the first result. <b>Not null.</b>
+     * @param r2 the second result. <b>Not null.</b>
+     * @param r3 the third result. <b>Not null.</b>
+     * @param r4 the fourth result. <b>Not null.</b>
+     * @param r5 the fifth result. <b>Not null.</b>
+     * @param combiner function that combines the payloads and may throw checked exceptions. <b>Not null.</b>
+     *
+     * @return the combined result, or the failures
+     *
+     * @param <T1> Type of the first payload
+     * @param <T2> Type of the second payload
+     * @param <T3> Type of the third payload
+     * @param <T4> Type of the fourth payload
+     * @param <T5> Type of the fifth payload
+     * @param <R> Type of the combined payload
+     *
+     * @see #zipAccumulating(Result, Result, CheckedBiFunction)
+     */
+
+    static <T1, T2, T3, T4, T5, R> Result<R> zipAccumulating(@NonNull Result<T1> r1, @NonNull Result<T2> r2, @NonNull Result<T3> r3, @NonNull Result<T4> r4, @NonNull Result<T5> r5, @NonNull CheckedFunction5<T1, T2, T3, T4, T5, R> combiner)
+    {
+        return combine(true, r1, r2, r3, r4, r5, combiner);
+    }
+
+    /**
+     * Combines 6 independent results into one, keeping every failure.
+     *
+     * @param r1 the first result. <b>Not null.</b>
+     * @param r2 the second result. <b>Not null.</b>
+     * @param r3 the third result. <b>Not null.</b>
+     * @param r4 the fourth result. <b>Not null.</b>
+     * @param r5 the fifth result. <b>Not null.</b>
+     * @param r6 the sixth result. <b>Not null.</b>
+     * @param combiner function that combines the payloads and may throw checked exceptions. <b>Not null.</b>
+     *
+     * @return the combined result, or the failures
+     *
+     * @param <T1> Type of the first payload
+     * @param <T2> Type of the second payload
+     * @param <T3> Type of the third payload
+     * @param <T4> Type of the fourth payload
+     * @param <T5> Type of the fifth payload
+     * @param <T6> Type of the sixth payload
+     * @param <R> Type of the combined payload
+     *
+     * @see #zipAccumulating(Result, Result, CheckedBiFunction)
+     */
+
+    static <T1, T2, T3, T4, T5, T6, R> Result<R> zipAccumulating(@NonNull Result<T1> r1, @NonNull Result<T2> r2, @NonNull Result<T3> r3, @NonNull Result<T4> r4, @NonNull Result<T5> r5, @NonNull Result<T6> r6, @NonNull CheckedFunction6<T1, T2, T3, T4, T5, T6, R> combiner)
+    {
+        return combine(true, r1, r2, r3, r4, r5, r6, combiner);
+    }
+
+    /**
+     * Combines 7 independent results into one, keeping every failure.
+     *
+     * @param r1 the first result. <b>Not null.</b>
+     * @param r2 the second result. <b>Not null.</b>
+     * @param r3 the third result. <b>Not null.</b>
+     * @param r4 the fourth result. <b>Not null.</b>
+     * @param r5 the fifth result. <b>Not null.</b>
+     * @param r6 the sixth result. <b>Not null.</b>
+     * @param r7 the seventh result. <b>Not null.</b>
+     * @param combiner function that combines the payloads and may throw checked exceptions. <b>Not null.</b>
+     *
+     * @return the combined result, or the failures
+     *
+     * @param <T1> Type of the first payload
+     * @param <T2> Type of the second payload
+     * @param <T3> Type of the third payload
+     * @param <T4> Type of the fourth payload
+     * @param <T5> Type of the fifth payload
+     * @param <T6> Type of the sixth payload
+     * @param <T7> Type of the seventh payload
+     * @param <R> Type of the combined payload
+     *
+     * @see #zipAccumulating(Result, Result, CheckedBiFunction)
+     */
+
+    static <T1, T2, T3, T4, T5, T6, T7, R> Result<R> zipAccumulating(@NonNull Result<T1> r1, @NonNull Result<T2> r2, @NonNull Result<T3> r3, @NonNull Result<T4> r4, @NonNull Result<T5> r5, @NonNull Result<T6> r6, @NonNull Result<T7> r7, @NonNull CheckedFunction7<T1, T2, T3, T4, T5, T6, T7, R> combiner)
+    {
+        return combine(true, r1, r2, r3, r4, r5, r6, r7, combiner);
+    }
+
+    /**
+     * Combines 8 independent results into one, keeping every failure.
+     *
+     * @param r1 the first result. <b>Not null.</b>
+     * @param r2 the second result. <b>Not null.</b>
+     * @param r3 the third result. <b>Not null.</b>
+     * @param r4 the fourth result. <b>Not null.</b>
+     * @param r5 the fifth result. <b>Not null.</b>
+     * @param r6 the sixth result. <b>Not null.</b>
+     * @param r7 the seventh result. <b>Not null.</b>
+     * @param r8 the eighth result. <b>Not null.</b>
+     * @param combiner function that combines the payloads and may throw checked exceptions. <b>Not null.</b>
+     *
+     * @return the combined result, or the failures
+     *
+     * @param <T1> Type of the first payload
+     * @param <T2> Type of the second payload
+     * @param <T3> Type of the third payload
+     * @param <T4> Type of the fourth payload
+     * @param <T5> Type of the fifth payload
+     * @param <T6> Type of the sixth payload
+     * @param <T7> Type of the seventh payload
+     * @param <T8> Type of the eighth payload
+     * @param <R> Type of the combined payload
+     *
+     * @see #zipAccumulating(Result, Result, CheckedBiFunction)
+     */
+
+    static <T1, T2, T3, T4, T5, T6, T7, T8, R> Result<R> zipAccumulating(@NonNull Result<T1> r1, @NonNull Result<T2> r2, @NonNull Result<T3> r3, @NonNull Result<T4> r4, @NonNull Result<T5> r5, @NonNull Result<T6> r6, @NonNull Result<T7> r7, @NonNull Result<T8> r8, @NonNull CheckedFunction8<T1, T2, T3, T4, T5, T6, T7, T8, R> combiner)
+    {
+        return combine(true, r1, r2, r3, r4, r5, r6, r7, r8, combiner);
+    }
+
+    private static <T1, T2, R> Result<R> combine(boolean accumulate, Result<T1> r1, Result<T2> r2, CheckedBiFunction<T1, T2, R> combiner)
+    {
+        Objects.requireNonNull(r1, "Result cannot be null");
+        Objects.requireNonNull(r2, "Result cannot be null");
+        Objects.requireNonNull(combiner, "Combiner function cannot be null");
+
+        if (r1 instanceof Success<T1> s1 && r2 instanceof Success<T2> s2)
+        {
+            try
+            {
+                return Try.success(combiner.apply(s1.get(), s2.get()));
+            }
+            catch (Exception e)
+            {
+                return Try.failureFrom(e);
+            }
+        }
+
+        return Zip.failure(accumulate, r1, r2);
+    }
+
+    private static <T1, T2, T3, R> Result<R> combine(boolean accumulate, Result<T1> r1, Result<T2> r2, Result<T3> r3, CheckedFunction3<T1, T2, T3, R> combiner)
+    {
+        Objects.requireNonNull(r1, "Result cannot be null");
+        Objects.requireNonNull(r2, "Result cannot be null");
+        Objects.requireNonNull(r3, "Result cannot be null");
+        Objects.requireNonNull(combiner, "Combiner function cannot be null");
+
+        if (r1 instanceof Success<T1> s1 && r2 instanceof Success<T2> s2 && r3 instanceof Success<T3> s3)
+        {
+            try
+            {
+                return Try.success(combiner.apply(s1.get(), s2.get(), s3.get()));
+            }
+            catch (Exception e)
+            {
+                return Try.failureFrom(e);
+            }
+        }
+
+        return Zip.failure(accumulate, r1, r2, r3);
+    }
+
+    private static <T1, T2, T3, T4, R> Result<R> combine(boolean accumulate, Result<T1> r1, Result<T2> r2, Result<T3> r3, Result<T4> r4, CheckedFunction4<T1, T2, T3, T4, R> combiner)
+    {
+        Objects.requireNonNull(r1, "Result cannot be null");
+        Objects.requireNonNull(r2, "Result cannot be null");
+        Objects.requireNonNull(r3, "Result cannot be null");
+        Objects.requireNonNull(r4, "Result cannot be null");
+        Objects.requireNonNull(combiner, "Combiner function cannot be null");
+
+        if (r1 instanceof Success<T1> s1
+            && r2 instanceof Success<T2> s2
+            && r3 instanceof Success<T3> s3
+            && r4 instanceof Success<T4> s4)
+        {
+            try
+            {
+                return Try.success(combiner.apply(s1.get(), s2.get(), s3.get(), s4.get()));
+            }
+            catch (Exception e)
+            {
+                return Try.failureFrom(e);
+            }
+        }
+
+        return Zip.failure(accumulate, r1, r2, r3, r4);
+    }
+
+    private static <T1, T2, T3, T4, T5, R> Result<R> combine(boolean accumulate, Result<T1> r1, Result<T2> r2, Result<T3> r3, Result<T4> r4, Result<T5> r5, CheckedFunction5<T1, T2, T3, T4, T5, R> combiner)
+    {
+        Objects.requireNonNull(r1, "Result cannot be null");
+        Objects.requireNonNull(r2, "Result cannot be null");
+        Objects.requireNonNull(r3, "Result cannot be null");
+        Objects.requireNonNull(r4, "Result cannot be null");
+        Objects.requireNonNull(r5, "Result cannot be null");
+        Objects.requireNonNull(combiner, "Combiner function cannot be null");
+
+        if (r1 instanceof Success<T1> s1
+            && r2 instanceof Success<T2> s2
+            && r3 instanceof Success<T3> s3
+            && r4 instanceof Success<T4> s4
+            && r5 instanceof Success<T5> s5)
+        {
+            try
+            {
+                return Try.success(combiner.apply(s1.get(), s2.get(), s3.get(), s4.get(), s5.get()));
+            }
+            catch (Exception e)
+            {
+                return Try.failureFrom(e);
+            }
+        }
+
+        return Zip.failure(accumulate, r1, r2, r3, r4, r5);
+    }
+
+    private static <T1, T2, T3, T4, T5, T6, R> Result<R> combine(boolean accumulate, Result<T1> r1, Result<T2> r2, Result<T3> r3, Result<T4> r4, Result<T5> r5, Result<T6> r6, CheckedFunction6<T1, T2, T3, T4, T5, T6, R> combiner)
+    {
+        Objects.requireNonNull(r1, "Result cannot be null");
+        Objects.requireNonNull(r2, "Result cannot be null");
+        Objects.requireNonNull(r3, "Result cannot be null");
+        Objects.requireNonNull(r4, "Result cannot be null");
+        Objects.requireNonNull(r5, "Result cannot be null");
+        Objects.requireNonNull(r6, "Result cannot be null");
+        Objects.requireNonNull(combiner, "Combiner function cannot be null");
+
+        if (r1 instanceof Success<T1> s1
+            && r2 instanceof Success<T2> s2
+            && r3 instanceof Success<T3> s3
+            && r4 instanceof Success<T4> s4
+            && r5 instanceof Success<T5> s5
+            && r6 instanceof Success<T6> s6)
+        {
+            try
+            {
+                return Try.success(combiner.apply(s1.get(), s2.get(), s3.get(), s4.get(), s5.get(), s6.get()));
+            }
+            catch (Exception e)
+            {
+                return Try.failureFrom(e);
+            }
+        }
+
+        return Zip.failure(accumulate, r1, r2, r3, r4, r5, r6);
+    }
+
+    private static <T1, T2, T3, T4, T5, T6, T7, R> Result<R> combine(boolean accumulate, Result<T1> r1, Result<T2> r2, Result<T3> r3, Result<T4> r4, Result<T5> r5, Result<T6> r6, Result<T7> r7, CheckedFunction7<T1, T2, T3, T4, T5, T6, T7, R> combiner)
+    {
+        Objects.requireNonNull(r1, "Result cannot be null");
+        Objects.requireNonNull(r2, "Result cannot be null");
+        Objects.requireNonNull(r3, "Result cannot be null");
+        Objects.requireNonNull(r4, "Result cannot be null");
+        Objects.requireNonNull(r5, "Result cannot be null");
+        Objects.requireNonNull(r6, "Result cannot be null");
+        Objects.requireNonNull(r7, "Result cannot be null");
+        Objects.requireNonNull(combiner, "Combiner function cannot be null");
+
+        if (r1 instanceof Success<T1> s1
+            && r2 instanceof Success<T2> s2
+            && r3 instanceof Success<T3> s3
+            && r4 instanceof Success<T4> s4
+            && r5 instanceof Success<T5> s5
+            && r6 instanceof Success<T6> s6
+            && r7 instanceof Success<T7> s7)
+        {
+            try
+            {
+                return Try.success(combiner.apply(s1.get(), s2.get(), s3.get(), s4.get(), s5.get(), s6.get(), s7.get()));
+            }
+            catch (Exception e)
+            {
+                return Try.failureFrom(e);
+            }
+        }
+
+        return Zip.failure(accumulate, r1, r2, r3, r4, r5, r6, r7);
+    }
+
+    private static <T1, T2, T3, T4, T5, T6, T7, T8, R> Result<R> combine(boolean accumulate, Result<T1> r1, Result<T2> r2, Result<T3> r3, Result<T4> r4, Result<T5> r5, Result<T6> r6, Result<T7> r7, Result<T8> r8, CheckedFunction8<T1, T2, T3, T4, T5, T6, T7, T8, R> combiner)
+    {
+        Objects.requireNonNull(r1, "Result cannot be null");
+        Objects.requireNonNull(r2, "Result cannot be null");
+        Objects.requireNonNull(r3, "Result cannot be null");
+        Objects.requireNonNull(r4, "Result cannot be null");
+        Objects.requireNonNull(r5, "Result cannot be null");
+        Objects.requireNonNull(r6, "Result cannot be null");
+        Objects.requireNonNull(r7, "Result cannot be null");
+        Objects.requireNonNull(r8, "Result cannot be null");
+        Objects.requireNonNull(combiner, "Combiner function cannot be null");
+
+        if (r1 instanceof Success<T1> s1
+            && r2 instanceof Success<T2> s2
+            && r3 instanceof Success<T3> s3
+            && r4 instanceof Success<T4> s4
+            && r5 instanceof Success<T5> s5
+            && r6 instanceof Success<T6> s6
+            && r7 instanceof Success<T7> s7
+            && r8 instanceof Success<T8> s8)
+        {
+            try
+            {
+                return Try.success(combiner.apply(s1.get(), s2.get(), s3.get(), s4.get(), s5.get(), s6.get(), s7.get(), s8.get()));
+            }
+            catch (Exception e)
+            {
+                return Try.failureFrom(e);
+            }
+        }
+
+        return Zip.failure(accumulate, r1, r2, r3, r4, r5, r6, r7, r8);
+    }
+
 }
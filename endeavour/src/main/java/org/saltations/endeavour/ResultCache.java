@@ -0,0 +1,515 @@
+package org.saltations.endeavour;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * Memoizes a loading function, keeping the {@code Result} of each key for a while so repeated calls for the same key
+ * do not reach the backing store.
+ * <p>
+ * Successes are kept for {@code successTtl} and failures for the usually much shorter {@code failureTtl}, so that a
+ * broken key is retried now and then rather than on every call. A failure TTL of zero keeps no failures. Failures from
+ * an interrupted load are never kept. Concurrent misses on the same key share one load through a
+ * {@link SingleFlight}, and every caller receives the same {@code Result}.
+ * <p>
+ * At most {@code maximumSize} keys are kept. Eviction follows a segmented LRU: a key enters a probationary segment and
+ * is promoted to a protected segment, sized at 80% of the cache, when it is read again. The least recently used
+ * probationary key is evicted first, so a burst of keys read once cannot push out the keys read often. Lookups use a
+ * {@code ConcurrentHashMap}; the recency order is kept under a lock that reads only try to take, so a read never
+ * waits and under heavy contention some reads are not recorded.
+ * <p>
+ * Expired entries are not swept; they are reloaded when next read or evicted when the cache is full.
+ *
+ * <p>
+ * <b>Example:</b>
+ * <pre>{@code
+ *   static final ResultCache<String, Product> PRODUCTS = ResultCache.of(store::load)
+ *                                                                   .maximumSize(50_000)
+ *                                                                   .successTtl(Duration.ofMinutes(10))
+ *                                                                   .failureTtl(Duration.ofSeconds(2))
+ *                                                                   .build();
+ *
+ *   var product = PRODUCTS.apply(sku);
+ * }
+ * </pre>
+ *
+ * @param <K> Key type. Keys must have consistent {@code equals} and {@code hashCode}.
+ * @param <V> Success payload type
+ *
+ * @see Try#memoize(CheckedFunction)
+ */
+
+@Getter
+public final class ResultCache<K, V> implements Function<K, Result<V>>
+{
+    private final int maximumSize;
+    private final Duration successTtl;
+    private final Duration failureTtl;
+
+    @Getter(AccessLevel.NONE)
+    private final CheckedFunction<K, V> loader;
+
+    @Getter(AccessLevel.NONE)
+    private final long successTtlNanos;
+
+    @Getter(AccessLevel.NONE)
+    private final long failureTtlNanos;
+
+    @Getter(AccessLevel.NONE)
+    private final int protectedMaximum;
+
+    @Getter(AccessLevel.NONE)
+    private final LongSupplier clock;
+
+    @Getter(AccessLevel.NONE)
+    private final ConcurrentHashMap<K, Entry<K, V>> entries = new ConcurrentHashMap<>();
+
+    @Getter(AccessLevel.NONE)
+    private final SingleFlight<K, Result<V>> loads = new SingleFlight<>();
+
+    /**
+     * Guards the segment lists and their sizes.
+     */
+
+    @Getter(AccessLevel.NONE)
+    private final ReentrantLock policy = new ReentrantLock();
+
+    @Getter(AccessLevel.NONE)
+    private final Segment<K, V> probation = new Segment<>();
+
+    @Getter(AccessLevel.NONE)
+    private final Segment<K, V> protectedSegment = new Segment<>();
+
+    @Getter(AccessLevel.NONE)
+    private final LongAdder hits = new LongAdder();
+
+    @Getter(AccessLevel.NONE)
+    private final LongAdder misses = new LongAdder();
+
+    @Getter(AccessLevel.NONE)
+    private final LongAdder loadCount = new LongAdder();
+
+    @Getter(AccessLevel.NONE)
+    private final LongAdder evictions = new LongAdder();
+
+    ResultCache(Builder<K, V> builder, LongSupplier clock)
+    {
+        this.loader = builder.loader;
+        this.maximumSize = builder.maximumSize;
+        this.successTtl = builder.successTtl;
+        this.failureTtl = builder.failureTtl;
+        this.successTtlNanos = successTtl.toNanos();
+        this.failureTtlNanos = failureTtl.toNanos();
+        this.protectedMaximum = Math.max(1, (int) (maximumSize * 0.8));
+        this.clock = clock;
+    }
+
+    /**
+     * Starts a new cache around the given loading function. Without further settings it keeps up to 10,000 keys,
+     * successes for 5 minutes and failures for 5 seconds.
+     *
+     * @param loader function that loads the value of a key and may throw checked exceptions. <b>Not null</b>.
+     *
+     * @return A new Builder instance
+     *
+     * @param <K> Key type
+     * @param <V> Success payload type
+     */
+
+    public static <K, V> Builder<K, V> of(@NonNull CheckedFunction<K, V> loader)
+    {
+        Objects.requireNonNull(loader, "Loader function cannot be null");
+
+        return new Builder<>(loader);
+    }
+
+    /**
+     * Returns the kept result for the key, loading it if it is missing or has expired.
+     *
+     * @param key the key to look up. <b>Not null.</b>
+     *
+     * @return the kept result, or the result of loading the key as from {@link Try#attempt(CheckedSupplier)}. A caller
+     * interrupted while waiting on another caller's load gets a {@code GENERIC_INTERRUPTED_EXCEPTION} failure.
+     */
+
+    @Override
+    public Result<V> apply(@NonNull K key)
+    {
+        Objects.requireNonNull(key, "Key cannot be null");
+
+        var entry = entries.get(key);
+
+        if (entry != null && !entry.isExpired(clock.getAsLong()))
+        {
+            hits.increment();
+            recordAccess(entry);
+
+            return entry.result;
+        }
+
+        misses.increment();
+
+        return switch (loads.attempt(key, () -> load(key)))
+        {
+            case Success<Result<V>> loaded -> loaded.get();
+            case Failure<Result<V>> failure -> failure.cast();
+        };
+    }
+
+    /**
+     * Discards the kept result for the key, if any.
+     *
+     * @param key the key to discard. <b>Not null.</b>
+     */
+
+    public void invalidate(@NonNull K key)
+    {
+        Objects.requireNonNull(key, "Key cannot be null");
+
+        var entry = entries.remove(key);
+
+        if (entry != null)
+        {
+            policy.lock();
+
+            try
+            {
+                unlink(entry);
+            }
+            finally
+            {
+                policy.unlock();
+            }
+        }
+    }
+
+    /**
+     * Returns the number of keys kept, including any that have expired but not yet been reloaded or evicted.
+     *
+     * @return the number of keys kept
+     */
+
+    public int size()
+    {
+        return entries.size();
+    }
+
+    /**
+     * Returns a snapshot of the counts of hits, misses, loads and evictions since the cache was built.
+     *
+     * @return the statistics
+     */
+
+    public Stats getStats()
+    {
+        return new Stats(hits.sum(), misses.sum(), loadCount.sum(), evictions.sum());
+    }
+
+    /**
+     * Loads the key, unless a load that finished just before this one started has already kept a result for it.
+     */
+
+    private Result<V> load(K key)
+    {
+        var now = clock.getAsLong();
+        var entry = entries.get(key);
+
+        if (entry != null && !entry.isExpired(now))
+        {
+            return entry.result;
+        }
+
+        loadCount.increment();
+
+        var result = Try.attempt(() -> loader.apply(key));
+        var ttl = result instanceof Failure<V> failure ? failureTtlFor(failure) : successTtlNanos;
+
+        if (ttl > 0L)
+        {
+            keep(new Entry<>(key, result, clock.getAsLong() + ttl));
+        }
+
+        return result;
+    }
+
+    private long failureTtlFor(Failure<V> failure)
+    {
+        return failure.getType() == FailureDescription.GenericFailureType.GENERIC_INTERRUPTED_EXCEPTION ? 0L : failureTtlNanos;
+    }
+
+    private void keep(Entry<K, V> entry)
+    {
+        var replaced = entries.put(entry.key, entry);
+
+        policy.lock();
+
+        try
+        {
+            if (replaced != null)
+            {
+                unlink(replaced);
+            }
+
+            // A later load or an invalidation may already have replaced or removed this entry
+
+            if (entries.get(entry.key) != entry)
+            {
+                return;
+            }
+
+            probation.addFirst(entry);
+
+            while (probation.size + protectedSegment.size > maximumSize)
+            {
+                var victim = probation.size > 0 ? probation.last() : protectedSegment.last();
+
+                unlink(victim);
+                entries.remove(victim.key, victim);
+                evictions.increment();
+            }
+        }
+        finally
+        {
+            policy.unlock();
+        }
+    }
+
+    /**
+     * Moves a read entry to the front of the protected segment. Skipped when another thread holds the lock.
+     */
+
+    private void recordAccess(Entry<K, V> entry)
+    {
+        if (!policy.tryLock())
+        {
+            return;
+        }
+
+        try
+        {
+            if (entry.segment == null)
+            {
+                return;
+            }
+
+            unlink(entry);
+            protectedSegment.addFirst(entry);
+
+            if (protectedSegment.size > protectedMaximum)
+            {
+                var demoted = protectedSegment.last();
+
+                unlink(demoted);
+                probation.addFirst(demoted);
+            }
+        }
+        finally
+        {
+            policy.unlock();
+        }
+    }
+
+    private void unlink(Entry<K, V> entry)
+    {
+        if (entry.segment != null)
+        {
+            entry.segment.remove(entry);
+        }
+    }
+
+    /**
+     * Counts of cache activity.
+     *
+     * @param hitCount calls answered from a kept result
+     * @param missCount calls that found no live result and loaded one or joined a load in flight
+     * @param loadCount calls of the loading function
+     * @param evictionCount keys discarded to stay within the maximum size
+     */
+
+    public record Stats(long hitCount, long missCount, long loadCount, long evictionCount)
+    {
+        /**
+         * Returns the share of calls answered from a kept result.
+         *
+         * @return the hit rate between 0.0 and 1.0, or 1.0 if there have been no calls
+         */
+
+        public double hitRate()
+        {
+            var requests = hitCount + missCount;
+
+            return requests == 0L ? 1.0 : (double) hitCount / requests;
+        }
+    }
+
+    /**
+     * A kept result and its place in the recency order.
+     */
+
+    private static final class Entry<K, V>
+    {
+        private final K key;
+        private final Result<V> result;
+        private final long expiresAtNanos;
+
+        private Segment<K, V> segment;
+        private Entry<K, V> previous;
+        private Entry<K, V> next;
+
+        Entry(K key, Result<V> result, long expiresAtNanos)
+        {
+            this.key = key;
+            this.result = result;
+            this.expiresAtNanos = expiresAtNanos;
+        }
+
+        boolean isExpired(long now)
+        {
+            return now - expiresAtNanos >= 0L;
+        }
+    }
+
+    /**
+     * A doubly linked list of entries, most recently used first. Only used under the policy lock.
+     */
+
+    private static final class Segment<K, V>
+    {
+        private Entry<K, V> first;
+        private Entry<K, V> last;
+        private int size;
+
+        void addFirst(Entry<K, V> entry)
+        {
+            entry.segment = this;
+            entry.previous = null;
+            entry.next = first;
+
+            if (first == null)
+            {
+                last = entry;
+            }
+            else
+            {
+                first.previous = entry;
+            }
+
+            first = entry;
+            size++;
+        }
+
+        Entry<K, V> last()
+        {
+            return last;
+        }
+
+        void remove(Entry<K, V> entry)
+        {
+            if (entry.previous == null)
+            {
+                first = entry.next;
+            }
+            else
+            {
+                entry.previous.next = entry.next;
+            }
+
+            if (entry.next == null)
+            {
+                last = entry.previous;
+            }
+            else
+            {
+                entry.next.previous = entry.previous;
+            }
+
+            entry.segment = null;
+            entry.previous = null;
+            entry.next = null;
+            size--;
+        }
+    }
+
+    /**
+     * Builder for {@link ResultCache}.
+     */
+
+    public static final class Builder<K, V>
+    {
+        private final CheckedFunction<K, V> loader;
+        private int maximumSize = 10_000;
+        private Duration successTtl = Duration.ofMinutes(5);
+        private Duration failureTtl = Duration.ofSeconds(5);
+
+        private Builder(CheckedFunction<K, V> loader)
+        {
+            this.loader = loader;
+        }
+
+        /**
+         * Sets the largest number of keys kept.
+         *
+         * @param maximumSize the number of keys. <b>At least 1.</b>
+         *
+         * @return The builder instance.
+         */
+
+        public Builder<K, V> maximumSize(int maximumSize)
+        {
+            checkArgument(maximumSize >= 1, "Maximum size must be at least 1 but was %s", maximumSize);
+
+            this.maximumSize = maximumSize;
+            return this;
+        }
+
+        /**
+         * Sets how long a success is kept.
+         *
+         * @param successTtl the time to keep a success. <b>Not null, positive.</b>
+         *
+         * @return The builder instance.
+         */
+
+        public Builder<K, V> successTtl(Duration successTtl)
+        {
+            Objects.requireNonNull(successTtl, "Success TTL cannot be null");
+            checkArgument(!successTtl.isNegative() && !successTtl.isZero(), "Success TTL must be positive but was %s", successTtl);
+
+            this.successTtl = successTtl;
+            return this;
+        }
+
+        /**
+         * Sets how long a failure is kept. Zero keeps no failures.
+         *
+         * @param failureTtl the time to keep a failure. <b>Not null, not negative.</b>
+         *
+         * @return The builder instance.
+         */
+
+        public Builder<K, V> failureTtl(Duration failureTtl)
+        {
+            Objects.requireNonNull(failureTtl, "Failure TTL cannot be null");
+            checkArgument(!failureTtl.isNegative(), "Failure TTL cannot be negative: %s", failureTtl);
+
+            this.failureTtl = failureTtl;
+            return this;
+        }
+
+        public ResultCache<K, V> build()
+        {
+            return new ResultCache<>(this, System::nanoTime);
+        }
+    }
+}
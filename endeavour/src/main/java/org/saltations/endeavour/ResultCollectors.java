@@ -0,0 +1,221 @@
+package org.saltations.endeavour;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collector;
+
+/**
+ * Collectors that gather a stream of results in a single pass.
+ * <p>
+ * Each collector looks at every result once, without unwrapping it into an {@code Optional} or filtering the stream
+ * twice, and combines partial results correctly so it can be used with parallel streams. Where the order of values
+ * matters it is the encounter order of the stream.
+ *
+ * <p>
+ * <b>Example:</b>
+ * <pre>{@code
+ *   var rows = records.parallelStream()
+ *                     .map(record -> Try.attempt(() -> parser.parse(record)))
+ *                     .collect(ResultCollectors.partitioning());
+ *
+ *   load(rows.successes());
+ *   reject(rows.failures());
+ * }
+ * </pre>
+ */
+
+public final class ResultCollectors
+{
+    private ResultCollectors()
+    {
+    }
+
+    /**
+     * Returns a collector that splits results into the success payloads and the failures.
+     * <p>
+     * A {@code QualSuccess} contributes a {@code null} payload.
+     *
+     * @return a collector of a {@code Partition} holding the payloads and the failures in encounter order
+     *
+     * @param <T> Success payload type
+     */
+
+    public static <T> Collector<Result<T>, ?, Partition<T>> partitioning()
+    {
+        return Collector.of(Partitioner<T>::new, Partitioner::add, Partitioner::merge, Partitioner::finish);
+    }
+
+    /**
+     * Returns a collector that turns results into one result holding every success payload, or the first failure.
+     * <p>
+     * Once a failure is seen the payloads gathered so far are dropped and later results are ignored. A
+     * {@code QualSuccess} contributes a {@code null} payload.
+     *
+     * @return a collector of a {@code QuantSuccess} with the list of payloads in encounter order, or of the first
+     * failure in encounter order (the same instance)
+     *
+     * @param <T> Success payload type
+     */
+
+    public static <T> Collector<Result<T>, ?, Result<List<T>>> sequence()
+    {
+        return Collector.of(Sequencer<T>::new, Sequencer::add, Sequencer::merge, Sequencer::finish);
+    }
+
+    /**
+     * Returns a collector that groups the failures by their failure type. Successes are ignored.
+     *
+     * @return a collector of a map from failure type to the failures of that type in encounter order
+     *
+     * @param <T> Success payload type
+     */
+
+    public static <T> Collector<Result<T>, ?, Map<FailureType, List<Failure<T>>>> groupingByFailureType()
+    {
+        return Collector.of(HashMap<FailureType, List<Failure<T>>>::new,
+            (groups, result) -> {
+                if (result instanceof Failure<T> failure)
+                {
+                    groups.computeIfAbsent(failure.getType(), type -> new ArrayList<>()).add(failure);
+                }
+            },
+            (left, right) -> {
+                right.forEach((type, failures) -> left.merge(type, failures, (mine, theirs) -> {
+                    mine.addAll(theirs);
+                    return mine;
+                }));
+                return left;
+            });
+    }
+
+    /**
+     * Returns a collector that counts successes and failures.
+     *
+     * @return a collector of the {@code Counts}
+     *
+     * @param <T> Success payload type
+     */
+
+    public static <T> Collector<Result<T>, ?, Counts> counting()
+    {
+        return Collector.of(() -> new long[2],
+            (counts, result) -> counts[result instanceof Failure<T> ? 1 : 0]++,
+            (left, right) -> {
+                left[0] += right[0];
+                left[1] += right[1];
+                return left;
+            },
+            counts -> new Counts(counts[0], counts[1]),
+            Collector.Characteristics.UNORDERED);
+    }
+
+    /**
+     * The outcome of {@link #partitioning()}.
+     *
+     * @param successes the success payloads
+     * @param failures the failures
+     *
+     * @param <T> Success payload type
+     */
+
+    public record Partition<T>(List<T> successes, List<Failure<T>> failures)
+    {
+    }
+
+    /**
+     * The outcome of {@link #counting()}.
+     *
+     * @param successes the number of successes
+     * @param failures the number of failures
+     */
+
+    public record Counts(long successes, long failures)
+    {
+        /**
+         * Returns the number of results counted.
+         *
+         * @return the number of successes and failures together
+         */
+
+        public long total()
+        {
+            return successes + failures;
+        }
+    }
+
+    private static final class Partitioner<T>
+    {
+        private final ArrayList<T> successes = new ArrayList<>();
+        private final ArrayList<Failure<T>> failures = new ArrayList<>();
+
+        void add(Result<T> result)
+        {
+            switch (result)
+            {
+                case Failure<T> failure -> failures.add(failure);
+                case Success<T> success -> successes.add(success.get());
+            }
+        }
+
+        Partitioner<T> merge(Partitioner<T> other)
+        {
+            successes.addAll(other.successes);
+            failures.addAll(other.failures);
+            return this;
+        }
+
+        Partition<T> finish()
+        {
+            return new Partition<>(Collections.unmodifiableList(successes), Collections.unmodifiableList(failures));
+        }
+    }
+
+    private static final class Sequencer<T>
+    {
+        private ArrayList<T> values = new ArrayList<>();
+        private Failure<T> failure;
+
+        void add(Result<T> result)
+        {
+            if (failure != null)
+            {
+                return;
+            }
+
+            switch (result)
+            {
+                case Failure<T> first -> {
+                    failure = first;
+                    values = null;
+                }
+                case Success<T> success -> values.add(success.get());
+            }
+        }
+
+        Sequencer<T> merge(Sequencer<T> other)
+        {
+            // The left part comes first in encounter order, so its failure wins
+
+            if (failure != null)
+            {
+                return this;
+            }
+
+            if (other.failure != null)
+            {
+                return other;
+            }
+
+            values.addAll(other.values);
+            return this;
+        }
+
+        Result<List<T>> finish()
+        {
+            return failure != null ? failure.cast() : QuantSuccess.of(Collections.unmodifiableList(values));
+        }
+    }
+}
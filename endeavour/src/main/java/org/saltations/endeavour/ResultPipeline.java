@@ -0,0 +1,502 @@
+package org.saltations.endeavour;
+
+import java.util.ArrayDeque;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+import lombok.NonNull;
+
+/**
+ * A reusable chain of {@code map}, {@code flatMap}, {@code filter}, {@code recover} and {@code peek} steps that is
+ * assembled once and then applied to many inputs.
+ * <p>
+ * Chaining the same steps on a {@link Result} creates a new intermediate result at every step. A pipeline instead
+ * passes the bare value from step to step and only creates the final {@code Result}. On the first failure the
+ * remaining steps are skipped up to the next {@code recover} step, or to the end of the pipeline.
+ * <p>
+ * A chain written out in full at one hot call site is often inlined whole by the JIT, which then removes the
+ * intermediate results itself. A pipeline pays off where that cannot happen: chains assembled from steps held as
+ * data, chains shared by many callers, and chains too long for the inlining budget.
+ * <p>
+ * Unlike {@link Result#map(CheckedFunction)}, a pipeline never throws: exceptions raised by any step are converted
+ * to failures the same way as {@link Try#attempt(CheckedSupplier)} converts them.
+ * <p>
+ * A built pipeline is immutable and may be shared between threads. Builders are immutable too, so a partially
+ * built chain can be reused as the common prefix of several pipelines.
+ *
+ * <p>
+ * <b>Example:</b>
+ * <pre>{@code
+ *   private static final ResultPipeline<Request, Order> TO_ORDER = ResultPipeline.<Request>of()
+ *       .map(Request::body)
+ *       .filter(body -> !body.isBlank(), OrderFailure.EMPTY_BODY)
+ *       .flatMap(OrderParser::parse)
+ *       .peek(order -> log.debug("Parsed {}", order))
+ *       .recover(failure -> Order.EMPTY)
+ *       .build();
+ *
+ *   Result<Order> order = TO_ORDER.apply(request);
+ * }
+ * </pre>
+ *
+ * @param <T> type of the pipeline input
+ * @param <R> type of the payload of the pipeline result
+ */
+
+public final class ResultPipeline<T, R> implements CheckedFunction<T, Result<R>>
+{
+    private final Stage head;
+    private final Stage firstFailureTarget;
+
+    private ResultPipeline(Stage head)
+    {
+        this.head = head;
+        this.firstFailureTarget = head.failureTarget();
+    }
+
+    /**
+     * Starts a new pipeline over inputs of the given type.
+     *
+     * @param <T> type of the pipeline input
+     *
+     * @return an empty builder
+     */
+
+    public static <T> Builder<T, T> of()
+    {
+        return new Builder<>(null, null);
+    }
+
+    /**
+     * Runs the pipeline on the given input.
+     *
+     * @param input the input value. May be null, in which case the first step receives a null.
+     *
+     * @return the result of the last step, or the first failure that was not recovered
+     */
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Result<R> apply(T input)
+    {
+        return (Result<R>) head.accept(input);
+    }
+
+    /**
+     * Runs the pipeline on the payload of the given result. A failed input skips to the first {@code recover} step.
+     *
+     * @param input the input result. <b>Not null.</b>
+     *
+     * @return the result of the last step, or the first failure that was not recovered
+     */
+
+    @SuppressWarnings("unchecked")
+    public Result<R> apply(@NonNull Result<T> input)
+    {
+        Objects.requireNonNull(input, "Input result cannot be null");
+
+        return (Result<R>) switch (input)
+        {
+            case Failure<T> failure -> firstFailureTarget.reject(failure);
+            case Success<T> success -> head.accept(success.get());
+        };
+    }
+
+    /**
+     * Assembles the steps of a {@link ResultPipeline}.
+     *
+     * @param <T> type of the pipeline input
+     * @param <R> type of the value produced by the steps so far
+     */
+
+    public static final class Builder<T, R>
+    {
+        private final Builder<T, ?> previous;
+        private final StepDefinition step;
+
+        private Builder(Builder<T, ?> previous, StepDefinition step)
+        {
+            this.previous = previous;
+            this.step = step;
+        }
+
+        /**
+         * Adds a step that maps the value. A null from the mapping continues as a null value.
+         *
+         * @param mapping mapping function from R to U. <b>Not null.</b> <b>Must handle null values.</b>
+         *
+         * @param <U> type of the mapped value
+         *
+         * @return builder with the step added
+         */
+
+        public <U> Builder<T, U> map(@NonNull CheckedFunction<? super R, ? extends U> mapping)
+        {
+            Objects.requireNonNull(mapping, "Mapping function cannot be null");
+
+            return new Builder<>(this, new StepDefinition(StepKind.MAP, mapping, null));
+        }
+
+        /**
+         * Adds a step that maps the value to a {@code Result}. A failure from the mapping short-circuits the pipeline.
+         *
+         * @param mapping mapping function from R to {@code Result<U>}. <b>Not null.</b> <b>Must handle null values.</b>
+         *
+         * @param <U> type of the payload of the mapped result
+         *
+         * @return builder with the step added
+         */
+
+        public <U> Builder<T, U> flatMap(@NonNull CheckedFunction<? super R, ? extends Result<U>> mapping)
+        {
+            Objects.requireNonNull(mapping, "Mapping function cannot be null");
+
+            return new Builder<>(this, new StepDefinition(StepKind.FLAT_MAP, mapping, null));
+        }
+
+        /**
+         * Adds a step that fails with a generic failure when the value does not match the predicate.
+         *
+         * @param predicate predicate the value must match. <b>Not null.</b>
+         *
+         * @return builder with the step added
+         */
+
+        public Builder<T, R> filter(@NonNull CheckedPredicate<? super R> predicate)
+        {
+            return filter(predicate, FailureDescription.GenericFailureType.GENERIC);
+        }
+
+        /**
+         * Adds a step that fails with the given failure type when the value does not match the predicate.
+         * The rejected value is the first argument of the failure type's template.
+         *
+         * @param predicate predicate the value must match. <b>Not null.</b>
+         * @param failureType type of the failure created for rejected values. <b>Not null.</b>
+         *
+         * @return builder with the step added
+         */
+
+        public Builder<T, R> filter(@NonNull CheckedPredicate<? super R> predicate, @NonNull FailureType failureType)
+        {
+            Objects.requireNonNull(predicate, "Predicate cannot be null");
+            Objects.requireNonNull(failureType, "Failure type cannot be null");
+
+            return new Builder<>(this, new StepDefinition(StepKind.FILTER, predicate, failureType));
+        }
+
+        /**
+         * Adds a step that turns a failure from any earlier step into a value. Successful values pass through unchanged.
+         * <p>
+         * If the recovery throws, the pipeline continues with a failure that is preceded by the recovered one.
+         *
+         * @param recovery function from the failure to a replacement value. <b>Not null.</b>
+         *
+         * @return builder with the step added
+         */
+
+        public Builder<T, R> recover(@NonNull CheckedFunction<Failure<R>, ? extends R> recovery)
+        {
+            Objects.requireNonNull(recovery, "Recovery function cannot be null");
+
+            return new Builder<>(this, new StepDefinition(StepKind.RECOVER, recovery, null));
+        }
+
+        /**
+         * Adds a step that observes the value without changing it.
+         *
+         * @param action action to take on the value. <b>Not null.</b>
+         *
+         * @return builder with the step added
+         */
+
+        public Builder<T, R> peek(@NonNull Consumer<? super R> action)
+        {
+            Objects.requireNonNull(action, "Action cannot be null");
+
+            return new Builder<>(this, new StepDefinition(StepKind.PEEK, action, null));
+        }
+
+        /**
+         * Compiles the steps added so far into a pipeline.
+         *
+         * @return the pipeline
+         */
+
+        public ResultPipeline<T, R> build()
+        {
+            var steps = new ArrayDeque<StepDefinition>();
+
+            for (Builder<T, ?> builder = this; builder.step != null; builder = builder.previous)
+            {
+                steps.push(builder.step);
+            }
+
+            // Link the stages from the end backwards so that every stage holds its successor and the stage that
+            // failures skip to
+
+            Stage next = new Terminal();
+            var reversed = steps.descendingIterator();
+
+            while (reversed.hasNext())
+            {
+                next = reversed.next().compile(next);
+            }
+
+            return new ResultPipeline<>(next);
+        }
+    }
+
+    private enum StepKind
+    {
+        MAP, FLAT_MAP, FILTER, RECOVER, PEEK
+    }
+
+    private record StepDefinition(StepKind kind, Object function, FailureType failureType)
+    {
+        @SuppressWarnings("unchecked")
+        Stage compile(Stage next)
+        {
+            return switch (kind)
+            {
+                case MAP -> new MapStage((CheckedFunction<Object, Object>) function, next);
+                case FLAT_MAP -> new FlatMapStage((CheckedFunction<Object, Result<?>>) function, next);
+                case FILTER -> new FilterStage((CheckedPredicate<Object>) function, failureType, next);
+                case RECOVER -> new RecoverStage((CheckedFunction<Failure<?>, Object>) function, next);
+                case PEEK -> new PeekStage((Consumer<Object>) function, next);
+            };
+        }
+    }
+
+    /**
+     * One compiled step. {@code accept} continues the pipeline with a value; {@code reject} continues it with a
+     * failure and is only ever called on the stage returned by {@code failureTarget()}.
+     */
+
+    private abstract static class Stage
+    {
+        abstract Result<?> accept(Object value);
+
+        abstract Result<?> reject(Failure<?> failure);
+
+        abstract Stage failureTarget();
+    }
+
+    private abstract static class Step extends Stage
+    {
+        final Stage next;
+        final Stage onFailure;
+
+        Step(Stage next)
+        {
+            this.next = next;
+            this.onFailure = next.failureTarget();
+        }
+
+        @Override
+        final Result<?> reject(Failure<?> failure)
+        {
+            return onFailure.reject(failure);
+        }
+
+        @Override
+        final Stage failureTarget()
+        {
+            return onFailure;
+        }
+    }
+
+    private static final class Terminal extends Stage
+    {
+        @Override
+        Result<?> accept(Object value)
+        {
+            return Objects.isNull(value) ? QualSuccess.instance() : QuantSuccess.of(value);
+        }
+
+        @Override
+        Result<?> reject(Failure<?> failure)
+        {
+            return failure;
+        }
+
+        @Override
+        Stage failureTarget()
+        {
+            return this;
+        }
+    }
+
+    private static final class MapStage extends Step
+    {
+        private final CheckedFunction<Object, Object> mapping;
+
+        MapStage(CheckedFunction<Object, Object> mapping, Stage next)
+        {
+            super(next);
+            this.mapping = mapping;
+        }
+
+        @Override
+        Result<?> accept(Object value)
+        {
+            Object mapped;
+
+            try
+            {
+                mapped = mapping.apply(value);
+            }
+            catch (Exception e)
+            {
+                return onFailure.reject(Try.failureFrom(e));
+            }
+
+            return next.accept(mapped);
+        }
+    }
+
+    private static final class FlatMapStage extends Step
+    {
+        private final CheckedFunction<Object, Result<?>> mapping;
+
+        FlatMapStage(CheckedFunction<Object, Result<?>> mapping, Stage next)
+        {
+            super(next);
+            this.mapping = mapping;
+        }
+
+        @Override
+        Result<?> accept(Object value)
+        {
+            Result<?> mapped;
+
+            try
+            {
+                mapped = Objects.requireNonNull(mapping.apply(value), "Mapping function must not return null");
+            }
+            catch (Exception e)
+            {
+                return onFailure.reject(Try.failureFrom(e));
+            }
+
+            return switch (mapped)
+            {
+                case Failure<?> failure -> onFailure.reject(failure);
+                case Success<?> success -> next.accept(success.get());
+            };
+        }
+    }
+
+    private static final class FilterStage extends Step
+    {
+        private final CheckedPredicate<Object> predicate;
+        private final FailureType failureType;
+
+        FilterStage(CheckedPredicate<Object> predicate, FailureType failureType, Stage next)
+        {
+            super(next);
+            this.predicate = predicate;
+            this.failureType = failureType;
+        }
+
+        @Override
+        Result<?> accept(Object value)
+        {
+            boolean matched;
+
+            try
+            {
+                matched = predicate.testIt(value);
+            }
+            catch (Exception e)
+            {
+                return onFailure.reject(Try.failureFrom(e));
+            }
+
+            if (matched)
+            {
+                return next.accept(value);
+            }
+
+            var builder = FailureDescription.of().type(failureType).deferDetail();
+
+            if (failureType == FailureDescription.GenericFailureType.GENERIC)
+            {
+                builder.template("Value {} rejected by filter").args(value);
+            }
+            else if (failureType.templateParameterCount() > 0)
+            {
+                builder.args(value);
+            }
+
+            return onFailure.reject(new Failure<>(builder.build()));
+        }
+    }
+
+    private static final class RecoverStage extends Stage
+    {
+        private final CheckedFunction<Failure<?>, Object> recovery;
+        private final Stage next;
+
+        RecoverStage(CheckedFunction<Failure<?>, Object> recovery, Stage next)
+        {
+            this.recovery = recovery;
+            this.next = next;
+        }
+
+        @Override
+        Result<?> accept(Object value)
+        {
+            return next.accept(value);
+        }
+
+        @Override
+        Result<?> reject(Failure<?> failure)
+        {
+            Object recovered;
+
+            try
+            {
+                recovered = recovery.apply(failure);
+            }
+            catch (Exception e)
+            {
+                return next.failureTarget().reject(Try.failureFrom(e, failure.description()));
+            }
+
+            return next.accept(recovered);
+        }
+
+        @Override
+        Stage failureTarget()
+        {
+            return this;
+        }
+    }
+
+    private static final class PeekStage extends Step
+    {
+        private final Consumer<Object> action;
+
+        PeekStage(Consumer<Object> action, Stage next)
+        {
+            super(next);
+            this.action = action;
+        }
+
+        @Override
+        Result<?> accept(Object value)
+        {
+            try
+            {
+                action.accept(value);
+            }
+            catch (RuntimeException e)
+            {
+                return onFailure.reject(Try.failureFrom(e));
+            }
+
+            return next.accept(value);
+        }
+    }
+}
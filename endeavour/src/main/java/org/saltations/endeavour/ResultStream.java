@@ -0,0 +1,292 @@
+package org.saltations.endeavour;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.stream.Collector;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import lombok.NonNull;
+
+/**
+ * A stream of results that applies checked operations element by element and can stop at the first failure.
+ * <p>
+ * {@link #mapTry(CheckedFunction)} and {@link #flatMapTry(CheckedFunction)} apply an operation to each success and
+ * carry each failure along unchanged, so an exception thrown for one element becomes that element's failure instead
+ * of escaping the pipeline. {@link #toResult()} stops the source as soon as a failure reaches it: no further
+ * elements are taken and no further splits are made, on every fork-join task of a parallel stream. Elements already
+ * taken by other tasks still finish their current step.
+ * <p>
+ * Like a {@code Stream}, a {@code ResultStream} can be consumed only once.
+ *
+ * <p>
+ * <b>Example:</b>
+ * <pre>{@code
+ *   Result<List<Invoice>> invoices = ResultStream.of(orders.parallelStream())
+ *                                                .mapTry(pricing::price)
+ *                                                .flatMapTry(billing::invoice)
+ *                                                .toResult();
+ * }
+ * </pre>
+ *
+ * @param <T> Success payload type
+ */
+
+public final class ResultStream<T>
+{
+    private final Stream<Result<T>> results;
+
+    /**
+     * Set once a terminal operation has seen a failure. Shared with the source spliterator, which then stops.
+     */
+
+    private final AtomicBoolean halted;
+
+    private ResultStream(Stream<Result<T>> results, AtomicBoolean halted)
+    {
+        this.results = results;
+        this.halted = halted;
+    }
+
+    /**
+     * Wraps a stream of values, each becoming a success.
+     *
+     * @param values the values. <b>Not null.</b>
+     *
+     * @return a {@code ResultStream} of a {@code QuantSuccess} per value, or a {@code QualSuccess} for a {@code null}
+     *
+     * @param <T> Success payload type
+     */
+
+    public static <T> ResultStream<T> of(@NonNull Stream<T> values)
+    {
+        Objects.requireNonNull(values, "Stream cannot be null");
+
+        var halted = new AtomicBoolean();
+
+        return new ResultStream<>(haltable(values, halted).map(Try::success), halted);
+    }
+
+    /**
+     * Wraps a stream of results.
+     *
+     * @param results the results. <b>Not null.</b>
+     *
+     * @return a {@code ResultStream} of the results
+     *
+     * @param <T> Success payload type
+     */
+
+    public static <T> ResultStream<T> ofResults(@NonNull Stream<Result<T>> results)
+    {
+        Objects.requireNonNull(results, "Stream cannot be null");
+
+        var halted = new AtomicBoolean();
+
+        return new ResultStream<>(haltable(results, halted), halted);
+    }
+
+    /**
+     * Maps the payload of each success. A failure is carried over as is.
+     *
+     * @param mapping a mapping function from T to U that may throw checked exceptions. <b>Not null.</b>
+     *
+     * @return a {@code ResultStream} of the mapped results. An exception thrown by the mapping becomes a failure as
+     * from {@link Try#attempt(CheckedSupplier)}.
+     *
+     * @param <U> Type of the mapped payload
+     */
+
+    public <U> ResultStream<U> mapTry(@NonNull CheckedFunction<T, U> mapping)
+    {
+        Objects.requireNonNull(mapping, "Mapping function cannot be null");
+
+        return new ResultStream<>(results.<Result<U>>map(result -> switch (result)
+        {
+            case Failure<T> failure -> failure.<U>cast();
+            case Success<T> success -> {
+                try
+                {
+                    yield Try.success(mapping.apply(success.get()));
+                }
+                catch (Exception e)
+                {
+                    yield Try.failureFrom(e);
+                }
+            }
+        }), halted);
+    }
+
+    /**
+     * Maps the payload of each success to a result, as {@link Result#flatMap(CheckedFunction)} does. A failure is
+     * carried over as is.
+     *
+     * @param mapping a mapping function from T to {@code Result<U>} that may throw checked exceptions. <b>Not null.</b>
+     *
+     * @return a {@code ResultStream} of the mapped results
+     *
+     * @param <U> Type of the mapped payload
+     */
+
+    public <U> ResultStream<U> flatMapTry(@NonNull CheckedFunction<T, Result<U>> mapping)
+    {
+        Objects.requireNonNull(mapping, "Mapping function cannot be null");
+
+        return new ResultStream<>(results.map(result -> result.flatMap(mapping)), halted);
+    }
+
+    /**
+     * Returns an equivalent stream that is parallel.
+     *
+     * @return a parallel {@code ResultStream}
+     */
+
+    public ResultStream<T> parallel()
+    {
+        return new ResultStream<>(results.parallel(), halted);
+    }
+
+    /**
+     * Returns an equivalent stream that is sequential.
+     *
+     * @return a sequential {@code ResultStream}
+     */
+
+    public ResultStream<T> sequential()
+    {
+        return new ResultStream<>(results.sequential(), halted);
+    }
+
+    /**
+     * Returns <em>true</em> if a terminal operation would run in parallel.
+     *
+     * @return <em>true</em> if this stream is parallel, <em>false</em> otherwise.
+     */
+
+    public boolean isParallel()
+    {
+        return results.isParallel();
+    }
+
+    /**
+     * Collects every result, failures included, with the given collector. Does not stop on a failure.
+     *
+     * @param collector the collector, for example one of {@link ResultCollectors}. <b>Not null.</b>
+     *
+     * @return the collected outcome
+     *
+     * @param <R> Type of the collected outcome
+     */
+
+    public <R> R collect(@NonNull Collector<? super Result<T>, ?, R> collector)
+    {
+        Objects.requireNonNull(collector, "Collector cannot be null");
+
+        return results.collect(collector);
+    }
+
+    /**
+     * Gathers the payloads into one result, stopping the stream at the first failure.
+     * <p>
+     * On a sequential stream the failure returned is the first in encounter order. On a parallel stream it is the
+     * earliest in encounter order among the failures found before the stream stopped.
+     *
+     * @return a {@code QuantSuccess} with the list of payloads in encounter order (which may contain nulls), or a
+     * failure of the stream (the same instance)
+     */
+
+    public Result<List<T>> toResult()
+    {
+        return results.peek(result -> {
+                          if (result instanceof Failure<T>)
+                          {
+                              halted.set(true);
+                          }
+                      })
+                      .collect(ResultCollectors.sequence());
+    }
+
+    /**
+     * Returns the results as a plain stream.
+     *
+     * @return the underlying {@code Stream} of results
+     */
+
+    public Stream<Result<T>> stream()
+    {
+        return results;
+    }
+
+    private static <E> Stream<E> haltable(Stream<E> source, AtomicBoolean halted)
+    {
+        return StreamSupport.stream(new HaltingSpliterator<>(source.spliterator(), halted), source.isParallel())
+                            .onClose(source::close);
+    }
+
+    /**
+     * Passes elements through from another spliterator until halted. Splits share the halt.
+     */
+
+    private static final class HaltingSpliterator<E> implements Spliterator<E>
+    {
+        private final Spliterator<E> source;
+        private final AtomicBoolean halted;
+
+        HaltingSpliterator(Spliterator<E> source, AtomicBoolean halted)
+        {
+            this.source = source;
+            this.halted = halted;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super E> action)
+        {
+            return !halted.get() && source.tryAdvance(action);
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super E> action)
+        {
+            while (!halted.get() && source.tryAdvance(action))
+            {
+            }
+        }
+
+        @Override
+        public Spliterator<E> trySplit()
+        {
+            if (halted.get())
+            {
+                return null;
+            }
+
+            var split = source.trySplit();
+
+            return split == null ? null : new HaltingSpliterator<>(split, halted);
+        }
+
+        @Override
+        public long estimateSize()
+        {
+            return source.estimateSize();
+        }
+
+        @Override
+        public int characteristics()
+        {
+            // May end early, so the size is only an estimate
+
+            return source.characteristics() & ~(SIZED | SUBSIZED);
+        }
+
+        @Override
+        public Comparator<? super E> getComparator()
+        {
+            return source.getComparator();
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package org.saltations.endeavour;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.function.LongSupplier;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+/**
+ * Limits retries to a fraction of the first attempts made recently, so that retrying cannot multiply the load on a
+ * dependency that is already struggling.
+ * <p>
+ * A budget is meant to be shared, typically one per dependency, by every {@link RetryPolicy} that calls it. Each first
+ * attempt adds to the budget and each retry spends from it. Over the sliding {@code window} it allows
+ * {@code minRetries + ratio * firstAttempts} retries; once those are spent {@link Try#retry(RetryPolicy, CheckedSupplier)}
+ * stops at once with a {@code GENERIC_RETRY_BUDGET_EXHAUSTED} failure instead of waiting and trying again.
+ * {@code minRetries} keeps a trickle of retries available when traffic is low.
+ * <p>
+ * Counts are kept in lock-free striped counters over the window, so recording an attempt never takes a lock and
+ * callers on different threads rarely contend. Checking and spending a retry are not one atomic step:
+ * under heavy contention the budget can be overspent by at most the number of threads retrying at the same moment.
+ *
+ * <p>
+ * <b>Example:</b>
+ * <pre>{@code
+ *   static final RetryBudget INVENTORY_BUDGET = RetryBudget.of().ratio(0.1).build();
+ *
+ *   static final RetryPolicy INVENTORY_RETRIES = RetryPolicy.of()
+ *                                                          .maxAttempts(3)
+ *                                                          .budget(INVENTORY_BUDGET)
+ *                                                          .build();
+ * }
+ * </pre>
+ */
+
+@Getter
+public final class RetryBudget
+{
+    private static final int ATTEMPTS = 0;
+    private static final int RETRIES = 1;
+
+    private final double ratio;
+    private final int minRetries;
+    private final Duration window;
+
+    @Getter(AccessLevel.NONE)
+    private final SlidingWindow counts;
+
+    RetryBudget(double ratio, int minRetries, Duration window, LongSupplier clock)
+    {
+        this.ratio = ratio;
+        this.minRetries = minRetries;
+        this.window = window;
+        this.counts = new SlidingWindow(2, window, clock);
+    }
+
+    /**
+     * Starts a new budget. Without further settings it allows retries of up to 20% of the first attempts made in the
+     * last 10 seconds, plus 10 more.
+     *
+     * @return A new Builder instance
+     */
+
+    public static Builder of()
+    {
+        return new Builder();
+    }
+
+    /**
+     * Records a first attempt, adding to the budget.
+     */
+
+    public void recordAttempt()
+    {
+        counts.increment(ATTEMPTS);
+    }
+
+    /**
+     * Spends one retry from the budget if any is left.
+     *
+     * @return <em>true</em> if the retry may go ahead, <em>false</em> if the budget is spent.
+     */
+
+    public boolean tryAcquireRetry()
+    {
+        if (availableRetries() <= 0)
+        {
+            return false;
+        }
+
+        counts.increment(RETRIES);
+        return true;
+    }
+
+    /**
+     * Returns the number of retries that may still be made in the current window.
+     *
+     * @return the retries left; never negative
+     */
+
+    public long availableRetries()
+    {
+        var sums = counts.sums();
+
+        return Math.max(0L, minRetries + (long) (ratio * sums[ATTEMPTS]) - sums[RETRIES]);
+    }
+
+    /**
+     * Builder for {@link RetryBudget}.
+     */
+
+    public static final class Builder
+    {
+        private double ratio = 0.2;
+        private int minRetries = 10;
+        private Duration window = Duration.ofSeconds(10);
+
+        private Builder()
+        {
+        }
+
+        /**
+         * Sets the retries allowed for each first attempt.
+         *
+         * @param ratio retries per first attempt. <b>Not negative.</b>
+         *
+         * @return The builder instance.
+         */
+
+        public Builder ratio(double ratio)
+        {
+            checkArgument(ratio >= 0.0, "Ratio cannot be negative but was %s", ratio);
+
+            this.ratio = ratio;
+            return this;
+        }
+
+        /**
+         * Sets the retries allowed in each window regardless of the number of first attempts.
+         *
+         * @param minRetries the retries always allowed. <b>Not negative.</b>
+         *
+         * @return The builder instance.
+         */
+
+        public Builder minRetries(int minRetries)
+        {
+            checkArgument(minRetries >= 0, "Min retries cannot be negative but was %s", minRetries);
+
+            this.minRetries = minRetries;
+            return this;
+        }
+
+        /**
+         * Sets how far back attempts and retries are counted.
+         *
+         * @param window the length of the sliding window. <b>Not null, positive.</b>
+         *
+         * @return The builder instance.
+         */
+
+        public Builder window(Duration window)
+        {
+            Objects.requireNonNull(window, "Window cannot be null");
+            checkArgument(!window.isNegative() && !window.isZero(), "Window must be positive but was %s", window);
+
+            this.window = window;
+            return this;
+        }
+
+        public RetryBudget build()
+        {
+            return new RetryBudget(ratio, minRetries, window, System::nanoTime);
+        }
+    }
+}
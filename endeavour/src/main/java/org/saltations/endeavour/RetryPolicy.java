@@ -0,0 +1,461 @@
+package org.saltations.endeavour;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+/**
+ * Describes when and how often {@link Try#retry(RetryPolicy, CheckedSupplier)} tries an operation again.
+ * <p>
+ * Each retry waits an exponentially growing backoff: {@code initialBackoff * multiplier^(retry - 1)}, capped at
+ * {@code maxBackoff}. Jitter then shortens every wait by a random fraction of up to {@code jitter}, so callers that
+ * failed together do not all retry at the same moment. Retrying stops when an attempt succeeds, when the failure is
+ * not retryable, when {@code maxAttempts} have been made, or when the next wait would end after the overall
+ * deadline. The deadline is {@code maxDuration} from the start, and never later than the {@link Deadline} of an
+ * enclosing {@code Try.attemptWithin}. A shared {@link RetryBudget} can further limit retries across all callers.
+ * <p>
+ * By default every failure is retryable. Once one of {@code retryOn}, {@code retryOnCause} or {@code retryIf} is
+ * used, a failure is retryable only if at least one of them matches it. Interrupted and cancelled attempts are never
+ * retried.
+ * <p>
+ * Policies are immutable and can be shared between threads.
+ *
+ * <p>
+ * <b>Example:</b>
+ * <pre>{@code
+ *   static final RetryPolicy TRANSIENT = RetryPolicy.of()
+ *                                                  .maxAttempts(4)
+ *                                                  .backoff(Duration.ofMillis(50), Duration.ofSeconds(2))
+ *                                                  .maxDuration(Duration.ofSeconds(5))
+ *                                                  .retryOnCause(IOException.class)
+ *                                                  .build();
+ *
+ *   var quote = Try.retry(TRANSIENT, () -> pricing.quote(sku));
+ * }
+ * </pre>
+ */
+
+@Getter
+public final class RetryPolicy
+{
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final double multiplier;
+    private final double jitter;
+
+    /**
+     * Overall time allowed for all attempts and waits, or {@code null} for no limit of its own.
+     */
+
+    private final Duration maxDuration;
+
+    /**
+     * Largest number of attempt failures linked into the returned failure, counting the returned one.
+     */
+
+    private final int maxChainLength;
+
+    /**
+     * Budget that retries are spent from, or {@code null} if retries are not budgeted.
+     */
+
+    private final RetryBudget budget;
+
+    @Getter(AccessLevel.NONE)
+    private final Predicate<Failure<?>> retryable;
+
+    @Getter(AccessLevel.NONE)
+    private final long initialBackoffNanos;
+
+    @Getter(AccessLevel.NONE)
+    private final long maxBackoffNanos;
+
+    private RetryPolicy(Builder builder)
+    {
+        this.maxAttempts = builder.maxAttempts;
+        this.initialBackoff = builder.initialBackoff;
+        this.maxBackoff = builder.maxBackoff;
+        this.multiplier = builder.multiplier;
+        this.jitter = builder.jitter;
+        this.maxDuration = builder.maxDuration;
+        this.maxChainLength = builder.maxChainLength;
+        this.budget = builder.budget;
+        this.retryable = builder.conditions.stream().reduce(Predicate::or).orElse(failure -> true);
+        this.initialBackoffNanos = saturatedNanos(initialBackoff);
+        this.maxBackoffNanos = saturatedNanos(maxBackoff);
+    }
+
+    /**
+     * Starts a new policy. Without further settings it makes 3 attempts, waiting 100 ms and then 200 ms with up to
+     * half of each wait removed by jitter, retries every failure and keeps up to 5 failures in the chain.
+     *
+     * @return A new Builder instance
+     */
+
+    public static Builder of()
+    {
+        return new Builder();
+    }
+
+    /**
+     * Returns <em>true</em> if the failure may be retried under this policy.
+     *
+     * @param failure the failure of an attempt. <b>Not null.</b>
+     *
+     * @return <em>true</em> if the failure is retryable, <em>false</em> otherwise.
+     */
+
+    public boolean isRetryable(Failure<?> failure)
+    {
+        var type = failure.getType();
+
+        if (type == FailureDescription.GenericFailureType.GENERIC_INTERRUPTED_EXCEPTION || type == FailureDescription.GenericFailureType.GENERIC_CANCELLED)
+        {
+            return false;
+        }
+
+        return retryable.test(failure);
+    }
+
+    /**
+     * Runs the supplier under this policy.
+     */
+
+    <T> Result<T> run(CheckedSupplier<T> supplier)
+    {
+        var deadline = maxDuration == null ? Deadline.current().orElse(null) : Deadline.within(maxDuration);
+
+        // Attempts see our own deadline, so nested bounded attempts cannot outlive the retries
+
+        CheckedSupplier<T> attempt = maxDuration == null ? supplier : () -> deadline.run(supplier);
+
+        // Earlier failures kept for the chain; allocated on the first retry, oldest overwritten once full
+
+        FailureDescription[] earlier = null;
+        var failures = 0;
+
+        if (budget != null)
+        {
+            budget.recordAttempt();
+        }
+
+        for (var attemptNo = 1; ; attemptNo++)
+        {
+            var outcome = Try.attempt(attempt);
+
+            if (!(outcome instanceof Failure<T> failure))
+            {
+                return outcome;
+            }
+
+            if (attemptNo >= maxAttempts || !isRetryable(failure))
+            {
+                return chained(failure.description(), earlier, failures);
+            }
+
+            var delayNanos = delayNanos(attemptNo, ThreadLocalRandom.current().nextDouble());
+
+            if (deadline != null && deadline.remainingNanos() <= delayNanos)
+            {
+                return chained(failure.description(), earlier, failures);
+            }
+
+            if (budget != null && !budget.tryAcquireRetry())
+            {
+                return new Failure<>(FailureDescription.of()
+                    .type(FailureDescription.GenericFailureType.GENERIC_RETRY_BUDGET_EXHAUSTED)
+                    .args(attemptNo)
+                    .precedingFailure(chained(failure.description(), earlier, failures).description())
+                    .build());
+            }
+
+            if (maxChainLength > 1)
+            {
+                if (earlier == null)
+                {
+                    earlier = new FailureDescription[Math.min(maxChainLength, maxAttempts) - 1];
+                }
+
+                earlier[failures % earlier.length] = failure.description();
+            }
+
+            failures++;
+
+            try
+            {
+                // Parks rather than pins the carrier when running on a virtual thread
+
+                TimeUnit.NANOSECONDS.sleep(delayNanos);
+            }
+            catch (InterruptedException e)
+            {
+                Failure<T> interrupted = Try.failureFrom(e);
+
+                return chained(interrupted.description(), earlier, failures);
+            }
+        }
+    }
+
+    /**
+     * Returns the wait before the given retry, where {@code random} is in {@code [0, 1)}.
+     */
+
+    long delayNanos(int retry, double random)
+    {
+        var backoff = Math.min((double) maxBackoffNanos, initialBackoffNanos * Math.pow(multiplier, retry - 1));
+
+        return (long) (backoff * (1.0 - jitter * random));
+    }
+
+    /**
+     * Links the latest failure to the earlier ones, most recent first. Failures that already have preceding failures
+     * keep them in place, and the whole chain is cut to {@code maxChainLength} links.
+     */
+
+    <T> Failure<T> chained(FailureDescription latest, FailureDescription[] earlier, int failures)
+    {
+        var kept = earlier == null ? 0 : Math.min(failures, earlier.length);
+        var links = new ArrayList<FailureDescription>(maxChainLength);
+
+        for (var i = failures; i >= failures - kept && links.size() < maxChainLength; i--)
+        {
+            var link = i == failures ? latest : earlier[i % earlier.length];
+
+            for (; link != null && links.size() < maxChainLength; link = link.getPrecedingFailure())
+            {
+                links.add(link);
+            }
+        }
+
+        var tail = links.get(links.size() - 1);
+
+        if (kept == 0 && !tail.hasPrecedingFailure())
+        {
+            return new Failure<>(latest);
+        }
+
+        var chain = tail.hasPrecedingFailure() ? new FailureDescription.Builder(tail).precedingFailure(null).build() : tail;
+
+        for (var i = links.size() - 2; i >= 0; i--)
+        {
+            chain = new FailureDescription.Builder(links.get(i)).precedingFailure(chain).build();
+        }
+
+        return new Failure<>(chain);
+    }
+
+    private static long saturatedNanos(Duration duration)
+    {
+        return duration.compareTo(Duration.ofNanos(Long.MAX_VALUE)) >= 0 ? Long.MAX_VALUE : duration.toNanos();
+    }
+
+    /**
+     * Builder for {@link RetryPolicy}.
+     */
+
+    public static final class Builder
+    {
+        private int maxAttempts = 3;
+        private Duration initialBackoff = Duration.ofMillis(100);
+        private Duration maxBackoff = Duration.ofSeconds(10);
+        private double multiplier = 2.0;
+        private double jitter = 0.5;
+        private Duration maxDuration;
+        private int maxChainLength = 5;
+        private RetryBudget budget;
+        private final List<Predicate<Failure<?>>> conditions = new ArrayList<>();
+
+        private Builder()
+        {
+        }
+
+        /**
+         * Sets the largest number of attempts, counting the first.
+         *
+         * @param maxAttempts the number of attempts. <b>At least 1.</b>
+         *
+         * @return The builder instance.
+         */
+
+        public Builder maxAttempts(int maxAttempts)
+        {
+            checkArgument(maxAttempts >= 1, "Max attempts must be at least 1 but was %s", maxAttempts);
+
+            this.maxAttempts = maxAttempts;
+            return this;
+        }
+
+        /**
+         * Sets the wait before the first retry and the longest wait between any two attempts.
+         *
+         * @param initialBackoff the wait before the first retry. <b>Not null, not negative.</b>
+         * @param maxBackoff the longest wait. <b>Not null, not shorter than the initial backoff.</b>
+         *
+         * @return The builder instance.
+         */
+
+        public Builder backoff(Duration initialBackoff, Duration maxBackoff)
+        {
+            Objects.requireNonNull(initialBackoff, "Initial backoff cannot be null");
+            Objects.requireNonNull(maxBackoff, "Max backoff cannot be null");
+            checkArgument(!initialBackoff.isNegative(), "Initial backoff cannot be negative: %s", initialBackoff);
+            checkArgument(maxBackoff.compareTo(initialBackoff) >= 0, "Max backoff %s is shorter than initial backoff %s", maxBackoff, initialBackoff);
+
+            this.initialBackoff = initialBackoff;
+            this.maxBackoff = maxBackoff;
+            return this;
+        }
+
+        /**
+         * Sets the factor each wait grows by. {@code 1.0} gives a fixed wait.
+         *
+         * @param multiplier the growth factor. <b>At least 1.0.</b>
+         *
+         * @return The builder instance.
+         */
+
+        public Builder multiplier(double multiplier)
+        {
+            checkArgument(multiplier >= 1.0, "Multiplier must be at least 1.0 but was %s", multiplier);
+
+            this.multiplier = multiplier;
+            return this;
+        }
+
+        /**
+         * Sets the largest fraction of each wait that is randomly removed. {@code 0.0} turns jitter off and
+         * {@code 1.0} gives waits anywhere between zero and the full backoff.
+         *
+         * @param jitter the fraction. <b>Between 0.0 and 1.0.</b>
+         *
+         * @return The builder instance.
+         */
+
+        public Builder jitter(double jitter)
+        {
+            checkArgument(jitter >= 0.0 && jitter <= 1.0, "Jitter must be between 0.0 and 1.0 but was %s", jitter);
+
+            this.jitter = jitter;
+            return this;
+        }
+
+        /**
+         * Sets the overall time allowed for all attempts and the waits between them.
+         *
+         * @param maxDuration the time allowed. <b>Not null, not negative.</b>
+         *
+         * @return The builder instance.
+         */
+
+        public Builder maxDuration(Duration maxDuration)
+        {
+            Objects.requireNonNull(maxDuration, "Max duration cannot be null");
+            checkArgument(!maxDuration.isNegative(), "Max duration cannot be negative: %s", maxDuration);
+
+            this.maxDuration = maxDuration;
+            return this;
+        }
+
+        /**
+         * Sets the largest number of failures linked through {@code precedingFailure} in the returned failure,
+         * counting the returned one and any failures already chained behind an attempt failure. Older failures are
+         * dropped.
+         *
+         * @param maxChainLength the chain length. <b>At least 1.</b>
+         *
+         * @return The builder instance.
+         */
+
+        public Builder maxChainLength(int maxChainLength)
+        {
+            checkArgument(maxChainLength >= 1, "Max chain length must be at least 1 but was %s", maxChainLength);
+
+            this.maxChainLength = maxChainLength;
+            return this;
+        }
+
+        /**
+         * Spends every retry from the given budget. Once it is spent, retrying stops at once with a
+         * {@code GENERIC_RETRY_BUDGET_EXHAUSTED} failure preceded by the failures so far.
+         *
+         * @param budget the shared budget. <b>Not null.</b>
+         *
+         * @return The builder instance.
+         */
+
+        public Builder budget(RetryBudget budget)
+        {
+            this.budget = Objects.requireNonNull(budget, "Budget cannot be null");
+            return this;
+        }
+
+        /**
+         * Retries failures of any of the given types.
+         *
+         * @param types the retryable failure types. <b>Not null.</b>
+         *
+         * @return The builder instance.
+         */
+
+        public Builder retryOn(FailureType... types)
+        {
+            var retryableTypes = List.of(types);
+
+            conditions.add(failure -> retryableTypes.contains(failure.getType()));
+            return this;
+        }
+
+        /**
+         * Retries failures caused by an exception of any of the given classes or their subclasses.
+         *
+         * @param exceptionClasses the retryable exception classes. <b>Not null.</b>
+         *
+         * @return The builder instance.
+         */
+
+        @SafeVarargs
+        public final Builder retryOnCause(Class<? extends Exception>... exceptionClasses)
+        {
+            // Copied element by element; handing the varargs array itself on is what -Xlint:varargs warns about
+
+            var retryableClasses = new ArrayList<Class<? extends Exception>>(exceptionClasses.length);
+
+            for (var exceptionClass : exceptionClasses)
+            {
+                retryableClasses.add(Objects.requireNonNull(exceptionClass, "Exception class cannot be null"));
+            }
+
+            conditions.add(failure -> failure.description().hasCause() && retryableClasses.stream().anyMatch(c -> c.isInstance(failure.description().getCause())));
+            return this;
+        }
+
+        /**
+         * Retries failures that match the predicate.
+         *
+         * @param condition the predicate. <b>Not null.</b>
+         *
+         * @return The builder instance.
+         */
+
+        public Builder retryIf(Predicate<Failure<?>> condition)
+        {
+            conditions.add(Objects.requireNonNull(condition, "Condition cannot be null"));
+            return this;
+        }
+
+        public RetryPolicy build()
+        {
+            return new RetryPolicy(this);
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package org.saltations.endeavour;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+
+import lombok.NonNull;
+
+/**
+ * Coalesces concurrent attempts for the same key into one execution.
+ * <p>
+ * The first caller for a key runs the supplier on its own thread. Callers that arrive with the same key while it runs
+ * do not run their suppliers; they wait and receive the very same {@code Result}, including the same
+ * {@code Failure} instance. Once the execution finishes its entry is removed, so the next caller for the key starts a
+ * fresh execution: nothing is cached. Use this in front of a backing store so that a cache miss on a hot key costs one
+ * load rather than one per caller.
+ * <p>
+ * In-flight executions are held in a {@code ConcurrentHashMap}, so callers for different keys do not contend.
+ * Waiting parks rather than pins the carrier when the caller is a virtual thread.
+ *
+ * <p>
+ * <b>Example:</b>
+ * <pre>{@code
+ *   private final SingleFlight<String, Product> loads = new SingleFlight<>();
+ *
+ *   Result<Product> product(String sku)
+ *   {
+ *       return loads.attempt(sku, () -> store.load(sku));
+ *   }
+ * }
+ * </pre>
+ *
+ * @param <K> Key type. Keys must have consistent {@code equals} and {@code hashCode}.
+ * @param <T> Success payload type
+ */
+
+public final class SingleFlight<K, T>
+{
+    private final ConcurrentHashMap<K, Call<T>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * Runs the supplier for the key, or joins the execution already running for it.
+     *
+     * @param key identifies the execution. <b>Not null.</b>
+     * @param supplier function that supplies a new value and may throw checked exceptions. <b>Not null</b>.
+     *
+     * @return the result of the shared execution as from {@link Try#attempt(CheckedSupplier)}. A caller that is
+     * interrupted while waiting gets a {@code GENERIC_INTERRUPTED_EXCEPTION} failure with its interrupt flag restored;
+     * a supplier that re-enters its own key gets a {@code GENERIC_RUNTIME_EXCEPTION} failure rather than waiting on
+     * itself.
+     */
+
+    public Result<T> attempt(@NonNull K key, @NonNull CheckedSupplier<T> supplier)
+    {
+        Objects.requireNonNull(key, "Key cannot be null");
+        Objects.requireNonNull(supplier, "Supplier function cannot be null");
+
+        var existing = inFlight.get(key);
+
+        if (existing == null)
+        {
+            var call = new Call<T>(Thread.currentThread());
+
+            existing = inFlight.putIfAbsent(key, call);
+
+            if (existing == null)
+            {
+                return lead(key, call, supplier);
+            }
+        }
+
+        return follow(existing);
+    }
+
+    /**
+     * Returns the number of keys with an execution in flight.
+     *
+     * @return the number of executions in flight
+     */
+
+    public int getInFlight()
+    {
+        return inFlight.size();
+    }
+
+    private Result<T> lead(K key, Call<T> call, CheckedSupplier<T> supplier)
+    {
+        Result<T> outcome = null;
+
+        try
+        {
+            outcome = Try.attempt(supplier);
+            return outcome;
+        }
+        catch (Error e)
+        {
+            // Make sure the callers waiting on this execution are not left waiting forever
+
+            outcome = Try.failureFrom(new ExecutionException(e));
+            throw e;
+        }
+        finally
+        {
+            inFlight.remove(key, call);
+            call.outcome.complete(outcome);
+        }
+    }
+
+    private Result<T> follow(Call<T> call)
+    {
+        if (call.leader == Thread.currentThread())
+        {
+            return Try.failureFrom(new IllegalStateException("Supplier re-entered the single flight for its own key"));
+        }
+
+        try
+        {
+            return call.outcome.get();
+        }
+        catch (InterruptedException e)
+        {
+            return Try.failureFrom(e);
+        }
+        catch (ExecutionException e)
+        {
+            // Not expected: the outcome is always completed with a Result
+
+            return Try.failureFrom(e.getCause() instanceof Exception cause ? cause : e);
+        }
+    }
+
+    /**
+     * One execution in flight: the thread running it and its eventual outcome.
+     */
+
+    private static final class Call<T>
+    {
+        private final Thread leader;
+        private final CompletableFuture<Result<T>> outcome = new CompletableFuture<>();
+
+        Call(Thread leader)
+        {
+            this.leader = leader;
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package org.saltations.endeavour;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * A fixed number of counters summed over a sliding time window, without locks.
+ * <p>
+ * The window is split into buckets of striped counters that are only ever incremented. A bucket that has fallen out of
+ * the window is replaced with a fresh one by compare-and-set the next time its slot comes round, so callers on
+ * different threads rarely contend. Backs {@link RetryBudget} and {@link CircuitBreaker}.
+ */
+
+final class SlidingWindow
+{
+    private static final int BUCKETS = 10;
+
+    private final int counters;
+    private final long bucketNanos;
+    private final LongSupplier clock;
+    private final AtomicReferenceArray<Bucket> buckets = new AtomicReferenceArray<>(BUCKETS);
+
+    /**
+     * @param counters the number of separate counters
+     * @param window how far back increments are counted. Positive.
+     * @param clock source of the current time in nanoseconds
+     */
+
+    SlidingWindow(int counters, Duration window, LongSupplier clock)
+    {
+        this.counters = counters;
+        this.bucketNanos = Math.max(1L, window.toNanos() / BUCKETS);
+        this.clock = clock;
+    }
+
+    /**
+     * Adds one to the given counter.
+     */
+
+    void increment(int counter)
+    {
+        current().counts[counter].increment();
+    }
+
+    /**
+     * Returns the totals of every counter over the window, indexed by counter.
+     */
+
+    long[] sums()
+    {
+        var epoch = epoch();
+        var sums = new long[counters];
+
+        for (int i = 0; i < BUCKETS; i++)
+        {
+            var bucket = buckets.get(i);
+
+            if (bucket != null && epoch - bucket.epoch < BUCKETS)
+            {
+                for (int c = 0; c < counters; c++)
+                {
+                    sums[c] += bucket.counts[c].sum();
+                }
+            }
+        }
+
+        return sums;
+    }
+
+    /**
+     * Returns the bucket for the current time, replacing a bucket that has fallen out of the window.
+     */
+
+    private Bucket current()
+    {
+        var epoch = epoch();
+        var slot = (int) Math.floorMod(epoch, (long) BUCKETS);
+
+        while (true)
+        {
+            var bucket = buckets.get(slot);
+
+            // A bucket for a later slice means another thread has already moved on; counting in it is close enough
+
+            if (bucket != null && bucket.epoch >= epoch)
+            {
+                return bucket;
+            }
+
+            var fresh = new Bucket(epoch, counters);
+
+            if (buckets.compareAndSet(slot, bucket, fresh))
+            {
+                return fresh;
+            }
+        }
+    }
+
+    private long epoch()
+    {
+        return Math.floorDiv(clock.getAsLong(), bucketNanos);
+    }
+
+    /**
+     * Counts for one slice of the window.
+     */
+
+    private static final class Bucket
+    {
+        private final long epoch;
+        private final LongAdder[] counts;
+
+        Bucket(long epoch, int counters)
+        {
+            this.epoch = epoch;
+            this.counts = new LongAdder[counters];
+
+            for (int c = 0; c < counters; c++)
+            {
+                counts[c] = new LongAdder();
+            }
+        }
+    }
+}
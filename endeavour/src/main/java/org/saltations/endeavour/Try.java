@@ -2,8 +2,13 @@ package org.saltations.endeavour;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.Executor;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
 import lombok.NonNull;
@@ -35,33 +40,374 @@ public class Try
          {
              var value = supplier.get();
              
-             return Objects.isNull(value) ? new QualSuccess<>() : new QuantSuccess<>(value);
-         }
-         catch (InterruptedException ex)
-         {
-             // restore the interrupted flag
-             Thread.currentThread().interrupt();
-             return new Failure<>(FailureDescription.of()
-                     .type(FailureDescription.GenericFailureType.GENERIC_INTERRUPTED_EXCEPTION)
-                     .cause(ex)
-                     .build());
+             return Objects.isNull(value) ? QualSuccess.instance() : QuantSuccess.of(value);
          }
          catch (Exception e)
          {
-             return switch(e)
-             {
-                 case RuntimeException ex -> new Failure<>(FailureDescription.of()
-                     .type(FailureDescription.GenericFailureType.GENERIC_RUNTIME_EXCEPTION)
-                     .cause(ex)
-                     .build());
-                 case Exception ex -> new Failure<>(FailureDescription.of()
-                     .type(FailureDescription.GenericFailureType.GENERIC_EXCEPTION)
-                     .cause(ex)
-                     .build());
-             };
+             return failureFrom(e);
          }
      }
 
+    /**
+     * Defer the given checked supplier operation until its result is first read.
+     * <p>
+     * The supplier runs at most once, however many times and from however many threads the result is read.
+     * Its value and exceptions are turned into a result the same way as {@link #attempt(CheckedSupplier)}.
+     *
+     * @param supplier function that supplies a new value and may throw checked exceptions. <b>Not null</b>.
+     *
+     * @return an unevaluated {@code LazyResult}
+     *
+     * @param <U> Type of the supplied value
+     *
+     * <p>
+     * <b>Example:</b>
+     * <pre>{@code
+     *   var fallback = Try.defer(() -> repository.findDefault());
+     * }
+     * </pre>
+     */
+
+    public static <U> LazyResult<U> defer(@NonNull CheckedSupplier<U> supplier)
+    {
+        checkNotNull(supplier, "Supplier function cannot be null");
+
+        return LazyResult.of(() -> attempt(supplier));
+    }
+
+    /**
+     * Attempt to execute the given checked supplier operation on a new virtual thread.
+     * <p>
+     * The returned {@code AsyncResult} completes with the result {@link #attempt(CheckedSupplier)} would have
+     * returned. Waiting for it with {@link AsyncResult#join()} never throws.
+     *
+     * @param supplier function that supplies a new value and may throw checked exceptions. <b>Not null</b>.
+     *
+     * @return an {@code AsyncResult} of the supplied value
+     *
+     * @param <U> Type of the supplied value
+     *
+     * <p>
+     * <b>Example:</b>
+     * <pre>{@code
+     *   var profile = Try.attemptAsync(() -> profiles.fetch(userId));
+     * }
+     * </pre>
+     */
+
+    public static <U> AsyncResult<U> attemptAsync(@NonNull CheckedSupplier<U> supplier)
+    {
+        checkNotNull(supplier, "Supplier function cannot be null");
+
+        return AsyncResult.attempt(supplier);
+    }
+
+    /**
+     * Attempt to execute the given checked supplier operation with the given executor.
+     *
+     * @param supplier function that supplies a new value and may throw checked exceptions. <b>Not null</b>.
+     * @param executor executor to run the supplier with. <b>Not null</b>.
+     *
+     * @return an {@code AsyncResult} of the supplied value
+     *
+     * @param <U> Type of the supplied value
+     *
+     * @see #attemptAsync(CheckedSupplier)
+     */
+
+    public static <U> AsyncResult<U> attemptAsync(@NonNull CheckedSupplier<U> supplier, @NonNull Executor executor)
+    {
+        checkNotNull(supplier, "Supplier function cannot be null");
+        checkNotNull(executor, "Executor cannot be null");
+
+        return AsyncResult.attempt(supplier, executor);
+    }
+
+    /**
+     * Attempt to execute the given checked supplier operation, giving up once the timeout has passed.
+     * <p>
+     * The supplier runs on a new virtual thread while the caller waits. If it has not completed in time, it is
+     * interrupted and abandoned and a {@code GENERIC_TIMEOUT} failure is returned whose detail records the time
+     * allowed and the time spent. Otherwise the result is the one {@link #attempt(CheckedSupplier)} would have returned.
+     * <p>
+     * The deadline flows into nested calls: an {@code attemptWithin} made by the supplier gets at most the time that
+     * remains, and the supplier can read it through {@link Deadline#current()}.
+     *
+     * @param timeout the time allowed. <b>Not null, not negative.</b>
+     * @param supplier function that supplies a new value and may throw checked exceptions. <b>Not null</b>.
+     *
+     * @return the result of the supplier, or a {@code GENERIC_TIMEOUT} failure
+     *
+     * @param <U> Type of the supplied value
+     *
+     * <p>
+     * <b>Example:</b>
+     * <pre>{@code
+     *   var stock = Try.attemptWithin(Duration.ofMillis(200), () -> inventory.stockLevel(sku));
+     * }
+     * </pre>
+     */
+
+    public static <U> Result<U> attemptWithin(@NonNull Duration timeout, @NonNull CheckedSupplier<U> supplier)
+    {
+        checkNotNull(timeout, "Timeout cannot be null");
+        checkNotNull(supplier, "Supplier function cannot be null");
+
+        var deadline = Deadline.within(timeout);
+
+        if (deadline.isExpired())
+        {
+            return deadline.timedOut();
+        }
+
+        var task = AsyncResult.attempt(() -> deadline.run(supplier));
+        var outcome = task.join(deadline);
+
+        if (!task.isDone())
+        {
+            task.cancel();
+        }
+
+        return outcome;
+    }
+
+    /**
+     * Attempt to execute the given checked supplier operation, trying again on failure as the policy allows.
+     * <p>
+     * Waits between attempts use exponential backoff with jitter and run on the calling thread, which is cheap on a
+     * virtual thread. The returned failure is that of the last attempt, with the failures of earlier attempts linked
+     * behind it through {@code precedingFailure}, most recent first, up to the policy's chain length.
+     * If the calling thread is interrupted while waiting, retrying stops with a {@code GENERIC_INTERRUPTED_EXCEPTION}
+     * failure and the interrupt flag restored.
+     *
+     * @param policy when and how often to retry. <b>Not null</b>.
+     * @param supplier function that supplies a new value and may throw checked exceptions. <b>Not null</b>.
+     *
+     * @return the result of the first successful attempt, or the failure of the last one
+     *
+     * @param <U> Type of the supplied value
+     *
+     * <p>
+     * <b>Example:</b>
+     * <pre>{@code
+     *   var policy = RetryPolicy.of().maxAttempts(4).retryOnCause(IOException.class).build();
+     *
+     *   var profile = Try.retry(policy, () -> profiles.fetch(userId));
+     * }
+     * </pre>
+     *
+     * @see RetryPolicy
+     */
+
+    public static <U> Result<U> retry(@NonNull RetryPolicy policy, @NonNull CheckedSupplier<U> supplier)
+    {
+        checkNotNull(policy, "Retry policy cannot be null");
+        checkNotNull(supplier, "Supplier function cannot be null");
+
+        return policy.run(supplier);
+    }
+
+    /**
+     * Memoize the given checked function, keeping the result for each key in a bounded cache.
+     * <p>
+     * The returned cache keeps up to 10,000 keys, successes for 5 minutes and failures for 5 seconds. Concurrent
+     * calls for a key that is not kept share one call of the function. Use {@link ResultCache#of(CheckedFunction)}
+     * to choose other limits.
+     *
+     * @param loader function that loads the value of a key and may throw checked exceptions. <b>Not null</b>.
+     *
+     * @return a {@code ResultCache} that returns the kept or newly loaded result for a key
+     *
+     * @param <K> Type of the keys
+     * @param <V> Type of the loaded values
+     *
+     * <p>
+     * <b>Example:</b>
+     * <pre>{@code
+     *   var prices = Try.memoize(pricing::quote);
+     *
+     *   Result<Price> price = prices.apply(sku);
+     * }
+     * </pre>
+     */
+
+    public static <K, V> ResultCache<K, V> memoize(@NonNull CheckedFunction<K, V> loader)
+    {
+        checkNotNull(loader, "Loader function cannot be null");
+
+        return ResultCache.of(loader).build();
+    }
+
+    /**
+     * Attempt all of the given checked supplier operations at once, each on its own virtual thread.
+     * <p>
+     * Succeeds with the supplied values, in the order of the suppliers, once every operation has succeeded. On the
+     * first failure the operations still running are cancelled and that failure is returned, with any other failures
+     * that had already happened chained behind it through {@code precedingFailure}.
+     * If the calling thread is interrupted while waiting, the operations are cancelled and a
+     * {@code GENERIC_INTERRUPTED_EXCEPTION} failure is returned.
+     *
+     * @param suppliers functions that supply values and may throw checked exceptions. <b>Not null</b>.
+     *
+     * @return a {@code QuantSuccess} with the list of supplied values (which may contain nulls), or the first failure
+     *
+     * @param <U> Type of the supplied values
+     *
+     * <p>
+     * <b>Example:</b>
+     * <pre>{@code
+     *   Result<List<Quote>> quotes = Try.all(() -> carrierA.quote(parcel), () -> carrierB.quote(parcel));
+     * }
+     * </pre>
+     */
+
+    @SafeVarargs
+    public static <U> Result<List<U>> all(@NonNull CheckedSupplier<? extends U>... suppliers)
+    {
+        checkNotNull(suppliers, "Suppliers cannot be null");
+
+        return all(Arrays.asList(suppliers));
+    }
+
+    /**
+     * Attempt all of the given checked supplier operations at once, each on its own virtual thread.
+     *
+     * @param suppliers functions that supply values and may throw checked exceptions. <b>Not null</b>.
+     *
+     * @return a {@code QuantSuccess} with the list of supplied values (which may contain nulls), or the first failure
+     *
+     * @param <U> Type of the supplied values
+     *
+     * @see #all(CheckedSupplier[])
+     */
+
+    public static <U> Result<List<U>> all(@NonNull List<? extends CheckedSupplier<? extends U>> suppliers)
+    {
+        checkNotNull(suppliers, "Suppliers cannot be null");
+        suppliers.forEach(supplier -> checkNotNull(supplier, "Supplier function cannot be null"));
+
+        return FanOut.all(suppliers);
+    }
+
+    /**
+     * Attempt all of the given checked supplier operations at once, each on its own virtual thread, and return the
+     * first success.
+     * <p>
+     * Once one operation succeeds the others are cancelled. If every operation fails, the first failure is returned
+     * with the others chained behind it through {@code precedingFailure}.
+     *
+     * @param suppliers functions that supply values and may throw checked exceptions. <b>Not null, not empty</b>.
+     *
+     * @return the result of the first operation to succeed, or the first failure if none did
+     *
+     * @param <U> Type of the supplied values
+     *
+     * <p>
+     * <b>Example:</b>
+     * <pre>{@code
+     *   Result<Rate> rate = Try.any(() -> primary.rate(pair), () -> replica.rate(pair));
+     * }
+     * </pre>
+     */
+
+    @SafeVarargs
+    public static <U> Result<U> any(@NonNull CheckedSupplier<? extends U>... suppliers)
+    {
+        checkNotNull(suppliers, "Suppliers cannot be null");
+
+        return any(Arrays.asList(suppliers));
+    }
+
+    /**
+     * Attempt all of the given checked supplier operations at once and return the first success.
+     *
+     * @param suppliers functions that supply values and may throw checked exceptions. <b>Not null, not empty</b>.
+     *
+     * @return the result of the first operation to succeed, or the first failure if none did
+     *
+     * @param <U> Type of the supplied values
+     *
+     * @see #any(CheckedSupplier[])
+     */
+
+    public static <U> Result<U> any(@NonNull List<? extends CheckedSupplier<? extends U>> suppliers)
+    {
+        checkNotNull(suppliers, "Suppliers cannot be null");
+        checkArgument(!suppliers.isEmpty(), "At least one supplier is needed");
+        suppliers.forEach(supplier -> checkNotNull(supplier, "Supplier function cannot be null"));
+
+        return FanOut.any(suppliers);
+    }
+
+    /**
+     * Attempt to execute the given checked supplier of a primitive {@code int} and return the result without boxing it.
+     * Checked exceptions are converted to failures the same way as {@link #attempt(CheckedSupplier)}.
+     *
+     * @param supplier function that supplies a new value and may throw checked exceptions. <b>Not null</b>.
+     *
+     * @return a successful {@code IntResult} holding the supplied value, or a failed one if the supplier throws an exception.
+     */
+
+    public static IntResult attemptInt(@NonNull CheckedIntSupplier supplier)
+    {
+        checkNotNull(supplier, "Supplier function cannot be null");
+
+        try
+        {
+            return IntResult.success(supplier.getAsInt());
+        }
+        catch (Exception e)
+        {
+            return IntResult.failure(failureFrom(e));
+        }
+    }
+
+    /**
+     * Attempt to execute the given checked supplier of a primitive {@code long} and return the result without boxing it.
+     * Checked exceptions are converted to failures the same way as {@link #attempt(CheckedSupplier)}.
+     *
+     * @param supplier function that supplies a new value and may throw checked exceptions. <b>Not null</b>.
+     *
+     * @return a successful {@code LongResult} holding the supplied value, or a failed one if the supplier throws an exception.
+     */
+
+    public static LongResult attemptLong(@NonNull CheckedLongSupplier supplier)
+    {
+        checkNotNull(supplier, "Supplier function cannot be null");
+
+        try
+        {
+            return LongResult.success(supplier.getAsLong());
+        }
+        catch (Exception e)
+        {
+            return LongResult.failure(failureFrom(e));
+        }
+    }
+
+    /**
+     * Attempt to execute the given checked supplier of a primitive {@code double} and return the result without boxing it.
+     * Checked exceptions are converted to failures the same way as {@link #attempt(CheckedSupplier)}.
+     *
+     * @param supplier function that supplies a new value and may throw checked exceptions. <b>Not null</b>.
+     *
+     * @return a successful {@code DoubleResult} holding the supplied value, or a failed one if the supplier throws an exception.
+     */
+
+    public static DoubleResult attemptDouble(@NonNull CheckedDoubleSupplier supplier)
+    {
+        checkNotNull(supplier, "Supplier function cannot be null");
+
+        try
+        {
+            return DoubleResult.success(supplier.getAsDouble());
+        }
+        catch (Exception e)
+        {
+            return DoubleResult.failure(failureFrom(e));
+        }
+    }
+
     /**
      * Construct a successful result with a Boolean value of true
      *
@@ -78,7 +424,7 @@ public class Try
 
     public static Result<Boolean> success()
     {
-        return new QuantSuccess<>(Boolean.TRUE);
+        return QuantSuccess.TRUE;
     }
 
     /**
@@ -101,7 +447,32 @@ public class Try
 
     public static <T> Result<T> success(T value)
     {
-        return Objects.nonNull(value) ? new QuantSuccess<>(value) : new QualSuccess<>();
+        return Objects.nonNull(value) ? QuantSuccess.of(value) : QualSuccess.instance();
+    }
+
+    /**
+     * Construct a successful result with given value, reusing a shared instance where the value can be interned.
+     * <p>
+     * Opt-in alternative to {@link #success(Object)} for hot paths that return a small set of values such as
+     * enum constants or small integers. See {@link QuantSuccess#cached(Object)} for what is interned.
+     *
+     * @param value the value payload
+     *
+     * @param <T> class of the contained success value
+     *
+     * @return a shared or new {@code QuantSuccess} with payload or {@code QualSuccess} if the value is {@code null}
+     *
+     * <p>
+     * <b>Example:</b>
+     * <pre>{@code
+     *   return Try.cachedSuccess(Status.ACTIVE);
+     * }
+     * </pre>
+     */
+
+    public static <T> Result<T> cachedSuccess(T value)
+    {
+        return Objects.nonNull(value) ? QuantSuccess.cached(value) : QualSuccess.instance();
     }
 
     /**
@@ -332,4 +703,45 @@ public class Try
         return new Failure<>(fail);
     }
 
+    /**
+     * Converts an exception thrown by an attempted operation into a failure of the matching generic type.
+     * InterruptedException is handled specially by restoring the interrupt flag.
+     */
+
+    static <T> Failure<T> failureFrom(Exception e)
+    {
+        return failureFrom(e, null);
+    }
+
+    /**
+     * Converts an exception thrown by an attempted operation into a failure of the matching generic type that
+     * follows on from an earlier failure.
+     */
+
+    static <T> Failure<T> failureFrom(Exception e, FailureDescription precedingFailure)
+    {
+        return switch (e)
+        {
+            case InterruptedException ex -> {
+                // restore the interrupted flag
+                Thread.currentThread().interrupt();
+                yield new Failure<>(FailureDescription.of()
+                    .type(FailureDescription.GenericFailureType.GENERIC_INTERRUPTED_EXCEPTION)
+                    .cause(ex)
+                    .precedingFailure(precedingFailure)
+                    .build());
+            }
+            case RuntimeException ex -> new Failure<>(FailureDescription.of()
+                .type(FailureDescription.GenericFailureType.GENERIC_RUNTIME_EXCEPTION)
+                .cause(ex)
+                .precedingFailure(precedingFailure)
+                .build());
+            case Exception ex -> new Failure<>(FailureDescription.of()
+                .type(FailureDescription.GenericFailureType.GENERIC_EXCEPTION)
+                .cause(ex)
+                .precedingFailure(precedingFailure)
+                .build());
+        };
+    }
+
 }
@@ -0,0 +1,52 @@
+package org.saltations.endeavour;
+
+/**
+ * Picks the failure to return when results being zipped are not all successes.
+ * <p>
+ * Backs {@link Result#zip(Result, Result, CheckedBiFunction)} and its sibling arities, and only runs once a failure
+ * is known to be present, so the success path of a zip allocates nothing here.
+ */
+
+final class Zip
+{
+    private Zip()
+    {
+    }
+
+    /**
+     * Returns the first failure among the results, in argument order.
+     * <p>
+     * When accumulating, the other failures are chained behind the first through {@code precedingFailure} in argument
+     * order. A single failure is returned as is in either case.
+     */
+
+    static <R> Result<R> failure(boolean accumulate, Result<?>... results)
+    {
+        Failure<?> first = null;
+        FailureDescription chained = null;
+        var count = 0;
+
+        // Walk backwards so that each failure can take the ones after it as its preceding chain
+
+        for (int i = results.length - 1; i >= 0; i--)
+        {
+            if (results[i] instanceof Failure<?> failure)
+            {
+                if (accumulate)
+                {
+                    chained = chained == null ? failure.description() : FanOut.appendPreceding(failure.description(), chained);
+                }
+
+                first = failure;
+                count++;
+            }
+        }
+
+        if (first == null)
+        {
+            throw new IllegalStateException("No failure among the zipped results");
+        }
+
+        return accumulate && count > 1 ? new Failure<>(chained) : first.cast();
+    }
+}
@@ -1,9 +1,11 @@
 package org.saltations.endeavour.exception;
 
+import java.io.IOException;
+import java.io.ObjectOutputStream;
 import java.time.Instant;
+import java.util.Objects;
 import java.util.UUID;
-
-import lombok.Getter;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 /**
  * A business domain error. This is an unchecked exception that indicates that an exceptional event has happened.
@@ -11,21 +13,36 @@ import lombok.Getter;
  * They may be carried by the Try but the two should not have any dependencies on each other.
  * This primary purpose of this class is to provide a an exception that can be used to carry a trace id in layers that require exceptions.
  * It is expected that the exception will primarily used in the service layer.
+ * <p>
+ * Creating the exception only reads the clock. The trace id is generated by the configured
+ * {@link TraceIdGenerator} the first time it is asked for (or when the exception is serialized), for the
+ * millisecond the exception was created in.
  */
 
 public class DomainException extends FormattedUncheckedException
 {
-     private static final long serialVersionUID = 1L;
+    /**
+     * Version 2 generates the trace id lazily and pins it on write.
+     */
+
+    private static final long serialVersionUID = 2L;
+
+    private static final AtomicReferenceFieldUpdater<DomainException, UUID> TRACE_ID =
+        AtomicReferenceFieldUpdater.newUpdater(DomainException.class, UUID.class, "traceId");
+
+    private static volatile TraceIdGenerator traceIdGenerator = TraceIdGenerator.timeOrdered();
 
     /**
      * Tracer id for the exception. This is used to track the exception through the system from generation to where it is logged.
+     * Generated on first access.
      */
 
-    @Getter
-    private final UUID traceId = UUID.randomUUID();
+    private volatile UUID traceId;
+
+    /**
+     * When the exception was created.
+     */
 
-    // Add timestamp for when the exception occurred
-    @Getter
     private final Instant timestamp = Instant.now();
 
     public DomainException(String msg, Object... args)
@@ -38,4 +55,112 @@ public class DomainException extends FormattedUncheckedException
         super(e, msg, args);
     }
 
+    /**
+     * Constructor for subclasses that choose whether a stack trace is captured.
+     *
+     * @param e Root cause exception. May be null.
+     * @param stackless {@code true} to skip capturing the stack trace
+     * @param msg Formatting message
+     * @param args Objects as message parameters
+     *
+     * @see FormattedUncheckedException#setCaptureStackTraces(boolean)
+     */
+
+    protected DomainException(Throwable e, boolean stackless, String msg, Object... args)
+    {
+        super(e, stackless, msg, args);
+    }
+
+    /**
+     * Creates a domain exception without a stack trace and without suppression. The trace id and timestamp are
+     * still assigned, so the exception can be followed through the system by its trace id alone.
+     *
+     * @param msg Formatting message
+     * @param args Objects as message parameters
+     *
+     * @return the new exception
+     */
+
+    public static DomainException stackless(String msg, Object... args)
+    {
+        return new DomainException(null, true, msg, args);
+    }
+
+    /**
+     * Creates a domain exception with a root cause but without a stack trace of its own and without suppression.
+     *
+     * @param e Root cause exception
+     * @param msg Formatting message
+     * @param args Objects as message parameters
+     *
+     * @return the new exception
+     */
+
+    public static DomainException stackless(Throwable e, String msg, Object... args)
+    {
+        return new DomainException(e, true, msg, args);
+    }
+
+    /**
+     * Returns the trace id of this exception, generating it on the first call. The id is generated for the creation
+     * time of the exception, so time-ordered ids sort by when the exceptions were created rather than first read.
+     *
+     * @return the trace id. The same value is returned on every call.
+     */
+
+    public UUID getTraceId()
+    {
+        var current = traceId;
+
+        if (current != null)
+        {
+            return current;
+        }
+
+        var generated = Objects.requireNonNull(traceIdGenerator.next(timestamp.toEpochMilli()), "Trace id generator returned null");
+
+        return TRACE_ID.compareAndSet(this, null, generated) ? generated : traceId;
+    }
+
+    /**
+     * Returns when the exception was created.
+     *
+     * @return the creation time
+     */
+
+    public Instant getTimestamp()
+    {
+        return timestamp;
+    }
+
+    /**
+     * Replaces the generator used for the trace ids of domain exceptions. Applies to ids generated after the call.
+     *
+     * @param generator the trace id generator. <b>Not null.</b>
+     */
+
+    public static void setTraceIdGenerator(TraceIdGenerator generator)
+    {
+        traceIdGenerator = Objects.requireNonNull(generator, "Trace id generator cannot be null");
+    }
+
+    /**
+     * @return the generator currently used for trace ids
+     */
+
+    public static TraceIdGenerator getTraceIdGenerator()
+    {
+        return traceIdGenerator;
+    }
+
+    /**
+     * Fixes the trace id before serializing so that the deserialized copy carries the same id.
+     */
+
+    private void writeObject(ObjectOutputStream out) throws IOException
+    {
+        getTraceId();
+        out.defaultWriteObject();
+    }
+
 }
@@ -2,11 +2,16 @@ package org.saltations.endeavour.exception;
 
 import lombok.Getter;
 import lombok.NonNull;
-import org.slf4j.helpers.MessageFormatter;
+import org.saltations.endeavour.ParsedTemplate;
 
 /**
  * A runtime exception that allows the user to pass in messages with parameters. Messages and parameters are
- * done using {@link org.slf4j.helpers.MessageFormatter} format strings.
+ * done using {@link org.slf4j.helpers.MessageFormatter} format strings and expanded by {@link ParsedTemplate}.
+ * <p>
+ * Exceptions that are only used to carry an error across layers can be created with {@link #stackless(String, Object...)},
+ * which skips filling in the stack trace and disables suppression. Setting the system property
+ * {@value #CAPTURE_STACK_TRACES_PROPERTY} to {@code true}, or calling {@link #setCaptureStackTraces(boolean)},
+ * turns stack capture back on for every stackless exception while debugging.
  */
 
 @Getter
@@ -18,6 +23,14 @@ public class FormattedUncheckedException extends RuntimeException
 
     private static final long serialVersionUID = 1L;
 
+    /**
+     * System property that, when {@code true}, makes stackless exceptions capture their stack trace after all.
+     */
+
+    public static final String CAPTURE_STACK_TRACES_PROPERTY = "endeavour.exception.captureStackTraces";
+
+    private static volatile boolean captureStackTraces = Boolean.getBoolean(CAPTURE_STACK_TRACES_PROPERTY);
+
     /**
      * Constructor that takes {@link org.slf4j.helpers.MessageFormatter} format strings and parameters
      *
@@ -26,7 +39,7 @@ public class FormattedUncheckedException extends RuntimeException
      */
 
     public FormattedUncheckedException(@NonNull String msg, Object... args) {
-        super(MessageFormatter.basicArrayFormat(msg, args));
+        super(ParsedTemplate.expand(msg, args));
     }
 
     /**
@@ -38,6 +51,70 @@ public class FormattedUncheckedException extends RuntimeException
      */
 
     public FormattedUncheckedException(@NonNull Throwable e, @NonNull String msg, Object... args) {
-        super(MessageFormatter.basicArrayFormat(msg, args), e);
+        super(ParsedTemplate.expand(msg, args), e);
+    }
+
+    /**
+     * Constructor for subclasses that choose whether a stack trace is captured.
+     * <p>
+     * When {@code stackless} is {@code true} the stack trace is not filled in and suppressed exceptions are not
+     * recorded, unless stack capture has been switched back on with {@link #setCaptureStackTraces(boolean)}.
+     *
+     * @param e Root cause exception. May be null.
+     * @param stackless {@code true} to skip capturing the stack trace
+     * @param msg Formatting message. Uses {@link org.slf4j.helpers.MessageFormatter#format} notation.
+     * @param args Objects as message parameters
+     */
+
+    protected FormattedUncheckedException(Throwable e, boolean stackless, @NonNull String msg, Object... args) {
+        super(ParsedTemplate.expand(msg, args), e, !stackless || captureStackTraces, !stackless || captureStackTraces);
+    }
+
+    /**
+     * Creates an exception without a stack trace and without suppression.
+     *
+     * @param msg Formatting message. Uses {@link org.slf4j.helpers.MessageFormatter#format} notation.
+     * @param args Objects as message parameters
+     *
+     * @return the new exception
+     */
+
+    public static FormattedUncheckedException stackless(@NonNull String msg, Object... args) {
+        return new FormattedUncheckedException(null, true, msg, args);
+    }
+
+    /**
+     * Creates an exception with a root cause but without a stack trace of its own and without suppression.
+     *
+     * @param e Root cause exception. Non-null.
+     * @param msg Formatting message. Uses {@link org.slf4j.helpers.MessageFormatter#format} notation.
+     * @param args Objects as message parameters
+     *
+     * @return the new exception
+     */
+
+    public static FormattedUncheckedException stackless(@NonNull Throwable e, @NonNull String msg, Object... args) {
+        return new FormattedUncheckedException(e, true, msg, args);
+    }
+
+    /**
+     * Returns whether stackless exceptions currently capture their stack trace anyway.
+     *
+     * @return {@code true} if stack capture has been switched back on
+     */
+
+    public static boolean isCaptureStackTraces() {
+        return captureStackTraces;
+    }
+
+    /**
+     * Switches stack capture back on (or off again) for exceptions created as stackless. Intended for debugging.
+     * Affects exceptions created after the call.
+     *
+     * @param capture {@code true} to capture stack traces for every exception
+     */
+
+    public static void setCaptureStackTraces(boolean capture) {
+        captureStackTraces = capture;
     }
 }
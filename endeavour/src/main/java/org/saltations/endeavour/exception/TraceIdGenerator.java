@@ -0,0 +1,91 @@
+package org.saltations.endeavour.exception;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Supplies the trace ids given to {@link DomainException}s.
+ * <p>
+ * The default, {@link #timeOrdered()}, builds version 7 style UUIDs from the wall clock, a counter and
+ * {@link ThreadLocalRandom}. It never touches {@code SecureRandom}, so it does not take a lock when many threads
+ * create exceptions at once.
+ * Use {@link #random()} where trace ids must be unguessable.
+ *
+ * @see DomainException#setTraceIdGenerator(TraceIdGenerator)
+ */
+
+@FunctionalInterface
+public interface TraceIdGenerator
+{
+    /**
+     * Generates a new trace id.
+     *
+     * @return a new trace id. Never null.
+     */
+
+    UUID next();
+
+    /**
+     * Generates a new trace id for something created at the given time. Generators that embed a time use it in place
+     * of the current time; by default it is ignored.
+     *
+     * @param createdAtMillis epoch milliseconds at which the traced thing was created
+     *
+     * @return a new trace id. Never null.
+     */
+
+    default UUID next(long createdAtMillis)
+    {
+        return next();
+    }
+
+    /**
+     * Returns a generator of time-ordered ids: 48 bits of epoch milliseconds, a 12 bit counter and 62 random bits
+     * from {@link ThreadLocalRandom}, laid out as a version 7 UUID. Ids sort by creation time to the millisecond, and
+     * ids generated one after another for the same millisecond sort in the order they were generated, for up to 4096
+     * ids in that millisecond. Past that the counter stays at its maximum and only the random bits tell ids apart.
+     *
+     * @return the time-ordered generator
+     */
+
+    static TraceIdGenerator timeOrdered()
+    {
+        // Milliseconds and counter of the last id, packed as (millis << 12) | counter
+
+        var last = new AtomicLong();
+
+        return new TraceIdGenerator()
+        {
+            @Override
+            public UUID next()
+            {
+                return next(System.currentTimeMillis());
+            }
+
+            @Override
+            public UUID next(long createdAtMillis)
+            {
+                var stamp = last.updateAndGet(previous -> (previous >>> 12) != createdAtMillis ? createdAtMillis << 12
+                                                            : (previous & 0x0FFFL) == 0x0FFFL ? previous
+                                                            : previous + 1);
+
+                long mostSignificant = (createdAtMillis << 16) | 0x7000L | (stamp & 0x0FFFL);
+                long leastSignificant = (ThreadLocalRandom.current().nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+
+                return new UUID(mostSignificant, leastSignificant);
+            }
+        };
+    }
+
+    /**
+     * Returns a generator of cryptographically random version 4 ids from {@link UUID#randomUUID()}.
+     *
+     * @return the random generator
+     */
+
+    static TraceIdGenerator random()
+    {
+        return UUID::randomUUID;
+    }
+}
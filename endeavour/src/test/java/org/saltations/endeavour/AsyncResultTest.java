@@ -0,0 +1,272 @@
+package org.saltations.endeavour;
+
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.saltations.endeavour.fixture.ReplaceBDDCamelCase;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.saltations.endeavour.fixture.ResultAssert.assertThat;
+
+/**
+ * Validates AsyncResult and its use of virtual threads
+ */
+
+@Order(18)
+@DisplayNameGeneration(ReplaceBDDCamelCase.class)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class AsyncResultTest
+{
+    @Test
+    @Order(1)
+    void whenAttemptedThenRunsOnVirtualThread()
+    {
+        var result = Try.attemptAsync(() -> Thread.currentThread().isVirtual()).join();
+
+        assertThat(result).isQuantSuccess().hasValue(true);
+    }
+
+    @Test
+    @Order(2)
+    void whenSupplierThrowsThenJoinReturnsFailure()
+    {
+        assertThat(Try.attemptAsync(() -> { throw new IOException("unreachable"); }).join())
+            .isFailure()
+            .hasFailureType(FailureDescription.GenericFailureType.GENERIC_EXCEPTION)
+            .hasCauseOfType(IOException.class);
+
+        assertThat(Try.attemptAsync(() -> null).join()).isQualSuccess();
+    }
+
+    @Test
+    @Order(10)
+    void whenMappedThenMappingDoesNotBlockCaller() throws Exception
+    {
+        var release = new CountDownLatch(1);
+        var async = Try.attemptAsync(() -> {
+            release.await();
+            return 20;
+        });
+
+        var mapped = async.map(x -> x + 1)
+                          .flatMap(x -> Try.success(x * 2));
+
+        assertFalse(mapped.isDone(), "Mapping must not wait for the operation");
+
+        release.countDown();
+
+        assertThat(mapped.join()).hasValue(42);
+    }
+
+    @Test
+    @Order(11)
+    void whenMappingThrowsThenFailureInsteadOfException()
+    {
+        var result = Try.attemptAsync(() -> "value")
+                        .map(x -> { throw new IOException("mapping failed"); })
+                        .join();
+
+        assertThat(result).isFailure().hasCauseOfType(IOException.class);
+    }
+
+    @Test
+    @Order(12)
+    void whenFlatMappedAsyncThenChainsOperations()
+    {
+        var result = Try.attemptAsync(() -> 6)
+                        .flatMapAsync(x -> Try.attemptAsync(() -> x * 7))
+                        .join();
+
+        assertThat(result).hasValue(42);
+    }
+
+    @Test
+    @Order(13)
+    void whenFailedThenRecoverSuppliesValue()
+    {
+        var recovered = Try.<Integer>attemptAsync(() -> { throw new IOException("down"); })
+                           .recover(failure -> -1)
+                           .join();
+
+        var failedRecovery = Try.<Integer>attemptAsync(() -> { throw new IOException("down"); })
+                                .recover(failure -> { throw new IllegalStateException("no fallback"); })
+                                .join();
+
+        assertThat(recovered).hasValue(-1);
+        assertThat(failedRecovery).isFailure().hasCauseOfType(IllegalStateException.class);
+        assertEquals(FailureDescription.GenericFailureType.GENERIC_EXCEPTION, ((Failure<Integer>) failedRecovery).description().getPrecedingFailure().getType());
+        assertThat(Try.attemptAsync(() -> 5).recover(failure -> -1).join()).hasValue(5);
+    }
+
+    @Test
+    @Order(20)
+    void whenOperationIsInterruptedThenInterruptedFailure()
+    {
+        var result = Try.attemptAsync(() -> {
+            Thread.currentThread().interrupt();
+            Thread.sleep(1_000);
+            return "never";
+        }).join();
+
+        assertThat(result).isFailure().hasFailureType(FailureDescription.GenericFailureType.GENERIC_INTERRUPTED_EXCEPTION);
+    }
+
+    @Test
+    @Order(21)
+    void whenWaitingThreadIsInterruptedThenInterruptedFailureAndFlagRestored() throws Exception
+    {
+        var release = new CountDownLatch(1);
+        var async = Try.attemptAsync(() -> {
+            release.await();
+            return "late";
+        });
+
+        var outcome = new AtomicReference<Result<String>>();
+        var flagRestored = new AtomicBoolean();
+
+        var waiter = Thread.ofVirtual().start(() -> {
+            outcome.set(async.join());
+            flagRestored.set(Thread.currentThread().isInterrupted());
+        });
+
+        waiter.interrupt();
+        waiter.join(5_000);
+        release.countDown();
+
+        assertThat(outcome.get()).isFailure().hasFailureType(FailureDescription.GenericFailureType.GENERIC_INTERRUPTED_EXCEPTION);
+        assertTrue(flagRestored.get(), "Interrupt flag is restored");
+    }
+
+    @Test
+    @Order(30)
+    void whenCancelledThenCompletesWithCancelledFailureAndInterruptsOperation() throws Exception
+    {
+        var started = new CountDownLatch(1);
+        var interrupted = new CountDownLatch(1);
+
+        var async = Try.attemptAsync(() -> {
+            started.countDown();
+
+            try
+            {
+                Thread.sleep(10_000);
+            }
+            catch (InterruptedException e)
+            {
+                interrupted.countDown();
+                throw e;
+            }
+
+            return "never";
+        });
+
+        var mapped = async.map(String::length);
+
+        started.await(5, TimeUnit.SECONDS);
+
+        assertTrue(mapped.cancel(), "Cancels a pending result");
+        assertFalse(mapped.cancel(), "Already cancelled");
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS), "Operation is interrupted");
+
+        assertThat(mapped.join()).isFailure().hasFailureType(FailureDescription.GenericFailureType.GENERIC_CANCELLED);
+        assertThat(async.join()).isFailure().hasFailureType(FailureDescription.GenericFailureType.GENERIC_CANCELLED);
+    }
+
+    @Test
+    @Order(31)
+    void whenDerivedResultIsCancelledThenSiblingBranchesAreUnaffected() throws Exception
+    {
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+
+        var async = Try.attemptAsync(() -> {
+            started.countDown();
+            release.await(10, TimeUnit.SECONDS);
+            return "done";
+        });
+
+        var length = async.map(String::length);
+        var upper = async.map(String::toUpperCase);
+
+        started.await(5, TimeUnit.SECONDS);
+
+        assertTrue(length.cancel());
+        assertFalse(async.isDone(), "Attempt keeps running for the other branch");
+
+        release.countDown();
+
+        assertThat(length.join()).isFailure().hasFailureType(FailureDescription.GenericFailureType.GENERIC_CANCELLED);
+        assertThat(upper.join()).hasValue("DONE");
+        assertThat(async.join()).hasValue("done");
+    }
+
+    @Test
+    @Order(32)
+    void whenEveryDerivedResultIsCancelledThenAttemptIsCancelled() throws Exception
+    {
+        var started = new CountDownLatch(1);
+        var interrupted = new CountDownLatch(1);
+
+        var async = Try.attemptAsync(() -> {
+            started.countDown();
+
+            try
+            {
+                Thread.sleep(10_000);
+            }
+            catch (InterruptedException e)
+            {
+                interrupted.countDown();
+                throw e;
+            }
+
+            return "never";
+        });
+
+        var length = async.map(String::length).map(n -> n * 2);
+        var upper = async.map(String::toUpperCase);
+
+        started.await(5, TimeUnit.SECONDS);
+
+        assertTrue(length.cancel());
+        assertFalse(async.isDone());
+
+        assertTrue(upper.cancel());
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS), "Operation is interrupted");
+        assertThat(async.join()).isFailure().hasFailureType(FailureDescription.GenericFailureType.GENERIC_CANCELLED);
+    }
+
+    @Test
+    @Order(33)
+    void whenExecutorRejectsThenFailureRatherThanException()
+    {
+        var executor = Executors.newSingleThreadExecutor();
+        executor.shutdown();
+
+        assertThat(Try.attemptAsync(() -> "never", executor).join())
+            .isFailure()
+            .hasFailureType(FailureDescription.GenericFailureType.GENERIC_RUNTIME_EXCEPTION);
+    }
+
+    @Test
+    @Order(34)
+    void whenCompletedThenJoinReturnsOutcome()
+    {
+        var outcome = Try.success("known");
+
+        assertTrue(AsyncResult.completed(outcome).isDone());
+        assertEquals(outcome, AsyncResult.completed(outcome).join());
+        assertEquals(outcome, AsyncResult.completed(outcome).toCompletionStage().toCompletableFuture().join());
+    }
+}
@@ -0,0 +1,249 @@
+package org.saltations.endeavour;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.saltations.endeavour.fixture.ReplaceBDDCamelCase;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.saltations.endeavour.fixture.ResultAssert.assertThat;
+
+/**
+ * Validates Bulkhead limits, queueing and adaptive limits
+ */
+
+@Order(24)
+@DisplayNameGeneration(ReplaceBDDCamelCase.class)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class BulkheadTest
+{
+    @Test
+    @Order(1)
+    void whenWithinLimitThenCallIsMade()
+    {
+        var bulkhead = Bulkhead.of("search").maxConcurrent(2).build();
+
+        assertThat(bulkhead.attempt(() -> "hits")).hasValue("hits");
+        assertEquals(0, bulkhead.getInFlight());
+    }
+
+    @Test
+    @Order(2)
+    void whenFullThenRefusesAtOnceWithSharedFailure() throws Exception
+    {
+        var bulkhead = Bulkhead.of("search").maxConcurrent(2).build();
+        var release = new CountDownLatch(1);
+        var running = occupy(bulkhead, 2, release);
+
+        var first = bulkhead.<String>attempt(() -> "never");
+        var second = bulkhead.<Integer>attempt(() -> 1);
+
+        assertThat(first).isFailure().hasFailureType(FailureDescription.GenericFailureType.GENERIC_BULKHEAD_FULL);
+        assertEquals("Bulkhead search is full; call not attempted", ((Failure<String>) first).getDetail());
+        assertSame(first, second, "The same failure is returned for every refused call");
+        assertThrows(IllegalStateException.class, () -> ((Failure<String>) first).description().setDetail("Changed"), "The shared failure cannot be changed");
+
+        release.countDown();
+        join(running);
+
+        assertThat(bulkhead.attempt(() -> "hits")).hasValue("hits");
+    }
+
+    @Test
+    @Order(3)
+    void whenQueuedThenRunsOnceCapacityFreesUp() throws Exception
+    {
+        var bulkhead = Bulkhead.of("search").maxConcurrent(1).maxQueued(1).maxWait(Duration.ofSeconds(5)).build();
+        var release = new CountDownLatch(1);
+        var running = occupy(bulkhead, 1, release);
+
+        var queued = new AtomicReference<Result<String>>();
+        var waiter = Thread.ofVirtual().start(() -> queued.set(bulkhead.attempt(() -> "queued")));
+
+        awaitCondition(() -> bulkhead.getWaiting() == 1);
+
+        assertThat(bulkhead.attempt(() -> "never")).hasFailureType(FailureDescription.GenericFailureType.GENERIC_BULKHEAD_FULL);
+
+        release.countDown();
+        waiter.join(5_000);
+        join(running);
+
+        assertThat(queued.get()).hasValue("queued");
+    }
+
+    @Test
+    @Order(4)
+    void whenWaitTimesOutThenRefused() throws Exception
+    {
+        var bulkhead = Bulkhead.of("search").maxConcurrent(1).maxQueued(1).maxWait(Duration.ofMillis(50)).build();
+        var release = new CountDownLatch(1);
+        var running = occupy(bulkhead, 1, release);
+
+        var started = System.nanoTime();
+        var result = bulkhead.attempt(() -> "never");
+
+        assertThat(result).hasFailureType(FailureDescription.GenericFailureType.GENERIC_BULKHEAD_FULL);
+        assertTrue(System.nanoTime() - started >= TimeUnit.MILLISECONDS.toNanos(50), "Waited for capacity first");
+        assertEquals(0, bulkhead.getWaiting());
+
+        release.countDown();
+        join(running);
+    }
+
+    @Test
+    @Order(5)
+    void whenInterruptedWhileWaitingThenInterruptedFailure() throws Exception
+    {
+        var bulkhead = Bulkhead.of("search").maxConcurrent(1).maxQueued(1).maxWait(Duration.ofSeconds(10)).build();
+        var release = new CountDownLatch(1);
+        var running = occupy(bulkhead, 1, release);
+
+        var outcome = new AtomicReference<Result<String>>();
+        var waiter = Thread.ofVirtual().start(() -> outcome.set(bulkhead.attempt(() -> "never")));
+
+        awaitCondition(() -> bulkhead.getWaiting() == 1);
+
+        waiter.interrupt();
+        waiter.join(5_000);
+
+        assertThat(outcome.get()).hasFailureType(FailureDescription.GenericFailureType.GENERIC_INTERRUPTED_EXCEPTION);
+
+        release.countDown();
+        join(running);
+    }
+
+    @Test
+    @Order(6)
+    void whenManyPlatformThreadsCallThenLimitIsNeverExceeded() throws Exception
+    {
+        var bulkhead = Bulkhead.of("search").maxConcurrent(2).maxQueued(8).maxWait(Duration.ofSeconds(10)).build();
+        var concurrent = new AtomicInteger();
+        var highest = new AtomicInteger();
+        var succeeded = new AtomicInteger();
+        var threads = new ArrayList<Thread>();
+
+        for (int t = 0; t < 8; t++)
+        {
+            threads.add(Thread.ofPlatform().start(() -> {
+                var result = bulkhead.attempt(() -> {
+                    highest.accumulateAndGet(concurrent.incrementAndGet(), Math::max);
+                    Thread.sleep(10);
+                    concurrent.decrementAndGet();
+                    return "done";
+                });
+
+                if (result.hasPayload())
+                {
+                    succeeded.incrementAndGet();
+                }
+            }));
+        }
+
+        join(threads);
+
+        assertEquals(8, succeeded.get());
+        assertTrue(highest.get() <= 2, "At most two ran at once but saw " + highest.get());
+    }
+
+    @Test
+    @Order(10)
+    void whenAdaptiveThenLimitFollowsLatency()
+    {
+        var now = new AtomicLong();
+        var bulkhead = new Bulkhead(Bulkhead.of("search").adaptiveLimit(1, 3, Duration.ofMillis(100)).backoffRatio(0.5), now::get);
+
+        CheckedSupplier<String> fast = () -> {
+            now.addAndGet(TimeUnit.MILLISECONDS.toNanos(10));
+            return "fast";
+        };
+
+        CheckedSupplier<String> slow = () -> {
+            now.addAndGet(TimeUnit.MILLISECONDS.toNanos(500));
+            return "slow";
+        };
+
+        assertEquals(1, bulkhead.getLimit());
+
+        bulkhead.attempt(fast);
+        assertEquals(2, bulkhead.getLimit(), "Fast call at full use raises the limit");
+
+        bulkhead.attempt(fast);
+        assertEquals(3, bulkhead.getLimit(), "Half use still counts as busy");
+
+        bulkhead.attempt(fast);
+        assertEquals(3, bulkhead.getLimit(), "Not raised when mostly idle, nor above the maximum");
+
+        bulkhead.attempt(slow);
+        assertEquals(1, bulkhead.getLimit(), "Slow call cuts the limit, but not below the minimum");
+    }
+
+    @Test
+    @Order(20)
+    void whenSettingsAreInvalidThenRejected()
+    {
+        assertThrows(IllegalArgumentException.class, () -> Bulkhead.of("x").maxConcurrent(0));
+        assertThrows(IllegalArgumentException.class, () -> Bulkhead.of("x").maxQueued(-1));
+        assertThrows(IllegalArgumentException.class, () -> Bulkhead.of("x").maxWait(Duration.ofMillis(-1)));
+        assertThrows(IllegalArgumentException.class, () -> Bulkhead.of("x").adaptiveLimit(5, 4, Duration.ofMillis(10)));
+        assertThrows(IllegalArgumentException.class, () -> Bulkhead.of("x").adaptiveLimit(1, 4, Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> Bulkhead.of("x").backoffRatio(1.0));
+        assertThrows(IllegalArgumentException.class, () -> Bulkhead.of("x").maxQueued(32).build(), "Queue without a wait");
+        assertThrows(IllegalArgumentException.class, () -> Bulkhead.of("x").maxWait(Duration.ofMillis(50)).build(), "Wait without a queue");
+    }
+
+    /**
+     * Starts calls that hold the bulkhead until released, and waits until they are all running.
+     */
+
+    private static ArrayList<Thread> occupy(Bulkhead bulkhead, int calls, CountDownLatch release) throws Exception
+    {
+        var started = new CountDownLatch(calls);
+        var threads = new ArrayList<Thread>();
+
+        for (int i = 0; i < calls; i++)
+        {
+            threads.add(Thread.ofVirtual().start(() -> bulkhead.attempt(() -> {
+                started.countDown();
+                return release.await(10, TimeUnit.SECONDS);
+            })));
+        }
+
+        assertTrue(started.await(5, TimeUnit.SECONDS), "Calls are running");
+
+        return threads;
+    }
+
+    private static void join(ArrayList<Thread> threads) throws InterruptedException
+    {
+        for (var thread : threads)
+        {
+            thread.join(10_000);
+        }
+    }
+
+    private static void awaitCondition(BooleanSupplier condition) throws InterruptedException
+    {
+        var giveUpAt = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+
+        while (!condition.getAsBoolean() && System.nanoTime() < giveUpAt)
+        {
+            Thread.sleep(1);
+        }
+
+        assertTrue(condition.getAsBoolean(), "Condition met in time");
+    }
+}
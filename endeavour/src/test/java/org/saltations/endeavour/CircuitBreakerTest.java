@@ -0,0 +1,345 @@
+package org.saltations.endeavour;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.saltations.endeavour.CircuitBreaker.State;
+import org.saltations.endeavour.fixture.ReplaceBDDCamelCase;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.saltations.endeavour.fixture.ResultAssert.assertThat;
+
+/**
+ * Validates CircuitBreaker state changes and fail-fast behaviour
+ */
+
+@Order(23)
+@DisplayNameGeneration(ReplaceBDDCamelCase.class)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class CircuitBreakerTest
+{
+    private final AtomicLong now = new AtomicLong(TimeUnit.HOURS.toNanos(1));
+    private final AtomicInteger calls = new AtomicInteger();
+    private final List<String> changes = new ArrayList<>();
+
+    private final CheckedSupplier<String> failing = () -> {
+        calls.incrementAndGet();
+        throw new IOException("down");
+    };
+
+    private final CheckedSupplier<String> working = () -> {
+        calls.incrementAndGet();
+        return "up";
+    };
+
+    @BeforeEach
+    void clearRecordedCalls()
+    {
+        calls.set(0);
+        changes.clear();
+    }
+
+    @Test
+    @Order(1)
+    void whenCallsSucceedThenStaysClosed()
+    {
+        var breaker = breaker();
+
+        for (int i = 0; i < 10; i++)
+        {
+            assertThat(breaker.attempt(working)).hasValue("up");
+        }
+
+        assertEquals(State.CLOSED, breaker.getState());
+        assertEquals(List.of(), changes);
+    }
+
+    @Test
+    @Order(2)
+    void whenTooFewCallsThenDoesNotOpen()
+    {
+        var breaker = breaker();
+
+        for (int i = 0; i < 3; i++)
+        {
+            assertThat(breaker.attempt(failing)).isFailure().hasCauseOfType(IOException.class);
+        }
+
+        assertEquals(State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    @Order(3)
+    void whenFailureRateReachedThenOpensAndStopsCalling()
+    {
+        var breaker = breaker();
+
+        breaker.attempt(working);
+        breaker.attempt(working);
+        breaker.attempt(failing);
+        breaker.attempt(failing);
+
+        assertEquals(State.OPEN, breaker.getState());
+        assertEquals(List.of("CLOSED->OPEN"), changes);
+
+        calls.set(0);
+
+        var first = breaker.attempt(working);
+        var second = breaker.<Integer>attempt(() -> 1);
+
+        assertThat(first).isFailure().hasFailureType(FailureDescription.GenericFailureType.GENERIC_CIRCUIT_OPEN);
+        assertEquals("Circuit breaker inventory is open; call not attempted", ((Failure<String>) first).getDetail());
+        assertSame(first, second, "The same failure is returned for every refused call");
+        assertEquals(0, calls.get(), "Supplier is not called while open");
+    }
+
+    @Test
+    @Order(4)
+    void whenOldFailuresLeaveWindowThenTheyNoLongerCount()
+    {
+        var breaker = breaker();
+
+        breaker.attempt(failing);
+        breaker.attempt(failing);
+        breaker.attempt(failing);
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(11));
+
+        breaker.attempt(failing);
+
+        assertEquals(State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    @Order(10)
+    void whenOpenDurationPassesThenTrialCallsCloseIt()
+    {
+        var breaker = opened();
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(5));
+
+        assertThat(breaker.attempt(working)).hasValue("up");
+        assertEquals(State.HALF_OPEN, breaker.getState());
+
+        assertThat(breaker.attempt(working)).hasValue("up");
+        assertEquals(State.CLOSED, breaker.getState());
+        assertEquals(List.of("CLOSED->OPEN", "OPEN->HALF_OPEN", "HALF_OPEN->CLOSED"), changes);
+
+        breaker.attempt(failing);
+
+        assertEquals(State.CLOSED, breaker.getState(), "Closed again with a fresh window");
+    }
+
+    @Test
+    @Order(11)
+    void whenTrialCallFailsThenOpensAgain()
+    {
+        var breaker = opened();
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(5));
+
+        assertThat(breaker.attempt(failing)).hasCauseOfType(IOException.class);
+        assertEquals(State.OPEN, breaker.getState());
+        assertEquals(List.of("CLOSED->OPEN", "OPEN->HALF_OPEN", "HALF_OPEN->OPEN"), changes);
+        assertThat(breaker.attempt(working)).hasFailureType(FailureDescription.GenericFailureType.GENERIC_CIRCUIT_OPEN);
+    }
+
+    @Test
+    @Order(12)
+    void whenHalfOpenTrialsAreTakenThenFurtherCallsAreRefused()
+    {
+        var breaker = opened();
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(5));
+        calls.set(0);
+
+        var blocked = breaker.attempt(() -> {
+            // Two trials allowed: this one takes the first, the nested call the second, a third is refused
+
+            assertThat(breaker.attempt(working)).hasValue("up");
+            assertThat(breaker.attempt(working)).hasFailureType(FailureDescription.GenericFailureType.GENERIC_CIRCUIT_OPEN);
+            return "trial";
+        });
+
+        assertThat(blocked).hasValue("trial");
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    @Order(13)
+    void whenTrialFailsWhileAnotherCallerIsMovingToHalfOpenThenThatCallerIsRefused() throws Exception
+    {
+        var racer = new AtomicReference<Thread>();
+        var paused = new CountDownLatch(1);
+        var resume = new CountDownLatch(1);
+
+        // Holds the racing caller between reading the expired OPEN phase and trying to move it to HALF_OPEN
+
+        LongSupplier clock = () -> {
+            if (Thread.currentThread() == racer.get() && paused.getCount() > 0)
+            {
+                paused.countDown();
+
+                try
+                {
+                    resume.await(5, TimeUnit.SECONDS);
+                }
+                catch (InterruptedException e)
+                {
+                    Thread.currentThread().interrupt();
+                }
+            }
+
+            return now.get();
+        };
+
+        var breaker = new CircuitBreaker(CircuitBreaker.of("inventory")
+                                                       .minimumCalls(1)
+                                                       .openDuration(Duration.ofSeconds(5))
+                                                       .halfOpenCalls(2),
+                                         clock);
+
+        breaker.attempt(failing);
+        assertEquals(State.OPEN, breaker.getState());
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(5));
+        calls.set(0);
+
+        var outcome = new AtomicReference<Result<String>>();
+        var thread = Thread.ofVirtual().unstarted(() -> outcome.set(breaker.attempt(working)));
+
+        racer.set(thread);
+        thread.start();
+        assertTrue(paused.await(5, TimeUnit.SECONDS));
+
+        // This caller wins the move to HALF_OPEN and its trial fails, opening the breaker again
+
+        assertThat(breaker.attempt(failing)).hasCauseOfType(IOException.class);
+        assertEquals(State.OPEN, breaker.getState());
+
+        resume.countDown();
+        thread.join(5_000);
+
+        assertThat(outcome.get()).hasFailureType(FailureDescription.GenericFailureType.GENERIC_CIRCUIT_OPEN);
+        assertEquals(1, calls.get(), "Only the failed trial reached the dependency");
+    }
+
+    @Test
+    @Order(14)
+    void whenTrialThrowsErrorThenOpensAgainAndErrorIsRethrown()
+    {
+        var breaker = opened();
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(5));
+
+        assertThrows(StackOverflowError.class, () -> breaker.attempt(() -> { throw new StackOverflowError("trial"); }));
+        assertEquals(State.OPEN, breaker.getState());
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(5));
+
+        assertThat(breaker.attempt(working)).hasValue("up");
+        assertThat(breaker.attempt(working)).hasValue("up");
+        assertEquals(State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    @Order(15)
+    void whenRefusedFailureIsChangedThenItIsRejected()
+    {
+        var refused = (Failure<String>) opened().attempt(working);
+
+        assertThrows(IllegalStateException.class, () -> refused.description().setTitle("Changed"));
+        assertThrows(IllegalStateException.class, () -> refused.description().setDetail("Changed"));
+        assertThrows(IllegalStateException.class, () -> refused.description().setCause(new IOException("changed")));
+        assertEquals("Circuit breaker inventory is open; call not attempted", refused.getDetail());
+    }
+
+    @Test
+    @Order(20)
+    void whenFailureIsNotCountedThenDoesNotOpen()
+    {
+        var breaker = new CircuitBreaker(CircuitBreaker.of("inventory")
+                                                       .minimumCalls(2)
+                                                       .countFailuresIf(failure -> !(failure.description().getCause() instanceof IllegalArgumentException)),
+                                         now::get);
+
+        for (int i = 0; i < 5; i++)
+        {
+            breaker.attempt(() -> { throw new IllegalArgumentException("bad request"); });
+        }
+
+        assertEquals(State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    @Order(21)
+    void whenListenerThrowsThenStateStillChanges()
+    {
+        var breaker = new CircuitBreaker(CircuitBreaker.of("inventory")
+                                                       .minimumCalls(1)
+                                                       .listener((b, from, to) -> { throw new IllegalStateException("listener broke"); }),
+                                         now::get);
+
+        breaker.attempt(failing);
+
+        assertEquals(State.OPEN, breaker.getState());
+
+        breaker.reset();
+
+        assertEquals(State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    @Order(30)
+    void whenSettingsAreInvalidThenRejected()
+    {
+        assertThrows(IllegalArgumentException.class, () -> CircuitBreaker.of("x").failureRateThreshold(0.0));
+        assertThrows(IllegalArgumentException.class, () -> CircuitBreaker.of("x").minimumCalls(0));
+        assertThrows(IllegalArgumentException.class, () -> CircuitBreaker.of("x").halfOpenCalls(0));
+        assertThrows(IllegalArgumentException.class, () -> CircuitBreaker.of("x").window(Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> CircuitBreaker.of("x").openDuration(Duration.ofSeconds(-1)));
+    }
+
+    private CircuitBreaker breaker()
+    {
+        return new CircuitBreaker(CircuitBreaker.of("inventory")
+                                                .failureRateThreshold(0.5)
+                                                .minimumCalls(4)
+                                                .window(Duration.ofSeconds(10))
+                                                .openDuration(Duration.ofSeconds(5))
+                                                .halfOpenCalls(2)
+                                                .listener((b, from, to) -> changes.add(from + "->" + to)),
+                                  now::get);
+    }
+
+    private CircuitBreaker opened()
+    {
+        var breaker = breaker();
+
+        for (int i = 0; i < 4; i++)
+        {
+            breaker.attempt(failing);
+        }
+
+        assertEquals(State.OPEN, breaker.getState());
+
+        return breaker;
+    }
+}
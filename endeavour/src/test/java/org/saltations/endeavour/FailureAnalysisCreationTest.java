@@ -27,6 +27,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.stream.Stream;
@@ -1067,4 +1068,173 @@ class FailureAnalysisCreationTest
             );
         }
     }
+
+    /**
+     * Tests for deferred detail rendering, where the template is only expanded when the detail is read.
+     */
+    @Nested
+    @Order(120)
+    @DisplayNameGeneration(ReplaceBDDCamelCase.class)
+    class WhenBuildingWithDeferredDetail
+    {
+        @Test
+        @Order(1)
+        void thenTemplateIsNotExpandedUntilDetailIsRead()
+        {
+            var arg = new CountingArg("widget");
+
+            var analysis = FailureDescription.of()
+                    .template("Failed in {}")
+                    .args(arg)
+                    .deferDetail()
+                    .build();
+
+            assertEquals(0, arg.renderCount, "not rendered at build time");
+            assertEquals("Failed in widget", analysis.getDetail(), "expanded on read");
+            assertEquals(1, arg.renderCount, "rendered once on first read");
+        }
+
+        @Test
+        @Order(2)
+        void thenExpandedDetailIsCached()
+        {
+            var arg = new CountingArg("widget");
+
+            var analysis = FailureDescription.of()
+                    .template("Failed in {}")
+                    .args(arg)
+                    .deferDetail()
+                    .build();
+
+            analysis.getDetail();
+            analysis.getTotalMessage();
+            analysis.toString();
+
+            assertEquals(1, arg.renderCount, "rendered only once");
+        }
+
+        @Test
+        @Order(3)
+        void thenTotalMessageAndToStringExpandTheDetail()
+        {
+            var analysis = FailureDescription.of()
+                    .type(FailureAnalysisTestFailureType.MORE_CLEAR)
+                    .args("the widget")
+                    .deferDetail()
+                    .build();
+
+            assertAll("Deferred detail",
+                    () -> assertEquals("clearer-failure-Looks like it had something to do with the widget", analysis.getTotalMessage(), "total message"),
+                    () -> assertTrue(analysis.toString().contains("Looks like it had something to do with the widget"), "toString")
+            );
+        }
+
+        @Test
+        @Order(4)
+        void thenMatchesEagerlyBuiltDescription()
+        {
+            var eager = FailureDescription.of()
+                    .type(FailureAnalysisTestFailureType.TEMPLATE_TEST)
+                    .args("one")
+                    .build();
+
+            var deferred = FailureDescription.of()
+                    .type(FailureAnalysisTestFailureType.TEMPLATE_TEST)
+                    .args("one")
+                    .deferDetail()
+                    .build();
+
+            assertEquals(eager, deferred, "same description once expanded");
+            assertEquals("Template with one and NotSupplied and NotSupplied", deferred.getDetail(), "missing args padded");
+        }
+
+        @Test
+        @Order(5)
+        void andDetailIsProvidedThenProvidedDetailWins()
+        {
+            var arg = new CountingArg("widget");
+
+            var analysis = FailureDescription.of()
+                    .template("Failed in {}")
+                    .args(arg)
+                    .detail("Provided detail")
+                    .deferDetail()
+                    .build();
+
+            assertEquals("Provided detail", analysis.getDetail(), "provided detail");
+            assertEquals(0, arg.renderCount, "template never rendered");
+        }
+
+        @Test
+        @Order(6)
+        void andDetailIsSetThenSetDetailReplacesPendingExpansion()
+        {
+            var arg = new CountingArg("widget");
+
+            var analysis = FailureDescription.of()
+                    .template("Failed in {}")
+                    .args(arg)
+                    .deferDetail()
+                    .build();
+
+            analysis.setDetail("Replaced");
+
+            assertEquals("Replaced", analysis.getDetail(), "replaced detail");
+            assertEquals(0, arg.renderCount, "template never rendered");
+        }
+
+        @Test
+        @Order(7)
+        void andCopiedThenCopyIsStillDeferred()
+        {
+            var arg = new CountingArg("widget");
+
+            var original = FailureDescription.of()
+                    .template("Failed in {}")
+                    .args(arg)
+                    .deferDetail()
+                    .build();
+
+            var copy = new FailureDescription.Builder(original).build();
+
+            assertEquals(0, arg.renderCount, "not rendered by copying");
+            assertEquals("Failed in widget", copy.getDetail(), "copy expands the same template");
+        }
+
+        @Test
+        @Order(8)
+        void andCopiedFromTypeThenCopyKeepsTheParsedTemplateOfTheType()
+        {
+            var original = FailureDescription.of()
+                    .type(FailureAnalysisTestFailureType.TEMPLATE_TEST)
+                    .args("one")
+                    .deferDetail()
+                    .build();
+
+            var copy = new FailureDescription.Builder(original).precedingFailure(FailureDescription.of().build()).build();
+
+            assertAll("Copied deferred description",
+                    () -> assertSame(FailureAnalysisTestFailureType.TEMPLATE_TEST.parsedTemplate(), copy.getDeferredParsedTemplate(), "parsed template carried over"),
+                    () -> assertEquals(original.getDetail(), copy.getDetail(), "same detail")
+            );
+        }
+
+        private static final class CountingArg
+        {
+            private final String text;
+            private int renderCount;
+
+            CountingArg(String text)
+            {
+                this.text = text;
+            }
+
+            @Override
+            public String toString()
+            {
+                renderCount++;
+                return text;
+            }
+        }
+    }
 }
@@ -44,7 +44,7 @@ public class FailureTest
 
     @Test
     @Order(20)
-    void whenMappingThenReturnsThenNewFailureInstance() throws Exception
+    void whenMappingThenReturnsSameFailureInstance() throws Exception
     {
         var result = failure.map(x -> "999");
 
@@ -54,11 +54,12 @@ public class FailureTest
             .hasNoPayload()
             .hasFailureType(((Failure<Long>)failure).getType())
             ;
+        assertSame(failure, result, "Should propagate the same failure instance");
     }
 
     @Test
     @Order(30)
-    void whenMappingPayloadThenReturnsNewFailureInstance()
+    void whenMappingPayloadThenReturnsSameFailureInstance()
     {
         var outcome = failure.flatMap((CheckedFunction<Long, Result<Long>>) x -> Try.success(x * 3));
 
@@ -67,9 +68,26 @@ public class FailureTest
             .hasNoPayload()
             .hasFailureType(((Failure<Long>)failure).getType())
             ;
+        assertSame(failure, outcome, "Should propagate the same failure instance");
 
     }
 
+    @Test
+    @Order(31)
+    void whenChainingManyStepsThenPropagatesSameFailureInstance() throws Exception
+    {
+        Result<Long> outcome = failure;
+
+        for (int i = 0; i < 10; i++)
+        {
+            outcome = outcome.map(x -> x + 1)
+                             .flatMap(x -> Try.success(x * 2))
+                             .ifSuccess(x -> x);
+        }
+
+        assertSame(failure, outcome, "Should propagate the same failure instance through every step");
+    }
+
     @Test
     @Order(40)
     void whenReducingFailureThenCallsFailureFunction()
@@ -0,0 +1,202 @@
+package org.saltations.endeavour;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.saltations.endeavour.fixture.ReplaceBDDCamelCase;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.saltations.endeavour.fixture.ResultAssert.assertThat;
+
+/**
+ * Validates the deferred, run-once evaluation of LazyResult
+ */
+
+@Order(17)
+@DisplayNameGeneration(ReplaceBDDCamelCase.class)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class LazyResultTest
+{
+    @Test
+    @Order(1)
+    void whenDeferredThenSupplierRunsOnlyOnFirstRead()
+    {
+        var calls = new AtomicInteger();
+        var lazy = Try.defer(() -> calls.incrementAndGet() * 10);
+
+        assertFalse(lazy.isEvaluated(), "Not evaluated before first read");
+        assertEquals(0, calls.get());
+
+        assertEquals(10, lazy.get());
+        assertEquals(10, lazy.get());
+        assertTrue(lazy.hasPayload());
+        assertSame(lazy.toResult(), lazy.toResult());
+
+        assertTrue(lazy.isEvaluated());
+        assertEquals(1, calls.get(), "Supplier runs exactly once");
+    }
+
+    @Test
+    @Order(2)
+    void whenSupplierThrowsThenFailureIsKept()
+    {
+        var calls = new AtomicInteger();
+        var lazy = Try.<String>defer(() -> {
+            calls.incrementAndGet();
+            throw new IOException("lookup failed");
+        });
+
+        assertThat(lazy.toResult())
+            .isFailure()
+            .hasFailureType(FailureDescription.GenericFailureType.GENERIC_EXCEPTION)
+            .hasCauseOfType(IOException.class);
+
+        lazy.toResult();
+        assertEquals(1, calls.get(), "Failures are memoized too");
+    }
+
+    @Test
+    @Order(3)
+    void whenSupplierReturnsNullThenQualSuccess()
+    {
+        assertThat(Try.defer(() -> null).toResult()).isQualSuccess();
+    }
+
+    @Test
+    @Order(10)
+    void whenMappedThenNothingRunsUntilMappedResultIsRead()
+    {
+        var steps = new ArrayList<String>();
+        var lazy = Try.defer(() -> { steps.add("supply"); return 20; })
+                      .map(x -> { steps.add("map"); return x + 1; })
+                      .flatMap(x -> { steps.add("flatMap"); return Try.success(x * 2); })
+                      .ifSuccess(s -> { steps.add("ifSuccess"); return s; });
+
+        assertTrue(steps.isEmpty(), "Nothing runs while the chain is built");
+        assertEquals(42, lazy.get());
+        assertEquals(4, steps.size());
+
+        lazy.get();
+        assertEquals(4, steps.size(), "Chain runs once");
+    }
+
+    @Test
+    @Order(11)
+    void whenMappingThrowsThenReadReturnsFailureInsteadOfThrowing()
+    {
+        var lazy = Try.defer(() -> "value").map(x -> { throw new IOException("mapping failed"); });
+
+        assertThat(lazy.toResult()).isFailure().hasCauseOfType(IOException.class);
+        assertThrows(IllegalStateException.class, lazy::get);
+    }
+
+    @Test
+    @Order(20)
+    void whenSuccessThenFallbackNeverRuns()
+    {
+        var fallbackCalls = new AtomicInteger();
+        var fallback = Try.defer(() -> fallbackCalls.incrementAndGet());
+
+        assertThat(Try.success(7).orElseGet(fallback::toResult)).hasValue(7);
+        assertThat(Try.defer(() -> 7).orElse(fallback).toResult()).hasValue(7);
+        assertEquals(0, fallbackCalls.get());
+
+        assertThat(Try.<Integer>failure().orElseGet(fallback::toResult)).hasValue(1);
+        assertThat(LazyResult.evaluated(Try.<Integer>failure()).orElse(fallback).toResult()).hasValue(1);
+        assertEquals(1, fallbackCalls.get(), "Fallback runs once even when used twice");
+    }
+
+    @Test
+    @Order(21)
+    void whenEvaluatedThenReturnsGivenOutcome()
+    {
+        var outcome = Try.success("known");
+        var lazy = LazyResult.evaluated(outcome);
+
+        assertTrue(lazy.isEvaluated());
+        assertSame(outcome, lazy.toResult());
+    }
+
+    @Test
+    @Order(30)
+    void whenReadConcurrentlyThenSupplierRunsOnce() throws Exception
+    {
+        var calls = new AtomicInteger();
+        var start = new CountDownLatch(1);
+        var lazy = Try.defer(() -> {
+            calls.incrementAndGet();
+            Thread.sleep(20);
+            return "shared";
+        });
+
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor())
+        {
+            var reads = new ArrayList<Future<String>>();
+
+            for (int i = 0; i < 32; i++)
+            {
+                reads.add(executor.submit(() -> {
+                    start.await();
+                    return lazy.get();
+                }));
+            }
+
+            start.countDown();
+
+            for (var read : reads)
+            {
+                assertEquals("shared", read.get(5, TimeUnit.SECONDS));
+            }
+        }
+
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    @Order(31)
+    void whenReadFromItsOwnOperationThenOutcomeIsFailure()
+    {
+        var self = new AtomicReference<LazyResult<String>>();
+        self.set(LazyResult.of(() -> self.get().toResult()));
+
+        assertThat(self.get().toResult())
+            .isFailure()
+            .hasFailureType(FailureDescription.GenericFailureType.GENERIC_RUNTIME_EXCEPTION)
+            .hasCauseOfType(IllegalStateException.class);
+    }
+
+    @Test
+    @Order(32)
+    void whenOperationThrowsErrorThenErrorIsRethrownAndNextReadRunsItAgain()
+    {
+        var calls = new AtomicInteger();
+        var lazy = Try.defer(() -> {
+            if (calls.incrementAndGet() == 1)
+            {
+                throw new StackOverflowError("first read");
+            }
+            return "second read";
+        });
+
+        assertThrows(StackOverflowError.class, lazy::toResult);
+        assertFalse(lazy.isEvaluated());
+
+        assertEquals("second read", lazy.get());
+        assertEquals(2, calls.get());
+    }
+}
@@ -0,0 +1,243 @@
+package org.saltations.endeavour;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.saltations.endeavour.fixture.ReplaceBDDCamelCase;
+import org.slf4j.helpers.MessageFormatter;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Validates the parsing and caching of failure templates
+ */
+
+@Order(55)
+@DisplayNameGeneration(ReplaceBDDCamelCase.class)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class ParsedTemplateTest
+{
+    @Getter
+    @AllArgsConstructor
+    enum ExemplarFailure implements FailureType
+    {
+        PLAIN("Plain failure", "Nothing to fill in"),
+        SINGLE("Single failure", "Happened in widget [{}]"),
+        DOUBLE("Double failure", "Moved {} to {}");
+
+        private final String title;
+        private final String template;
+    }
+
+    record AdHocFailure(String title, String template) implements FailureType
+    {
+        public String getTitle()
+        {
+            return title;
+        }
+
+        public String getTemplate()
+        {
+            return template;
+        }
+    }
+
+    @Order(1)
+    @ParameterizedTest(name = "{index}: {0}")
+    @MethodSource("parsingTestData")
+    void splitsTemplateIntoLiteralsAndPlaceholders(String scenarioName, String template, List<String> expectedLiterals)
+    {
+        var parsed = ParsedTemplate.parse(template);
+
+        assertAll(scenarioName,
+            () -> assertEquals(expectedLiterals, parsed.literals(), "literals"),
+            () -> assertEquals(expectedLiterals.size() - 1, parsed.placeholderCount(), "placeholder count")
+        );
+    }
+
+    static Stream<Arguments> parsingTestData()
+    {
+        return Stream.of(
+            Arguments.of("Null template", null, List.of("")),
+            Arguments.of("Empty template", "", List.of("")),
+            Arguments.of("No placeholders", "Look Ma, No placeholders", List.of("Look Ma, No placeholders")),
+            Arguments.of("Leading placeholder", "{} did it", List.of("", " did it")),
+            Arguments.of("Trailing placeholder", "Done by {}", List.of("Done by ", "")),
+            Arguments.of("Adjacent placeholders", "{}{}", List.of("", "", "")),
+            Arguments.of("Escaped placeholder", "Literal \\{} and {}", List.of("Literal {} and ", "")),
+            Arguments.of("Escaped escape", "Path C:\\\\{}", List.of("Path C:\\", ""))
+        );
+    }
+
+    @Test
+    @Order(2)
+    void recordsPlaceholderPositions()
+    {
+        var parsed = ParsedTemplate.parse("Moved {} to {}");
+
+        assertAll("positions",
+            () -> assertEquals(6, parsed.placeholderPosition(0)),
+            () -> assertEquals(12, parsed.placeholderPosition(1))
+        );
+    }
+
+    @Test
+    @Order(3)
+    void whenTypeIsEnumThenParsedTemplateIsSharedPerConstant()
+    {
+        assertSame(ExemplarFailure.SINGLE.parsedTemplate(), ExemplarFailure.SINGLE.parsedTemplate());
+        assertEquals(List.of("Moved ", " to ", ""), ExemplarFailure.DOUBLE.parsedTemplate().literals());
+        assertEquals(0, ExemplarFailure.PLAIN.templateParameterCount());
+        assertEquals(1, ExemplarFailure.SINGLE.templateParameterCount());
+        assertEquals(2, ExemplarFailure.DOUBLE.templateParameterCount());
+    }
+
+    @Test
+    @Order(4)
+    void whenTypeIsNotEnumThenTemplateIsParsedFromTheType()
+    {
+        var type = new AdHocFailure("Ad hoc", "{} and {} and {}");
+
+        assertEquals(3, type.templateParameterCount());
+        assertEquals("{} and {} and {}", type.parsedTemplate().template());
+    }
+
+    @Test
+    @Order(5)
+    void whenGenericTypeThenHasNoPlaceholders()
+    {
+        assertEquals(0, FailureDescription.GenericFailureType.GENERIC.templateParameterCount());
+    }
+
+    @Order(10)
+    @ParameterizedTest(name = "{index}: {0}")
+    @MethodSource("formattingTestData")
+    void expandsLikeMessageFormatterWhenEveryPlaceholderHasAnArgument(String scenarioName, String template, Object[] args)
+    {
+        var expected = MessageFormatter.basicArrayFormat(template, args);
+
+        assertAll(scenarioName,
+            () -> assertEquals(expected, ParsedTemplate.parse(template).format(args), "pre-split"),
+            () -> assertEquals(expected, ParsedTemplate.expand(template, args), "single pass")
+        );
+    }
+
+    static Stream<Arguments> formattingTestData()
+    {
+        return Stream.of(
+            Arguments.of("No placeholders", "Look Ma, No placeholders", new Object[0]),
+            Arguments.of("One placeholder", "Template with {}", new Object[]{"one"}),
+            Arguments.of("Surplus argument", "Template with {}", new Object[]{"one", "two"}),
+            Arguments.of("Adjacent placeholders", "{}{}", new Object[]{1, 2}),
+            Arguments.of("Null argument", "Value is {}", new Object[]{null}),
+            Arguments.of("Escaped placeholder", "Literal \\{} then {}", new Object[]{"arg"}),
+            Arguments.of("Escaped escape", "Path C:\\\\{}", new Object[]{"dir"}),
+            Arguments.of("Primitive array", "Values {}", new Object[]{new int[]{1, 2, 3}}),
+            Arguments.of("Nested object array", "Values {}", new Object[]{new Object[]{"a", new long[]{4L}, null}})
+        );
+    }
+
+    @Test
+    @Order(11)
+    void whenArgumentsAreMissingThenPlaceholdersAreFilledOrLeftAlone()
+    {
+        var parsed = ParsedTemplate.parse("Moved {} to {}");
+
+        assertAll("missing arguments",
+            () -> assertEquals("Moved box to {}", parsed.format("box"), "left as placeholder"),
+            () -> assertEquals("Moved box to NotSupplied", parsed.formatOr(new Object[]{"box"}, "NotSupplied"), "filled"),
+            () -> assertEquals("Moved ? to ?", parsed.formatOr(null, "?"), "null arguments"),
+            () -> assertEquals("Moved box to NotSupplied", ParsedTemplate.expandOr("Moved {} to {}", new Object[]{"box"}, "NotSupplied"), "single pass")
+        );
+    }
+
+    @Test
+    @Order(12)
+    void whenTemplateHasNoPlaceholdersThenReturnsLiteralWithoutCopying()
+    {
+        var template = "Nothing to fill in";
+
+        assertSame(template, ParsedTemplate.expand(template, "ignored"));
+        assertSame(ExemplarFailure.PLAIN.parsedTemplate().format("ignored"), ExemplarFailure.PLAIN.parsedTemplate().format());
+    }
+
+    @Test
+    @Order(13)
+    void whenArgumentToStringFailsThenMarksArgument()
+    {
+        var broken = new Object()
+        {
+            @Override
+            public String toString()
+            {
+                throw new IllegalStateException("broken");
+            }
+        };
+
+        assertEquals("Value [FAILED toString()]", ParsedTemplate.expand("Value {}", broken));
+    }
+
+    @Test
+    @Order(14)
+    void whenArrayContainsItselfThenCycleIsCut()
+    {
+        var cyclic = new Object[2];
+        cyclic[0] = "a";
+        cyclic[1] = cyclic;
+
+        assertEquals("Values [a, [...]]", ParsedTemplate.expand("Values {}", new Object[]{cyclic}));
+    }
+
+    @Test
+    @Order(15)
+    void whenArgumentExpandsATemplateThenNestedExpansionDoesNotCorruptOuter()
+    {
+        var nested = new Object()
+        {
+            @Override
+            public String toString()
+            {
+                return ParsedTemplate.expand("inner {}", "value");
+            }
+        };
+
+        assertEquals("Happened in widget [inner value]", ExemplarFailure.SINGLE.parsedTemplate().format(nested));
+        assertEquals("Moved inner value to place", ExemplarFailure.DOUBLE.parsedTemplate().format(nested, "place"));
+    }
+
+    @Test
+    @Order(16)
+    void countsPlaceholdersWithoutParsing()
+    {
+        assertAll("counts",
+            () -> assertEquals(0, ParsedTemplate.countPlaceholders(null)),
+            () -> assertEquals(0, ParsedTemplate.countPlaceholders("none")),
+            () -> assertEquals(1, ParsedTemplate.countPlaceholders("\\{} and {}")),
+            () -> assertEquals(2, ParsedTemplate.countPlaceholders("{}{}"))
+        );
+    }
+
+    @Test
+    @Order(17)
+    @SuppressWarnings("deprecation")
+    void whenCountingOccurrencesOfPlaceholderThenDeprecatedCounterAgreesWithCountPlaceholders()
+    {
+        assertAll("occurrences",
+            () -> assertEquals(1, FailureDescription.Builder.countOccurrences("\\{} and {}", "{}")),
+            () -> assertEquals(2, FailureDescription.Builder.countOccurrences("{}{}", "{}")),
+            () -> assertEquals(3, FailureDescription.Builder.countOccurrences("a-b-c-d", "-"))
+        );
+    }
+}
@@ -0,0 +1,213 @@
+package org.saltations.endeavour;
+
+import java.io.IOException;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.saltations.endeavour.fixture.ReplaceBDDCamelCase;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.saltations.endeavour.fixture.ResultAssert.assertThat;
+
+/**
+ * Validates the primitive specializations IntResult, LongResult and DoubleResult
+ */
+
+@Order(15)
+@DisplayNameGeneration(ReplaceBDDCamelCase.class)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class PrimitiveResultTest
+{
+    private final Failure<String> failure = (Failure<String>) Try.<String>failureWithDetails("Ouch ! That {}", "hurt");
+
+    @Nested
+    class GivenIntResult
+    {
+        @Test
+        @Order(1)
+        void whenSuccessThenMeetsContract()
+        {
+            var result = IntResult.success(42);
+
+            assertAll("success",
+                () -> assertTrue(result.isSuccess()),
+                () -> assertFalse(result.isFailure()),
+                () -> assertEquals(42, result.getAsInt()),
+                () -> assertEquals(42, result.getOrElse(-1)),
+                () -> assertEquals(OptionalInt.of(42), result.opt()),
+                () -> assertThrows(IllegalStateException.class, result::getFailure)
+            );
+        }
+
+        @Test
+        @Order(2)
+        void whenFailureThenMeetsContractAndKeepsTheFailure()
+        {
+            var result = IntResult.failure(failure);
+
+            assertAll("failure",
+                () -> assertTrue(result.isFailure()),
+                () -> assertSame(failure, result.getFailure()),
+                () -> assertEquals(-1, result.getOrElse(-1)),
+                () -> assertEquals(OptionalInt.empty(), result.opt()),
+                () -> assertThrows(IllegalStateException.class, result::getAsInt)
+            );
+        }
+
+        @Test
+        @Order(10)
+        void whenMappedThenAppliesToSuccessAndSkipsFailure() throws Exception
+        {
+            var failed = IntResult.failure(failure);
+
+            assertEquals(IntResult.success(84), IntResult.success(42).map(x -> x * 2));
+            assertSame(failed, failed.map(x -> { throw new IllegalStateException("Should not be called"); }));
+        }
+
+        @Test
+        @Order(11)
+        void whenMappingThrowsThenExceptionPropagates()
+        {
+            assertThrows(IOException.class, () -> IntResult.success(42).map(x -> { throw new IOException("mapping"); }));
+        }
+
+        @Test
+        @Order(12)
+        void whenFlatMappedThenExceptionsBecomeFailures()
+        {
+            var result = IntResult.success(42).flatMap(x -> { throw new IOException("flat mapping"); });
+
+            assertAll("flatMap",
+                () -> assertEquals(IntResult.success(43), IntResult.success(42).flatMap(x -> IntResult.success(x + 1))),
+                () -> assertTrue(result.isFailure()),
+                () -> assertEquals(FailureDescription.GenericFailureType.GENERIC_EXCEPTION, result.getFailure().getType()),
+                () -> assertInstanceOf(IOException.class, result.getFailure().getCause())
+            );
+        }
+
+        @Test
+        @Order(13)
+        void whenFoldedThenAppliesMatchingFunction() throws Exception
+        {
+            assertEquals("42", IntResult.success(42).fold(Integer::toString, f -> "failed"));
+            assertEquals("failed", IntResult.failure(failure).fold(Integer::toString, f -> "failed"));
+        }
+
+        @Test
+        @Order(14)
+        void whenMappedToObjectThenLeavesThePrimitiveChain() throws Exception
+        {
+            assertThat(IntResult.success(42).mapToObj(x -> "v" + x)).isQuantSuccess().hasValue("v42");
+            assertThat(IntResult.success(42).mapToObj(x -> null)).isQualSuccess();
+            assertSame(failure, IntResult.failure(failure).mapToObj(x -> "v" + x));
+        }
+
+        @Test
+        @Order(20)
+        void whenOrElseGetOnFailureThenSuppliesValueOrChainsFailure()
+        {
+            var failed = IntResult.failure(failure);
+            var chained = failed.orElseGet(() -> { throw new IOException("supplier"); });
+
+            assertAll("orElseGet",
+                () -> assertEquals(IntResult.success(7), failed.orElseGet(() -> 7)),
+                () -> assertEquals(IntResult.success(42), IntResult.success(42).orElseGet(() -> 7)),
+                () -> assertEquals(IntResult.success(7), failed.orElse(IntResult.success(7))),
+                () -> assertTrue(chained.isFailure()),
+                () -> assertSame(failure.description(), chained.getFailure().description().getPrecedingFailure())
+            );
+        }
+
+        @Test
+        @Order(30)
+        void whenWidenedThenValueAndFailureCarryOver()
+        {
+            assertEquals(LongResult.success(42L), IntResult.success(42).asLongResult());
+            assertEquals(DoubleResult.success(42.0d), IntResult.success(42).asDoubleResult());
+            assertSame(failure, IntResult.failure(failure).asLongResult().getFailure());
+        }
+
+        @Test
+        @Order(31)
+        void whenBoxedAndUnboxedThenRoundTrips()
+        {
+            assertThat(IntResult.success(42).boxed()).isQuantSuccess().hasValue(42);
+            assertSame(failure, IntResult.failure(failure).boxed());
+            assertEquals(IntResult.success(42), IntResult.from(Try.success(42)));
+            assertSame(failure, IntResult.from(failure.cast()).getFailure());
+            assertTrue(IntResult.from(Try.success(null)).isFailure());
+        }
+    }
+
+    @Nested
+    class GivenLongResult
+    {
+        @Test
+        @Order(1)
+        void whenAttemptedThenSucceedsOrFails() throws Exception
+        {
+            var failed = Try.attemptLong(() -> { throw new IOException("supplier"); });
+
+            assertAll("attemptLong",
+                () -> assertEquals(LongResult.success(2_000_000_000_000L), Try.attemptLong(() -> 1_000_000_000_000L).map(x -> x * 2)),
+                () -> assertEquals(FailureDescription.GenericFailureType.GENERIC_EXCEPTION, failed.getFailure().getType())
+            );
+        }
+
+        @Test
+        @Order(2)
+        void whenMappedFromResultThenEntersThePrimitiveChain() throws Exception
+        {
+            assertEquals(LongResult.success(5L), Try.success("hello").mapToLong(String::length));
+            assertSame(failure, failure.mapToLong(String::length).getFailure());
+        }
+    }
+
+    @Nested
+    class GivenDoubleResult
+    {
+        @Test
+        @Order(1)
+        void whenAttemptedThenSucceedsOrFails() throws Exception
+        {
+            var interrupted = Try.attemptDouble(() -> { throw new InterruptedException("interrupted"); });
+            Thread.interrupted();
+
+            assertAll("attemptDouble",
+                () -> assertEquals(OptionalDouble.of(1.5d), Try.attemptDouble(() -> 0.75d).map(x -> x * 2).opt()),
+                () -> assertEquals(FailureDescription.GenericFailureType.GENERIC_INTERRUPTED_EXCEPTION, interrupted.getFailure().getType())
+            );
+        }
+
+        @Test
+        @Order(2)
+        void whenComparedThenUsesValueSemantics()
+        {
+            assertEquals(DoubleResult.success(Double.NaN), DoubleResult.success(Double.NaN));
+            assertEquals(DoubleResult.success(0.5d).hashCode(), DoubleResult.success(0.5d).hashCode());
+            assertFalse(DoubleResult.success(0.0d).equals(DoubleResult.success(-0.0d)));
+        }
+    }
+
+    @Test
+    @Order(40)
+    void whenAttemptingIntThenRuntimeExceptionsBecomeRuntimeFailures()
+    {
+        var result = Try.attemptInt(() -> Integer.parseInt("not a number"));
+
+        assertEquals(FailureDescription.GenericFailureType.GENERIC_RUNTIME_EXCEPTION, result.getFailure().getType());
+        assertEquals(IntResult.success(12), Try.attemptInt(() -> Integer.parseInt("12")));
+    }
+}
@@ -244,4 +244,14 @@ public class QualSuccessTest
         });
     }
 
+    @Test
+    @Order(110)
+    void whenCreatedOrMappedToNullThenReturnsSharedInstance() throws Exception
+    {
+        assertSame(QualSuccess.instance(), qualSuccess, "Try.success(null) returns the shared instance");
+        assertSame(QualSuccess.instance(), qualSuccess.map(x -> null), "QualSuccess.map returns the shared instance");
+        assertSame(QualSuccess.instance(), Try.success(1L).map(x -> null), "QuantSuccess.map returns the shared instance");
+        assertSame(QualSuccess.instance(), Try.attempt(() -> null), "Try.attempt returns the shared instance");
+    }
+
 }
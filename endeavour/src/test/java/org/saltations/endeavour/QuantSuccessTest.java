@@ -374,4 +374,33 @@ public class QuantSuccessTest
         });
     }
 
+    @Test
+    @Order(120)
+    void whenMappedToBooleanThenReturnsSharedBooleanSuccess() throws Exception
+    {
+        assertSame(QuantSuccess.TRUE, value.map(x -> x > 0), "Should return shared TRUE success");
+        assertSame(QuantSuccess.FALSE, value.map(x -> x < 0), "Should return shared FALSE success");
+    }
+
+    @Test
+    @Order(121)
+    void whenCachingInternableValuesThenReturnsSharedInstances()
+    {
+        assertSame(QuantSuccess.cached(7), QuantSuccess.cached(7), "Small integers are shared");
+        assertSame(QuantSuccess.cached(-128L), QuantSuccess.cached(-128L), "Small longs are shared");
+        assertSame(QuantSuccess.cached(Thread.State.NEW), QuantSuccess.cached(Thread.State.NEW), "Enum constants are shared");
+        assertSame(QuantSuccess.TRUE, QuantSuccess.cached(Boolean.TRUE), "Booleans are shared");
+        assertEquals(Thread.State.NEW, QuantSuccess.cached(Thread.State.NEW).get(), "Cached enum keeps its payload");
+        assertEquals(-5L, QuantSuccess.cached(-5L).get(), "Cached long keeps its payload");
+    }
+
+    @Test
+    @Order(122)
+    void whenCachingValuesOutsideTheCacheThenReturnsEqualNewInstances()
+    {
+        assertEquals(QuantSuccess.cached(1000), QuantSuccess.cached(1000), "Equal by value");
+        assertFalse(QuantSuccess.cached(1000) == QuantSuccess.cached(1000), "Large integers are not shared");
+        assertEquals(new QuantSuccess<>("text"), QuantSuccess.cached("text"), "Other values are wrapped as usual");
+    }
+
 }
@@ -0,0 +1,154 @@
+package org.saltations.endeavour;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.saltations.endeavour.fixture.ReplaceBDDCamelCase;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.saltations.endeavour.fixture.ResultAssert.assertThat;
+
+/**
+ * Validates the token bucket RateLimiter
+ */
+
+@Order(25)
+@DisplayNameGeneration(ReplaceBDDCamelCase.class)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class RateLimiterTest
+{
+    private final AtomicLong now = new AtomicLong(TimeUnit.HOURS.toNanos(1));
+
+    @Test
+    @Order(1)
+    void whenIdleThenFullBurstIsAvailable()
+    {
+        var limiter = limiter(10, 4);
+
+        assertEquals(4, limiter.availablePermits());
+
+        for (int i = 0; i < 4; i++)
+        {
+            assertTrue(limiter.tryAcquire());
+        }
+
+        assertFalse(limiter.tryAcquire());
+        assertEquals(0, limiter.availablePermits());
+    }
+
+    @Test
+    @Order(2)
+    void whenTimePassesThenTokensRefillAtTheConfiguredRate()
+    {
+        var limiter = limiter(10, 4);
+
+        while (limiter.tryAcquire())
+        {
+        }
+
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(99));
+        assertFalse(limiter.tryAcquire(), "A token takes 100 ms to refill");
+
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(1));
+        assertTrue(limiter.tryAcquire());
+        assertFalse(limiter.tryAcquire());
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        assertEquals(4, limiter.availablePermits(), "Never refills beyond the burst size");
+    }
+
+    @Test
+    @Order(3)
+    void whenSeveralPermitsRequestedThenAllOrNoneAreTaken()
+    {
+        var limiter = limiter(10, 4);
+
+        assertTrue(limiter.tryAcquire(3));
+        assertFalse(limiter.tryAcquire(2));
+        assertTrue(limiter.tryAcquire(1));
+        assertThrows(IllegalArgumentException.class, () -> limiter.tryAcquire(5));
+    }
+
+    @Test
+    @Order(10)
+    void whenNoPermitThenAttemptReturnsSharedFailureWithoutCalling()
+    {
+        var limiter = limiter(10, 1);
+        var calls = new AtomicInteger();
+
+        assertThat(limiter.attempt(() -> calls.incrementAndGet())).hasValue(1);
+
+        var first = limiter.<Integer>attempt(() -> calls.incrementAndGet());
+        var second = limiter.<String>attempt(() -> "never");
+
+        assertThat(first).isFailure().hasFailureType(FailureDescription.GenericFailureType.GENERIC_RATE_LIMITED);
+        assertEquals("Rate limiter partner has no permits left; call not attempted", ((Failure<Integer>) first).getDetail());
+        assertSame(first, second, "The same failure is returned for every refused call");
+        assertThrows(IllegalStateException.class, () -> ((Failure<Integer>) first).description().setTitle("Changed"), "The shared failure cannot be changed");
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    @Order(11)
+    void whenCalledFromManyThreadsThenNoMoreThanBurstIsGranted() throws Exception
+    {
+        var limiter = limiter(1, 100);
+        var granted = new AtomicInteger();
+        var threads = new ArrayList<Thread>();
+
+        for (int t = 0; t < 8; t++)
+        {
+            threads.add(Thread.ofVirtual().start(() -> {
+                for (int i = 0; i < 50; i++)
+                {
+                    if (limiter.tryAcquire())
+                    {
+                        granted.incrementAndGet();
+                    }
+                }
+            }));
+        }
+
+        for (var thread : threads)
+        {
+            thread.join();
+        }
+
+        assertEquals(100, granted.get());
+    }
+
+    @Test
+    @Order(20)
+    void whenBurstNotSetThenDefaultsToPermits()
+    {
+        var limiter = RateLimiter.of("partner").permits(25).per(Duration.ofSeconds(1)).build();
+
+        assertEquals(25, limiter.getBurst());
+    }
+
+    @Test
+    @Order(21)
+    void whenSettingsAreInvalidThenRejected()
+    {
+        assertThrows(IllegalArgumentException.class, () -> RateLimiter.of("x").permits(0));
+        assertThrows(IllegalArgumentException.class, () -> RateLimiter.of("x").burst(0));
+        assertThrows(IllegalArgumentException.class, () -> RateLimiter.of("x").per(Duration.ZERO));
+    }
+
+    private RateLimiter limiter(int perSecond, int burst)
+    {
+        return new RateLimiter(RateLimiter.of("partner").permits(perSecond).per(Duration.ofSeconds(1)).burst(burst), now::get);
+    }
+}
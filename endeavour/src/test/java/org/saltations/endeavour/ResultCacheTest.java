@@ -0,0 +1,232 @@
+package org.saltations.endeavour;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.saltations.endeavour.fixture.ReplaceBDDCamelCase;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.saltations.endeavour.fixture.ResultAssert.assertThat;
+
+/**
+ * Validates the memoizing ResultCache
+ */
+
+@Order(27)
+@DisplayNameGeneration(ReplaceBDDCamelCase.class)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class ResultCacheTest
+{
+    private final AtomicLong now = new AtomicLong();
+    private final ConcurrentHashMap<String, AtomicInteger> loads = new ConcurrentHashMap<>();
+
+    @BeforeEach
+    void resetClockAndLoads()
+    {
+        now.set(TimeUnit.HOURS.toNanos(1));
+        loads.clear();
+    }
+
+    @Test
+    @Order(1)
+    void whenKeyIsReadAgainThenKeptResultIsReturnedWithoutLoading()
+    {
+        var cache = cache(10, Duration.ofMinutes(1), Duration.ofSeconds(1));
+
+        var first = cache.apply("a");
+        var second = cache.apply("a");
+
+        assertThat(first).hasValue("A1");
+        assertSame(first, second);
+        assertEquals(1, loads("a"));
+        assertEquals(new ResultCache.Stats(1, 1, 1, 0), cache.getStats());
+    }
+
+    @Test
+    @Order(2)
+    void whenSuccessTtlPassesThenKeyIsReloaded()
+    {
+        var cache = cache(10, Duration.ofMinutes(1), Duration.ofSeconds(1));
+
+        assertThat(cache.apply("a")).hasValue("A1");
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(59));
+        assertThat(cache.apply("a")).hasValue("A1");
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        assertThat(cache.apply("a")).hasValue("A2");
+    }
+
+    @Test
+    @Order(3)
+    void whenLoadFailsThenFailureIsKeptForTheShorterTtl()
+    {
+        var calls = new AtomicInteger();
+        var cache = new ResultCache<String, String>(ResultCache.<String, String>of(key -> {
+            calls.incrementAndGet();
+            throw new IOException("store unavailable");
+        }).failureTtl(Duration.ofSeconds(1)), now::get);
+
+        var first = cache.apply("a");
+
+        assertThat(first).isFailure().hasCauseOfType(IOException.class);
+        assertSame(first, cache.apply("a"));
+        assertEquals(1, calls.get());
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        cache.apply("a");
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    @Order(4)
+    void whenFailureTtlIsZeroThenFailuresAreNotKept()
+    {
+        var calls = new AtomicInteger();
+        var cache = new ResultCache<String, String>(ResultCache.<String, String>of(key -> {
+            calls.incrementAndGet();
+            throw new IOException("store unavailable");
+        }).failureTtl(Duration.ZERO), now::get);
+
+        cache.apply("a");
+        cache.apply("a");
+
+        assertEquals(2, calls.get());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    @Order(5)
+    void whenLoaderReturnsNullThenQualSuccessIsKept()
+    {
+        var calls = new AtomicInteger();
+        var cache = Try.<String, String>memoize(key -> {
+            calls.incrementAndGet();
+            return null;
+        });
+
+        assertThat(cache.apply("a")).isQualSuccess();
+        assertThat(cache.apply("a")).isQualSuccess();
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    @Order(10)
+    void whenFullThenKeysReadOnceAreEvictedBeforeKeysReadAgain()
+    {
+        var cache = cache(3, Duration.ofMinutes(1), Duration.ofSeconds(1));
+
+        cache.apply("hot");
+        cache.apply("hot");
+
+        cache.apply("b");
+        cache.apply("c");
+        cache.apply("d");
+
+        assertEquals(3, cache.size());
+        assertEquals(1, cache.getStats().evictionCount());
+
+        cache.apply("hot");
+        cache.apply("b");
+
+        assertEquals(1, loads("hot"), "The key read again survives the scan");
+        assertEquals(2, loads("b"), "The oldest key read once was evicted");
+    }
+
+    @Test
+    @Order(11)
+    void whenInvalidatedThenKeyIsReloaded()
+    {
+        var cache = cache(10, Duration.ofMinutes(1), Duration.ofSeconds(1));
+
+        cache.apply("a");
+        cache.invalidate("a");
+
+        assertThat(cache.apply("a")).hasValue("A2");
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    @Order(20)
+    void whenConcurrentMissesShareKeyThenLoaderRunsOnce() throws Exception
+    {
+        var calls = new AtomicInteger();
+        var release = new CountDownLatch(1);
+        var cache = Try.<String, Integer>memoize(key -> {
+            calls.incrementAndGet();
+            release.await(5, TimeUnit.SECONDS);
+            return 42;
+        });
+
+        var callers = 8;
+        var results = new AtomicReferenceArray<Result<Integer>>(callers);
+        var arrived = new CountDownLatch(callers);
+        var threads = new ArrayList<Thread>();
+
+        for (int i = 0; i < callers; i++)
+        {
+            var index = i;
+
+            threads.add(Thread.ofVirtual().start(() -> {
+                arrived.countDown();
+                results.set(index, cache.apply("a"));
+            }));
+        }
+
+        assertTrue(arrived.await(5, TimeUnit.SECONDS));
+        Thread.sleep(100);
+        release.countDown();
+
+        for (var thread : threads)
+        {
+            thread.join(5_000);
+        }
+
+        assertEquals(1, calls.get());
+
+        for (int i = 0; i < callers; i++)
+        {
+            assertThat(results.get(i)).hasValue(42);
+            assertSame(results.get(0), results.get(i));
+        }
+    }
+
+    @Test
+    @Order(30)
+    void whenSettingsAreInvalidThenRejected()
+    {
+        var builder = ResultCache.<String, String>of(key -> key);
+
+        assertThrows(IllegalArgumentException.class, () -> builder.maximumSize(0));
+        assertThrows(IllegalArgumentException.class, () -> builder.successTtl(Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> builder.failureTtl(Duration.ofSeconds(-1)));
+    }
+
+    private ResultCache<String, String> cache(int maximumSize, Duration successTtl, Duration failureTtl)
+    {
+        CheckedFunction<String, String> loader = key -> key.toUpperCase() + loads.computeIfAbsent(key, k -> new AtomicInteger()).incrementAndGet();
+
+        return new ResultCache<>(ResultCache.of(loader).maximumSize(maximumSize).successTtl(successTtl).failureTtl(failureTtl), now::get);
+    }
+
+    private int loads(String key)
+    {
+        return loads.getOrDefault(key, new AtomicInteger()).get();
+    }
+}
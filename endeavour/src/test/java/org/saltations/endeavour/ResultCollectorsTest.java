@@ -0,0 +1,119 @@
+package org.saltations.endeavour;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.saltations.endeavour.fixture.ReplaceBDDCamelCase;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.saltations.endeavour.fixture.ResultAssert.assertThat;
+
+/**
+ * Validates the single pass ResultCollectors
+ */
+
+@Order(28)
+@DisplayNameGeneration(ReplaceBDDCamelCase.class)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class ResultCollectorsTest
+{
+    private static final int COUNT = 10_000;
+
+    @Test
+    @Order(1)
+    void whenPartitioningThenPayloadsAndFailuresAreSplitInOrder()
+    {
+        var failure = Try.<Integer>failure();
+        var partition = List.of(Try.success(1), failure, Try.<Integer>success(null), Try.success(3))
+                            .stream()
+                            .collect(ResultCollectors.partitioning());
+
+        assertEquals(Arrays.asList(1, null, 3), partition.successes());
+        assertEquals(1, partition.failures().size());
+        assertSame(failure, partition.failures().get(0));
+    }
+
+    @Test
+    @Order(2)
+    void whenPartitioningInParallelThenOrderIsKept()
+    {
+        var partition = numbered().parallel().collect(ResultCollectors.partitioning());
+
+        assertEquals(IntStream.range(0, COUNT).filter(i -> i % 7 != 0).boxed().toList(), partition.successes());
+        assertEquals(IntStream.range(0, COUNT).filter(i -> i % 7 == 0).count(), partition.failures().size());
+    }
+
+    @Test
+    @Order(10)
+    void whenSequencingSuccessesThenAllPayloadsAreCollected()
+    {
+        var sequenced = IntStream.range(0, COUNT)
+                                 .parallel()
+                                 .mapToObj(Try::success)
+                                 .collect(ResultCollectors.sequence());
+
+        assertThat(sequenced).isQuantSuccess();
+        assertEquals(IntStream.range(0, COUNT).boxed().toList(), sequenced.get());
+    }
+
+    @Test
+    @Order(11)
+    void whenSequencingInParallelThenFirstFailureInEncounterOrderIsReturned()
+    {
+        var failures = IntStream.range(0, COUNT)
+                                .mapToObj(i -> Try.<Integer>causedFailure(new IOException("row " + i)))
+                                .toList();
+
+        var sequenced = IntStream.range(0, COUNT)
+                                 .parallel()
+                                 .mapToObj(i -> i < COUNT / 2 ? Try.success(i) : failures.get(i))
+                                 .collect(ResultCollectors.sequence());
+
+        assertSame(failures.get(COUNT / 2), sequenced);
+    }
+
+    @Test
+    @Order(20)
+    void whenGroupingByFailureTypeThenSuccessesAreIgnored()
+    {
+        var groups = List.of(Try.success(1),
+                             Try.<Integer>causedFailure(new IOException("disk")),
+                             Try.<Integer>attempt(() -> { throw new IllegalStateException("state"); }),
+                             Try.<Integer>causedFailure(new IOException("net")))
+                         .parallelStream()
+                         .collect(ResultCollectors.groupingByFailureType());
+
+        assertEquals(2, groups.size());
+        assertEquals(2, groups.get(FailureDescription.GenericFailureType.GENERIC).size());
+        assertEquals(1, groups.get(FailureDescription.GenericFailureType.GENERIC_RUNTIME_EXCEPTION).size());
+    }
+
+    @Test
+    @Order(30)
+    void whenCountingInParallelThenSuccessesAndFailuresAreCounted()
+    {
+        var counts = numbered().parallel().collect(ResultCollectors.counting());
+        var failures = IntStream.range(0, COUNT).filter(i -> i % 7 == 0).count();
+
+        assertEquals(new ResultCollectors.Counts(COUNT - failures, failures), counts);
+        assertEquals(COUNT, counts.total());
+    }
+
+    /**
+     * Results for 0 until COUNT where every seventh is a failure.
+     */
+
+    private static Stream<Result<Integer>> numbered()
+    {
+        return IntStream.range(0, COUNT).mapToObj(i -> i % 7 == 0 ? Try.<Integer>failure() : Try.success(i));
+    }
+}
@@ -0,0 +1,183 @@
+package org.saltations.endeavour;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.saltations.endeavour.fixture.ReplaceBDDCamelCase;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.saltations.endeavour.fixture.ResultAssert.assertThat;
+
+/**
+ * Validates the assembly and execution of fused result pipelines
+ */
+
+@Order(16)
+@DisplayNameGeneration(ReplaceBDDCamelCase.class)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class ResultPipelineTest
+{
+    @Getter
+    @AllArgsConstructor
+    enum PipelineFailure implements FailureType
+    {
+        TOO_SMALL("too-small", "Value {} is too small");
+
+        private final String title;
+        private final String template;
+    }
+
+    private final ResultPipeline<String, Integer> parseAndDouble = ResultPipeline.<String>of()
+        .map(String::trim)
+        .map(Integer::parseInt)
+        .filter(x -> x > 10, PipelineFailure.TOO_SMALL)
+        .map(x -> x * 2)
+        .build();
+
+    @Test
+    @Order(1)
+    void whenEveryStepSucceedsThenReturnsFinalValue()
+    {
+        assertThat(parseAndDouble.apply(" 21 "))
+            .isQuantSuccess()
+            .hasValue(42);
+    }
+
+    @Test
+    @Order(2)
+    void whenEmptyThenReturnsInput()
+    {
+        var identity = ResultPipeline.<String>of().build();
+
+        assertThat(identity.apply("as is")).isQuantSuccess().hasValue("as is");
+        assertThat(identity.apply((String) null)).isQualSuccess();
+    }
+
+    @Test
+    @Order(3)
+    void whenStepThrowsThenLaterStepsAreSkipped()
+    {
+        var calls = new ArrayList<Integer>();
+        var pipeline = ResultPipeline.<String>of()
+            .map(Integer::parseInt)
+            .peek(calls::add)
+            .build();
+
+        assertThat(pipeline.apply("not a number"))
+            .isFailure()
+            .hasFailureType(FailureDescription.GenericFailureType.GENERIC_RUNTIME_EXCEPTION)
+            .hasCauseOfType(NumberFormatException.class);
+
+        assertTrue(calls.isEmpty(), "Peek must not run after a failure");
+    }
+
+    @Test
+    @Order(4)
+    void whenFilterRejectsThenFailsWithGivenType()
+    {
+        var result = parseAndDouble.apply("5");
+
+        assertThat(result).isFailure().hasFailureType(PipelineFailure.TOO_SMALL);
+        assertEquals("Value 5 is too small", ((Failure<Integer>) result).getDetail());
+    }
+
+    @Test
+    @Order(5)
+    void whenFilterRejectsWithoutTypeThenFailsGenerically()
+    {
+        var result = ResultPipeline.<String>of().filter(s -> s.isEmpty()).build().apply("full");
+
+        assertThat(result).isFailure().hasFailureType(FailureDescription.GenericFailureType.GENERIC);
+        assertEquals("Value full rejected by filter", ((Failure<String>) result).getDetail());
+    }
+
+    @Test
+    @Order(6)
+    void whenFlatMapFailsThenSameFailureIsReturned()
+    {
+        var failure = Try.<Integer>failureWithDetails("No {}", "luck");
+        var pipeline = ResultPipeline.<String>of()
+            .flatMap(s -> failure)
+            .map(x -> x + 1)
+            .build();
+
+        assertSame(failure, pipeline.apply("anything"));
+    }
+
+    @Test
+    @Order(10)
+    void whenRecoverFollowsFailureThenPipelineContinues()
+    {
+        var pipeline = ResultPipeline.<String>of()
+            .map(Integer::parseInt)
+            .map(x -> x + 1)
+            .recover(failure -> -1)
+            .map(x -> x * 10)
+            .build();
+
+        assertThat(pipeline.apply("4")).hasValue(50);
+        assertThat(pipeline.apply("four")).hasValue(-10);
+    }
+
+    @Test
+    @Order(11)
+    void whenRecoveryThrowsThenFailureIsPrecededByOriginal()
+    {
+        var pipeline = ResultPipeline.<String>of()
+            .map(Integer::parseInt)
+            .recover(failure -> { throw new IOException("no fallback"); })
+            .build();
+
+        var result = (Failure<Integer>) pipeline.apply("four");
+
+        assertThat(result).isFailure().hasCauseOfType(IOException.class);
+        assertEquals(FailureDescription.GenericFailureType.GENERIC_RUNTIME_EXCEPTION, result.description().getPrecedingFailure().getType());
+    }
+
+    @Test
+    @Order(12)
+    void whenInputIsFailureThenSkipsToRecover()
+    {
+        var failed = Try.<String>failure();
+        var recovering = ResultPipeline.<String>of().map(String::length).recover(f -> 0).build();
+
+        assertSame(failed, parseAndDouble.apply(failed));
+        assertThat(recovering.apply(failed)).hasValue(0);
+        assertThat(recovering.apply(Try.success("four"))).hasValue(4);
+    }
+
+    @Test
+    @Order(20)
+    void whenBuilderIsSharedThenPipelinesAreIndependent()
+    {
+        var prefix = ResultPipeline.<String>of().map(String::length);
+
+        var doubled = prefix.map(x -> x * 2).build();
+        var negated = prefix.map(x -> -x).build();
+
+        assertThat(doubled.apply("abc")).hasValue(6);
+        assertThat(negated.apply("abc")).hasValue(-3);
+        assertThat(prefix.build().apply("abc")).hasValue(3);
+    }
+
+    @Test
+    @Order(21)
+    void whenUsedAsFlatMapFunctionThenContinuesResultChain()
+    {
+        var observed = new ArrayList<String>();
+        var pipeline = ResultPipeline.<String>of().peek(observed::add).map(String::toUpperCase).build();
+
+        assertThat(Try.success("abc").flatMap(pipeline)).hasValue("ABC");
+        assertEquals(List.of("abc"), observed);
+    }
+}
@@ -0,0 +1,111 @@
+package org.saltations.endeavour;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.saltations.endeavour.fixture.ReplaceBDDCamelCase;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.saltations.endeavour.fixture.ResultAssert.assertThat;
+
+/**
+ * Validates the short-circuiting ResultStream
+ */
+
+@Order(29)
+@DisplayNameGeneration(ReplaceBDDCamelCase.class)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class ResultStreamTest
+{
+    private static final int COUNT = 100_000;
+
+    @Test
+    @Order(1)
+    void whenEveryStepSucceedsThenAllPayloadsAreGathered()
+    {
+        var result = ResultStream.of(Stream.of("1", "2", "3"))
+                                 .mapTry(Integer::parseInt)
+                                 .flatMapTry(i -> Try.success(i * 10))
+                                 .toResult();
+
+        assertThat(result).isQuantSuccess();
+        assertEquals(List.of(10, 20, 30), result.get());
+    }
+
+    @Test
+    @Order(2)
+    void whenMappingThrowsThenElementBecomesFailure()
+    {
+        var counts = ResultStream.of(Stream.of("1", "x", "3"))
+                                 .mapTry(Integer::parseInt)
+                                 .collect(ResultCollectors.counting());
+
+        assertEquals(new ResultCollectors.Counts(2, 1), counts);
+    }
+
+    @Test
+    @Order(3)
+    void whenStreamHoldsResultsThenFailuresAreCarriedOver()
+    {
+        var failure = Try.<Integer>failure();
+
+        var result = ResultStream.ofResults(Stream.of(Try.success(1), failure, Try.success(3)))
+                                 .mapTry(i -> i + 1)
+                                 .toResult();
+
+        assertSame(failure, result);
+    }
+
+    @Test
+    @Order(10)
+    void whenSequentialStepFailsThenLaterElementsAreNotTaken()
+    {
+        var mapped = new AtomicInteger();
+
+        var result = ResultStream.of(IntStream.range(0, COUNT).boxed())
+                                 .mapTry(i -> {
+                                     mapped.incrementAndGet();
+                                     if (i == 10)
+                                     {
+                                         throw new IOException("row " + i);
+                                     }
+                                     return i;
+                                 })
+                                 .toResult();
+
+        assertThat(result).isFailure().hasCauseWithMessage("row 10");
+        assertEquals(11, mapped.get());
+    }
+
+    @Test
+    @Order(11)
+    void whenParallelStepFailsThenOtherTasksStopEarly()
+    {
+        var mapped = new AtomicInteger();
+
+        var result = ResultStream.of(IntStream.range(0, COUNT).boxed())
+                                 .parallel()
+                                 .mapTry(i -> {
+                                     mapped.incrementAndGet();
+                                     if (i % 1_000 == 0)
+                                     {
+                                         throw new IOException("row " + i);
+                                     }
+                                     return i;
+                                 })
+                                 .toResult();
+
+        assertThat(result).isFailure().hasCauseOfType(IOException.class);
+        assertTrue(mapped.get() < COUNT, "Mapped " + mapped.get() + " of " + COUNT);
+    }
+}
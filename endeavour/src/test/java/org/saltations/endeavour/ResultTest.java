@@ -1,5 +1,7 @@
 package org.saltations.endeavour;
 
+import java.io.IOException;
+
 import org.junit.jupiter.api.ClassOrderer;
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.MethodOrderer;
@@ -12,6 +14,7 @@ import org.saltations.endeavour.fixture.ReplaceBDDCamelCase;
 import org.saltations.endeavour.fixture.ResultAssert;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.saltations.endeavour.fixture.ResultAssert.assertThat;
@@ -212,6 +215,60 @@ public class ResultTest
     @Nested
     @Order(8)
     @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+    class FoldTests {
+        private final Result<Long> success = Try.success(1111L);
+        private final Result<Long> noValue = Try.success(null);
+        private final Result<Long> failure = Try.failure();
+
+        @Test
+        @Order(10)
+        void whenFoldingSuccessThenReturnsValueOfSuccessFunction() throws Exception {
+            assertEquals(2222L, success.<Long>fold(v -> v * 2, f -> 0L));
+            assertEquals("none", noValue.fold(v -> v == null ? "none" : "some", f -> "Failed"));
+        }
+
+        @Test
+        @Order(20)
+        void whenFoldingFailureThenReturnsValueOfFailureFunction() throws Exception {
+            assertEquals(FailureDescription.GenericFailureType.GENERIC, failure.fold(v -> null, Failure::getType));
+        }
+
+        @Test
+        @Order(30)
+        void whenFoldFunctionReturnsNullThenReturnsNull() throws Exception {
+            assertNull(success.fold(v -> null, f -> "Failed"));
+        }
+
+        @Test
+        @Order(40)
+        void whenFoldFunctionThrowsThenExceptionPropagates() {
+            var thrown = assertThrows(IOException.class, () -> success.fold(v -> { throw new IOException("Transform failed"); }, f -> "Failed"));
+
+            assertEquals("Transform failed", thrown.getMessage());
+        }
+
+        @Test
+        @Order(50)
+        void whenFoldingWithNullFunctionThenThrowsException() {
+            assertThrows(NullPointerException.class, () -> failure.fold(v -> "Success", null));
+            assertThrows(NullPointerException.class, () -> success.foldToInt(null, f -> 0));
+        }
+
+        @Test
+        @Order(60)
+        void whenFoldingToPrimitivesThenReturnsValueOfAppliedFunction() throws Exception {
+            assertEquals(200, success.foldToInt(v -> 200, f -> 502));
+            assertEquals(502, failure.foldToInt(v -> 200, f -> 502));
+            assertEquals(1111L, success.foldToLong(v -> v, f -> -1L));
+            assertEquals(-1L, failure.foldToLong(v -> v, f -> -1L));
+            assertEquals(0.5, success.foldToDouble(v -> 0.5, f -> 0.0));
+            assertEquals(0.0, failure.foldToDouble(v -> 0.5, f -> 0.0));
+        }
+    }
+
+    @Nested
+    @Order(9)
+    @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
     class ResultsConstructorTest {
         @Test
         @Order(10)
@@ -0,0 +1,105 @@
+package org.saltations.endeavour;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.saltations.endeavour.fixture.ReplaceBDDCamelCase;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.saltations.endeavour.fixture.ResultAssert.assertThat;
+
+/**
+ * Validates combining independent results with Result.zip
+ */
+
+@Order(30)
+@DisplayNameGeneration(ReplaceBDDCamelCase.class)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class ResultZipTest
+{
+    @Test
+    @Order(1)
+    void whenAllSucceedThenCombinerIsAppliedToThePayloads()
+    {
+        var pair = Result.zip(Try.success(2), Try.success("x"), (n, s) -> s.repeat(n));
+        var eight = Result.zip(Try.success(1), Try.success(2), Try.success(3), Try.success(4),
+                               Try.success(5), Try.success(6), Try.success(7), Try.success(8),
+                               (a, b, c, d, e, f, g, h) -> a + b + c + d + e + f + g + h);
+
+        assertThat(pair).hasValue("xx");
+        assertThat(eight).hasValue(36);
+    }
+
+    @Test
+    @Order(2)
+    void whenQualSuccessIsZippedThenCombinerGetsNull()
+    {
+        var zipped = Result.zip(Try.success(1), Try.<String>success(null), (n, s) -> s == null ? "none" : s);
+
+        assertThat(zipped).hasValue("none");
+    }
+
+    @Test
+    @Order(3)
+    void whenCombinerThrowsThenReturnsFailure()
+    {
+        var zipped = Result.zip(Try.success(1), Try.success(2), (a, b) -> { throw new IOException("combine"); });
+
+        assertThat(zipped).isFailure().hasCauseOfType(IOException.class);
+    }
+
+    @Test
+    @Order(10)
+    void whenAnyFailsThenFirstFailureIsReturnedWithoutCallingCombiner()
+    {
+        var calls = new AtomicInteger();
+        var second = Try.<Integer>titledFailure("second");
+        var fourth = Try.<Integer>titledFailure("fourth");
+
+        var zipped = Result.zip(Try.success(1), second, Try.success(3), fourth, (a, b, c, d) -> calls.incrementAndGet());
+
+        assertSame(second, zipped);
+        assertEquals(0, calls.get());
+    }
+
+    @Test
+    @Order(20)
+    void whenAccumulatingThenFailuresAreChainedInArgumentOrder()
+    {
+        var first = Try.<Integer>titledFailure("first");
+        var third = Try.<Integer>titledFailure("third");
+
+        var zipped = Result.zipAccumulating(first, Try.success(2), third, (a, b, c) -> a + b + c);
+
+        var failure = (Failure<Integer>) zipped;
+
+        assertEquals("first", failure.getTitle());
+        assertEquals("third", failure.description().getPrecedingFailure().getTitle());
+        assertFalse(failure.description().getPrecedingFailure().hasPrecedingFailure());
+    }
+
+    @Test
+    @Order(21)
+    void whenAccumulatingOneFailureThenItIsReturnedAsIs()
+    {
+        var only = Try.<Integer>titledFailure("only");
+
+        assertSame(only, Result.zipAccumulating(Try.success(1), only, Integer::sum));
+    }
+
+    @Test
+    @Order(30)
+    void whenArgumentIsNullThenThrowsNullPointerException()
+    {
+        assertThrows(NullPointerException.class, () -> Result.zip(Try.success(1), null, (Integer a, Integer b) -> a + b));
+        assertThrows(NullPointerException.class, () -> Result.zip(Try.success(1), Try.success(2), null));
+    }
+}
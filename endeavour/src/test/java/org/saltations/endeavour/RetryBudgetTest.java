@@ -0,0 +1,165 @@
+package org.saltations.endeavour;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.saltations.endeavour.fixture.ReplaceBDDCamelCase;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.saltations.endeavour.fixture.ResultAssert.assertThat;
+
+/**
+ * Validates RetryBudget and its use by Try.retry
+ */
+
+@Order(22)
+@DisplayNameGeneration(ReplaceBDDCamelCase.class)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class RetryBudgetTest
+{
+    private final AtomicLong now = new AtomicLong(TimeUnit.HOURS.toNanos(1));
+
+    @Test
+    @Order(1)
+    void whenNoAttemptsThenOnlyMinimumRetriesAreAllowed()
+    {
+        var budget = budget(0.5, 2);
+
+        assertEquals(2, budget.availableRetries());
+        assertTrue(budget.tryAcquireRetry());
+        assertTrue(budget.tryAcquireRetry());
+        assertFalse(budget.tryAcquireRetry());
+        assertEquals(0, budget.availableRetries());
+    }
+
+    @Test
+    @Order(2)
+    void whenAttemptsAreRecordedThenRatioOfThemMayBeRetried()
+    {
+        var budget = budget(0.1, 0);
+
+        for (int i = 0; i < 100; i++)
+        {
+            budget.recordAttempt();
+        }
+
+        var granted = 0;
+
+        while (budget.tryAcquireRetry())
+        {
+            granted++;
+        }
+
+        assertEquals(10, granted);
+    }
+
+    @Test
+    @Order(3)
+    void whenWindowSlidesPastOldCountsThenTheyNoLongerCount()
+    {
+        var budget = budget(1.0, 0);
+
+        for (int i = 0; i < 5; i++)
+        {
+            budget.recordAttempt();
+        }
+
+        assertTrue(budget.tryAcquireRetry());
+        assertEquals(4, budget.availableRetries());
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(5));
+        budget.recordAttempt();
+
+        assertEquals(5, budget.availableRetries(), "Half a window later everything still counts");
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(6));
+
+        assertEquals(1, budget.availableRetries(), "Only the later attempt is left in the window");
+    }
+
+    @Test
+    @Order(4)
+    void whenUsedFromManyThreadsThenCountsAreNotLost() throws Exception
+    {
+        var budget = budget(1.0, 0);
+        var threads = new ArrayList<Thread>();
+
+        for (int t = 0; t < 8; t++)
+        {
+            threads.add(Thread.ofVirtual().start(() -> {
+                for (int i = 0; i < 1_000; i++)
+                {
+                    budget.recordAttempt();
+                }
+            }));
+        }
+
+        for (var thread : threads)
+        {
+            thread.join();
+        }
+
+        assertEquals(8_000, budget.availableRetries());
+    }
+
+    @Test
+    @Order(10)
+    void whenBudgetIsSpentThenRetryFailsFast()
+    {
+        var budget = budget(0.0, 1);
+        var policy = RetryPolicy.of().maxAttempts(5).backoff(Duration.ZERO, Duration.ZERO).budget(budget).build();
+        var attempts = new AtomicInteger();
+
+        var result = Try.<String>retry(policy, () -> {
+            attempts.incrementAndGet();
+            throw new IOException("down");
+        });
+
+        assertEquals(2, attempts.get(), "First attempt and the one retry the budget allows");
+        assertThat(result).isFailure().hasFailureType(FailureDescription.GenericFailureType.GENERIC_RETRY_BUDGET_EXHAUSTED);
+
+        var failure = (Failure<String>) result;
+
+        assertEquals("Retry budget exhausted; not retrying after attempt 2", failure.getDetail());
+        assertEquals(IOException.class, failure.description().getPrecedingFailure().getCause().getClass());
+    }
+
+    @Test
+    @Order(11)
+    void whenRetryingThenFirstAttemptsAddToBudget()
+    {
+        var budget = budget(1.0, 0);
+        var policy = RetryPolicy.of().budget(budget).build();
+
+        assertThat(Try.retry(policy, () -> "fine")).hasValue("fine");
+        assertThat(Try.retry(policy, () -> "fine")).hasValue("fine");
+
+        assertEquals(2, budget.availableRetries());
+    }
+
+    @Test
+    @Order(20)
+    void whenSettingsAreInvalidThenRejected()
+    {
+        assertThrows(IllegalArgumentException.class, () -> RetryBudget.of().ratio(-0.1));
+        assertThrows(IllegalArgumentException.class, () -> RetryBudget.of().minRetries(-1));
+        assertThrows(IllegalArgumentException.class, () -> RetryBudget.of().window(Duration.ZERO));
+    }
+
+    private RetryBudget budget(double ratio, int minRetries)
+    {
+        return new RetryBudget(ratio, minRetries, Duration.ofSeconds(10), now::get);
+    }
+}
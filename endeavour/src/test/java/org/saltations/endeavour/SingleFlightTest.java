@@ -0,0 +1,185 @@
+package org.saltations.endeavour;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.saltations.endeavour.fixture.ReplaceBDDCamelCase;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.saltations.endeavour.fixture.ResultAssert.assertThat;
+
+/**
+ * Validates SingleFlight request coalescing
+ */
+
+@Order(26)
+@DisplayNameGeneration(ReplaceBDDCamelCase.class)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class SingleFlightTest
+{
+    private static final int CALLERS = 8;
+
+    @Test
+    @Order(1)
+    void whenConcurrentCallsShareKeyThenSupplierRunsOnceAndAllGetSameResult() throws Exception
+    {
+        var flight = new SingleFlight<String, Integer>();
+        var executions = new AtomicInteger();
+        var release = new CountDownLatch(1);
+
+        var results = runConcurrently(flight, "sku-1", () -> {
+            executions.incrementAndGet();
+            release.await(5, TimeUnit.SECONDS);
+            return 42;
+        }, release);
+
+        assertEquals(1, executions.get());
+
+        for (int i = 0; i < CALLERS; i++)
+        {
+            assertThat(results.get(i)).hasValue(42);
+            assertSame(results.get(0), results.get(i));
+        }
+    }
+
+    @Test
+    @Order(2)
+    void whenSharedExecutionFailsThenAllGetSameFailure() throws Exception
+    {
+        var flight = new SingleFlight<String, Integer>();
+        var release = new CountDownLatch(1);
+
+        var results = runConcurrently(flight, "sku-1", () -> {
+            release.await(5, TimeUnit.SECONDS);
+            throw new IOException("store unavailable");
+        }, release);
+
+        assertThat(results.get(0)).isFailure().hasCauseOfType(IOException.class);
+
+        for (int i = 0; i < CALLERS; i++)
+        {
+            assertSame(results.get(0), results.get(i));
+        }
+    }
+
+    @Test
+    @Order(3)
+    void whenFinishedThenNextCallRunsAfresh()
+    {
+        var flight = new SingleFlight<String, Integer>();
+        var executions = new AtomicInteger();
+
+        assertThat(flight.attempt("sku-1", executions::incrementAndGet)).hasValue(1);
+        assertThat(flight.attempt("sku-1", executions::incrementAndGet)).hasValue(2);
+        assertEquals(0, flight.getInFlight());
+    }
+
+    @Test
+    @Order(4)
+    void whenKeysDifferThenExecutionsAreIndependent()
+    {
+        var flight = new SingleFlight<String, String>();
+
+        var outer = flight.attempt("a", () -> flight.attempt("b", () -> "inner").get() + "+outer");
+
+        assertThat(outer).hasValue("inner+outer");
+    }
+
+    @Test
+    @Order(10)
+    void whenSupplierReentersOwnKeyThenFailureInsteadOfDeadlock()
+    {
+        var flight = new SingleFlight<String, String>();
+        var inner = new AtomicReference<Result<String>>();
+
+        var outer = flight.attempt("a", () -> {
+            inner.set(flight.attempt("a", () -> "never"));
+            return "outer";
+        });
+
+        assertThat(outer).hasValue("outer");
+        assertThat(inner.get()).isFailure().hasCauseOfType(IllegalStateException.class);
+    }
+
+    @Test
+    @Order(11)
+    void whenWaitingCallerIsInterruptedThenInterruptedFailure() throws Exception
+    {
+        var flight = new SingleFlight<String, String>();
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+
+        var leader = Thread.ofVirtual().start(() -> flight.attempt("a", () -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return "late";
+        }));
+
+        started.await(5, TimeUnit.SECONDS);
+
+        var outcome = new AtomicReference<Result<String>>();
+        var follower = Thread.ofVirtual().start(() -> outcome.set(flight.attempt("a", () -> "never")));
+
+        follower.interrupt();
+        follower.join(5_000);
+        release.countDown();
+        leader.join(5_000);
+
+        assertThat(outcome.get()).hasFailureType(FailureDescription.GenericFailureType.GENERIC_INTERRUPTED_EXCEPTION);
+    }
+
+    /**
+     * Starts all callers, waits until the one that runs the supplier and every other caller are in flight, then releases.
+     */
+
+    private static <T> List<Result<T>> runConcurrently(SingleFlight<String, T> flight, String key, CheckedSupplier<T> supplier, CountDownLatch release) throws Exception
+    {
+        var results = new AtomicReferenceArray<Result<T>>(CALLERS);
+        var threads = new ArrayList<Thread>();
+        var arrived = new CountDownLatch(CALLERS);
+
+        for (int i = 0; i < CALLERS; i++)
+        {
+            var index = i;
+
+            threads.add(Thread.ofVirtual().start(() -> {
+                arrived.countDown();
+                results.set(index, flight.attempt(key, supplier));
+            }));
+        }
+
+        assertTrue(arrived.await(5, TimeUnit.SECONDS));
+
+        // Give the stragglers time to join the execution before letting it finish
+
+        Thread.sleep(100);
+        release.countDown();
+
+        for (var thread : threads)
+        {
+            thread.join(5_000);
+        }
+
+        var list = new ArrayList<Result<T>>();
+
+        for (int i = 0; i < CALLERS; i++)
+        {
+            list.add(results.get(i));
+        }
+
+        return list;
+    }
+}
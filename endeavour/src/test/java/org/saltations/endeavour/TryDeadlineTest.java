@@ -0,0 +1,141 @@
+package org.saltations.endeavour;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.saltations.endeavour.fixture.ReplaceBDDCamelCase;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.saltations.endeavour.fixture.ResultAssert.assertThat;
+
+/**
+ * Validates deadline-bounded attempts made with Try.attemptWithin
+ */
+
+@Order(20)
+@DisplayNameGeneration(ReplaceBDDCamelCase.class)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class TryDeadlineTest
+{
+    @Test
+    @Order(1)
+    void whenCompletedInTimeThenResultIsReturned()
+    {
+        assertThat(Try.attemptWithin(Duration.ofSeconds(5), () -> "done")).isQuantSuccess().hasValue("done");
+        assertThat(Try.attemptWithin(Duration.ofSeconds(5), () -> null)).isQualSuccess();
+        assertThat(Try.attemptWithin(Duration.ofSeconds(5), () -> { throw new IOException("unreachable"); }))
+            .isFailure()
+            .hasFailureType(FailureDescription.GenericFailureType.GENERIC_EXCEPTION)
+            .hasCauseOfType(IOException.class);
+    }
+
+    @Test
+    @Order(2)
+    void whenNotInsideBoundedAttemptThenThereIsNoCurrentDeadline()
+    {
+        assertTrue(Deadline.current().isEmpty());
+
+        var inside = Try.attemptWithin(Duration.ofSeconds(5), () -> Deadline.current().isPresent());
+
+        assertThat(inside).hasValue(true);
+        assertTrue(Deadline.current().isEmpty());
+    }
+
+    @Test
+    @Order(10)
+    void whenTimedOutThenTimeoutFailureAndSupplierIsInterrupted() throws Exception
+    {
+        var interrupted = new CountDownLatch(1);
+
+        var result = Try.attemptWithin(Duration.ofMillis(50), () -> {
+            try
+            {
+                Thread.sleep(10_000);
+            }
+            catch (InterruptedException e)
+            {
+                interrupted.countDown();
+                throw e;
+            }
+
+            return "never";
+        });
+
+        assertThat(result).isFailure().hasFailureType(FailureDescription.GenericFailureType.GENERIC_TIMEOUT);
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS), "Supplier is interrupted");
+
+        var detail = ((Failure<String>) result).getDetail();
+
+        assertTrue(detail.startsWith("Did not complete within 50 ms; gave up after "), detail);
+    }
+
+    @Test
+    @Order(11)
+    void whenNestedThenInnerAttemptGetsNoMoreThanRemainingTime()
+    {
+        var result = Try.attemptWithin(Duration.ofMillis(500), () ->
+            Try.attemptWithin(Duration.ofSeconds(30), () -> Deadline.current().orElseThrow().remaining()).get());
+
+        assertThat(result).isQuantSuccess();
+        assertTrue(result.get().compareTo(Duration.ofMillis(500)) <= 0, "Inner deadline is not extended: " + result.get());
+    }
+
+    @Test
+    @Order(12)
+    void whenNestedWithShorterTimeoutThenInnerTimeoutApplies()
+    {
+        var result = Try.attemptWithin(Duration.ofSeconds(30), () ->
+            Try.attemptWithin(Duration.ofMillis(20), () -> Deadline.current().orElseThrow().remaining()).get());
+
+        assertThat(result).isQuantSuccess();
+        assertTrue(result.get().compareTo(Duration.ofMillis(20)) <= 0, "Inner deadline is the shorter one: " + result.get());
+    }
+
+    @Test
+    @Order(13)
+    void whenNoTimeLeftThenSupplierIsNotRun()
+    {
+        var ran = new AtomicBoolean();
+
+        var result = Try.attemptWithin(Duration.ZERO, () -> ran.getAndSet(true));
+
+        assertThat(result).isFailure().hasFailureType(FailureDescription.GenericFailureType.GENERIC_TIMEOUT);
+        assertFalse(ran.get(), "Supplier is not run");
+    }
+
+    @Test
+    @Order(20)
+    void whenTimeoutIsNegativeThenRejected()
+    {
+        assertThrows(IllegalArgumentException.class, () -> Try.attemptWithin(Duration.ofMillis(-1), () -> "never"));
+    }
+
+    @Test
+    @Order(21)
+    void whenJoinTimesOutThenOperationKeepsRunning() throws Exception
+    {
+        var release = new CountDownLatch(1);
+        var async = Try.attemptAsync(() -> {
+            release.await();
+            return "late";
+        });
+
+        assertThat(async.join(Duration.ofMillis(20))).isFailure().hasFailureType(FailureDescription.GenericFailureType.GENERIC_TIMEOUT);
+        assertFalse(async.isDone(), "Timed join does not cancel");
+
+        release.countDown();
+
+        assertEquals("late", async.join(Duration.ofSeconds(5)).get());
+    }
+}
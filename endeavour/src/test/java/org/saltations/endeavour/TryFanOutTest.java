@@ -0,0 +1,233 @@
+package org.saltations.endeavour;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.saltations.endeavour.fixture.ReplaceBDDCamelCase;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.saltations.endeavour.fixture.ResultAssert.assertThat;
+
+/**
+ * Validates the concurrent fan-out combinators Try.all and Try.any
+ */
+
+@Order(19)
+@DisplayNameGeneration(ReplaceBDDCamelCase.class)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class TryFanOutTest
+{
+    @Test
+    @Order(1)
+    void whenAllSucceedThenValuesAreInSupplierOrder()
+    {
+        Result<List<String>> result = Try.all(
+            () -> { Thread.sleep(60); return "slow"; },
+            () -> "fast",
+            () -> null
+        );
+
+        assertThat(result).isQuantSuccess();
+        assertEquals(3, result.get().size());
+        assertEquals("slow", result.get().get(0));
+        assertEquals("fast", result.get().get(1));
+        assertNull(result.get().get(2));
+    }
+
+    @Test
+    @Order(2)
+    void whenAllRunThenTheyRunConcurrently()
+    {
+        var barrier = new CountDownLatch(3);
+        CheckedSupplier<Boolean> meetOthers = () -> {
+            barrier.countDown();
+            return barrier.await(5, TimeUnit.SECONDS);
+        };
+
+        // Each supplier only succeeds if all three are running at the same time
+
+        assertThat(Try.all(meetOthers, meetOthers, meetOthers)).isQuantSuccess().hasValue(List.of(true, true, true));
+    }
+
+    @Test
+    @Order(3)
+    void whenNoSuppliersThenAllSucceedsWithEmptyList()
+    {
+        assertThat(Try.all(List.<CheckedSupplier<String>>of())).isQuantSuccess().hasValue(List.of());
+    }
+
+    @Test
+    @Order(10)
+    void whenOneFailsThenOthersAreCancelled() throws Exception
+    {
+        var started = new CountDownLatch(1);
+        var interrupted = new CountDownLatch(1);
+
+        var result = Try.all(
+            () -> {
+                started.await();
+                throw new IOException("downstream unavailable");
+            },
+            () -> {
+                started.countDown();
+
+                try
+                {
+                    Thread.sleep(10_000);
+                }
+                catch (InterruptedException e)
+                {
+                    interrupted.countDown();
+                    throw e;
+                }
+                return "never";
+            }
+        );
+
+        assertThat(result).isFailure().hasCauseOfType(IOException.class);
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS), "Remaining task is interrupted");
+
+        var failure = (Failure<List<String>>) result;
+        assertFalse(failure.description().hasPrecedingFailure(), "Cancelled tasks are not reported as failures");
+    }
+
+    @Test
+    @Order(11)
+    void whenSeveralHaveFailedThenFailuresAreChained() throws Exception
+    {
+        var bothFailed = new CountDownLatch(2);
+
+        CheckedSupplier<String> failing = () -> {
+            bothFailed.countDown();
+            bothFailed.await();
+            throw new IOException("failed");
+        };
+
+        var result = (Failure<List<String>>) Try.all(failing, failing);
+
+        var chainLength = 0;
+
+        for (var description = result.description(); description != null; description = description.getPrecedingFailure())
+        {
+            chainLength++;
+        }
+
+        assertThat(result).isFailure().hasCauseOfType(IOException.class);
+        assertTrue(chainLength >= 1 && chainLength <= 2, "First failure plus any that had already happened");
+    }
+
+    @Test
+    @Order(12)
+    void whenChainingThenExistingPrecedingFailuresAreKept()
+    {
+        var root = FailureDescription.of().detail("root").build();
+        var first = FailureDescription.of().detail("first").precedingFailure(root).build();
+        var second = FailureDescription.of().detail("second").build();
+
+        var chained = FanOut.appendPreceding(first, second);
+
+        assertEquals("first", chained.getDetail());
+        assertEquals("root", chained.getPrecedingFailure().getDetail());
+        assertEquals("second", chained.getPrecedingFailure().getPrecedingFailure().getDetail());
+    }
+
+    @Test
+    @Order(20)
+    void whenAnySucceedsThenFirstSuccessWinsAndOthersAreCancelled() throws Exception
+    {
+        var started = new CountDownLatch(1);
+        var interrupted = new CountDownLatch(1);
+
+        var result = Try.any(
+            () -> {
+                started.countDown();
+
+                try
+                {
+                    Thread.sleep(10_000);
+                }
+                catch (InterruptedException e)
+                {
+                    interrupted.countDown();
+                    throw e;
+                }
+                return "slow";
+            },
+            () -> { throw new IOException("broken replica"); },
+            () -> {
+                started.await();
+                return "fast";
+            }
+        );
+
+        assertThat(result).isQuantSuccess().hasValue("fast");
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS), "Slower task is interrupted");
+    }
+
+    @Test
+    @Order(21)
+    void whenSuccessesArriveTogetherThenAnyReturnsOneOfThem() throws Exception
+    {
+        for (int round = 0; round < 200; round++)
+        {
+            var release = new CountDownLatch(1);
+
+            var result = Try.any(
+                () -> {
+                    release.await();
+                    return "first";
+                },
+                () -> {
+                    release.await();
+                    return "second";
+                },
+                () -> {
+                    release.countDown();
+                    throw new IOException("releasing replica");
+                }
+            );
+
+            assertThat(result).isQuantSuccess();
+            assertTrue(List.of("first", "second").contains(result.get()), "Round " + round + " returned " + result.get());
+        }
+    }
+
+    @Test
+    @Order(22)
+    void whenAllFailThenAnyReturnsChainedFailures()
+    {
+        var result = (Failure<String>) Try.<String>any(
+            () -> { throw new IOException("first"); },
+            () -> { throw new IOException("second"); }
+        );
+
+        var causes = new ArrayList<String>();
+
+        for (var description = result.description(); description != null; description = description.getPrecedingFailure())
+        {
+            causes.add(description.getCause().getMessage());
+        }
+
+        assertEquals(2, causes.size());
+        assertTrue(causes.containsAll(List.of("first", "second")));
+    }
+
+    @Test
+    @Order(23)
+    void whenNoSuppliersThenAnyIsRejected()
+    {
+        assertThrows(IllegalArgumentException.class, () -> Try.any(List.<CheckedSupplier<String>>of()));
+    }
+}
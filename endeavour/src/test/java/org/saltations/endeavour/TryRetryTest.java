@@ -0,0 +1,260 @@
+package org.saltations.endeavour;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.saltations.endeavour.fixture.ReplaceBDDCamelCase;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.saltations.endeavour.fixture.ResultAssert.assertThat;
+
+/**
+ * Validates Try.retry and RetryPolicy
+ */
+
+@Order(21)
+@DisplayNameGeneration(ReplaceBDDCamelCase.class)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class TryRetryTest
+{
+    @Test
+    @Order(1)
+    void whenTransientFailuresThenRetriesUntilSuccess()
+    {
+        var attempts = new AtomicInteger();
+
+        var result = Try.retry(immediate().maxAttempts(3).build(), () -> {
+            if (attempts.incrementAndGet() < 3)
+            {
+                throw new IOException("attempt " + attempts.get());
+            }
+
+            return "done";
+        });
+
+        assertThat(result).isQuantSuccess().hasValue("done");
+        assertEquals(3, attempts.get());
+    }
+
+    @Test
+    @Order(2)
+    void whenAllAttemptsFailThenLastFailureIsPrecededByEarlierOnes()
+    {
+        var attempts = new AtomicInteger();
+
+        var result = Try.<String>retry(immediate().maxAttempts(4).build(), () -> {
+            throw new IOException("attempt " + attempts.incrementAndGet());
+        });
+
+        assertThat(result).isFailure().hasCauseOfType(IOException.class);
+        assertEquals(List.of("attempt 4", "attempt 3", "attempt 2", "attempt 1"), causeMessages((Failure<String>) result));
+    }
+
+    @Test
+    @Order(3)
+    void whenManyAttemptsFailThenChainIsCapped()
+    {
+        var attempts = new AtomicInteger();
+        var policy = immediate().maxAttempts(10).maxChainLength(3).build();
+
+        var result = Try.<String>retry(policy, () -> {
+            throw new IOException("attempt " + attempts.incrementAndGet());
+        });
+
+        assertEquals(10, attempts.get());
+        assertEquals(List.of("attempt 10", "attempt 9", "attempt 8"), causeMessages((Failure<String>) result));
+    }
+
+    @Test
+    @Order(4)
+    void whenAttemptFailuresAreAlreadyChainedThenWholeChainIsCapped()
+    {
+        var policy = immediate().maxAttempts(10).maxChainLength(3).build();
+        var earlier = new FailureDescription[]{chainedFailure("attempt 1"), chainedFailure("attempt 2")};
+
+        Failure<String> result = policy.chained(chainedFailure("attempt 3"), earlier, 2);
+
+        assertEquals(List.of("attempt 3", "attempt 3 lookup", "attempt 2"), titles(result));
+        assertFalse(result.description().getPrecedingFailure().getPrecedingFailure().hasPrecedingFailure());
+    }
+
+    @Test
+    @Order(10)
+    void whenCauseIsNotRetryableThenNoRetry()
+    {
+        var attempts = new AtomicInteger();
+        var policy = immediate().maxAttempts(5).retryOnCause(IOException.class).build();
+
+        var result = Try.<String>retry(policy, () -> {
+            attempts.incrementAndGet();
+            throw new IllegalStateException("permanent");
+        });
+
+        assertThat(result).isFailure().hasCauseOfType(IllegalStateException.class);
+        assertEquals(1, attempts.get());
+    }
+
+    @Test
+    @Order(11)
+    void whenTypeOrPredicateMatchesThenRetryable()
+    {
+        var byType = RetryPolicy.of().retryOn(FailureDescription.GenericFailureType.GENERIC_RUNTIME_EXCEPTION).build();
+        var byPredicate = RetryPolicy.of().retryIf(failure -> failure.getDetail().contains("busy")).build();
+        var either = RetryPolicy.of().retryOnCause(IOException.class).retryIf(failure -> failure.getDetail().contains("busy")).build();
+
+        var checked = Try.failureFrom(new IOException("unreachable"));
+        var busy = Try.failureFrom(new IllegalStateException("busy"));
+
+        assertTrue(byType.isRetryable(busy));
+        assertFalse(byType.isRetryable(checked));
+        assertTrue(byPredicate.isRetryable(busy));
+        assertFalse(byPredicate.isRetryable(checked));
+        assertTrue(either.isRetryable(busy) && either.isRetryable(checked));
+        assertFalse(RetryPolicy.of().build().isRetryable(Try.failureFrom(new InterruptedException())), "Interrupted attempts are never retried");
+
+        Thread.interrupted();
+    }
+
+    @Test
+    @Order(20)
+    void whenBackingOffThenWaitsGrowExponentiallyUpToMaximum()
+    {
+        var policy = RetryPolicy.of().backoff(Duration.ofMillis(100), Duration.ofMillis(500)).jitter(0.0).build();
+
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(100), policy.delayNanos(1, 0.9));
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(200), policy.delayNanos(2, 0.9));
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(400), policy.delayNanos(3, 0.9));
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(500), policy.delayNanos(4, 0.9));
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(500), policy.delayNanos(1_000, 0.9));
+    }
+
+    @Test
+    @Order(21)
+    void whenJitteredThenWaitsAreShortenedByUpToJitterFraction()
+    {
+        var policy = RetryPolicy.of().backoff(Duration.ofMillis(100), Duration.ofMillis(100)).jitter(0.5).build();
+
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(100), policy.delayNanos(1, 0.0));
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(75), policy.delayNanos(1, 0.5));
+        assertTrue(policy.delayNanos(1, 0.999) > TimeUnit.MILLISECONDS.toNanos(50));
+    }
+
+    @Test
+    @Order(30)
+    void whenNextWaitWouldPassDeadlineThenStopsWithoutWaiting()
+    {
+        var attempts = new AtomicInteger();
+        var policy = RetryPolicy.of()
+                                .maxAttempts(5)
+                                .backoff(Duration.ofSeconds(10), Duration.ofSeconds(10))
+                                .maxDuration(Duration.ofMillis(200))
+                                .build();
+
+        var started = System.nanoTime();
+
+        var result = Try.<String>retry(policy, () -> {
+            attempts.incrementAndGet();
+            throw new IOException("down");
+        });
+
+        assertThat(result).isFailure().hasCauseOfType(IOException.class);
+        assertEquals(1, attempts.get());
+        assertTrue(System.nanoTime() - started < TimeUnit.SECONDS.toNanos(5), "Did not wait for the backoff");
+    }
+
+    @Test
+    @Order(31)
+    void whenInsideBoundedAttemptThenRetriesRespectItsDeadline()
+    {
+        var attempts = new AtomicInteger();
+        var policy = RetryPolicy.of().maxAttempts(5).backoff(Duration.ofSeconds(10), Duration.ofSeconds(10)).build();
+
+        var result = Try.attemptWithin(Duration.ofSeconds(1), () -> Try.<String>retry(policy, () -> {
+            attempts.incrementAndGet();
+            throw new IOException("down");
+        }));
+
+        assertThat(result).isQuantSuccess();
+        assertThat(result.get()).isFailure().hasCauseOfType(IOException.class);
+        assertEquals(1, attempts.get());
+    }
+
+    @Test
+    @Order(32)
+    void whenInterruptedWhileWaitingThenStopsWithInterruptedFailure()
+    {
+        var policy = RetryPolicy.of().maxAttempts(5).backoff(Duration.ofSeconds(10), Duration.ofSeconds(10)).build();
+
+        var result = Try.<String>retry(policy, () -> {
+            Thread.currentThread().interrupt();
+            throw new IOException("down");
+        });
+
+        var interrupted = Thread.interrupted();
+
+        assertThat(result).isFailure().hasFailureType(FailureDescription.GenericFailureType.GENERIC_INTERRUPTED_EXCEPTION);
+        assertTrue(interrupted, "Interrupt flag is restored");
+        assertEquals(IOException.class, ((Failure<String>) result).description().getPrecedingFailure().getCause().getClass());
+    }
+
+    @Test
+    @Order(40)
+    void whenSettingsAreInvalidThenRejected()
+    {
+        assertThrows(IllegalArgumentException.class, () -> RetryPolicy.of().maxAttempts(0));
+        assertThrows(IllegalArgumentException.class, () -> RetryPolicy.of().jitter(1.5));
+        assertThrows(IllegalArgumentException.class, () -> RetryPolicy.of().multiplier(0.5));
+        assertThrows(IllegalArgumentException.class, () -> RetryPolicy.of().maxChainLength(0));
+        assertThrows(IllegalArgumentException.class, () -> RetryPolicy.of().backoff(Duration.ofSeconds(2), Duration.ofSeconds(1)));
+        assertThrows(IllegalArgumentException.class, () -> RetryPolicy.of().maxDuration(Duration.ofMillis(-1)));
+    }
+
+    private static RetryPolicy.Builder immediate()
+    {
+        return RetryPolicy.of().backoff(Duration.ZERO, Duration.ZERO);
+    }
+
+    private static FailureDescription chainedFailure(String title)
+    {
+        return FailureDescription.of()
+                                 .title(title)
+                                 .precedingFailure(FailureDescription.of().title(title + " lookup").build())
+                                 .build();
+    }
+
+    private static List<String> titles(Failure<?> failure)
+    {
+        var titles = new ArrayList<String>();
+
+        for (var description = failure.description(); description != null; description = description.getPrecedingFailure())
+        {
+            titles.add(description.getTitle());
+        }
+
+        return titles;
+    }
+
+    private static List<String> causeMessages(Failure<?> failure)
+    {
+        var messages = new ArrayList<String>();
+
+        for (var description = failure.description(); description != null; description = description.getPrecedingFailure())
+        {
+            messages.add(description.getCause().getMessage());
+        }
+
+        return messages;
+    }
+}
@@ -17,6 +17,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
@@ -68,6 +69,27 @@ public class TryTest
                 .hasPayload()
                 .hasValue(Boolean.TRUE);
         }
+
+        @Test
+        @Order(3)
+        void canCreateSharedSuccessWithoutValue()
+        {
+            assertSame(Try.success(), Try.success());
+            assertSame(QuantSuccess.TRUE, Try.success(Boolean.TRUE));
+            assertSame(QuantSuccess.FALSE, Try.success(Boolean.FALSE));
+        }
+
+        @Test
+        @Order(4)
+        void canCreateCachedSuccess()
+        {
+            assertSame(Try.cachedSuccess(42), Try.cachedSuccess(42));
+            assertSame(QualSuccess.instance(), Try.cachedSuccess(null));
+            assertThat(Try.cachedSuccess(42))
+                .isSuccess()
+                .isQuantSuccess()
+                .hasValue(42);
+        }
     }
 
 
@@ -3,13 +3,21 @@ package org.saltations.endeavour.exception;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class DomainExceptionTest {
 
@@ -89,4 +97,109 @@ class DomainExceptionTest {
         }
 
     }
+
+    @Nested
+    class GivenStacklessFactory {
+        @Test
+        void whenCreatingStacklessThenNoStackTraceButTraceIdIsSet() {
+            // Given a stackless domain exception
+            var exception = DomainException.stackless("User {} not found", "john");
+
+            // Then the message and trace id are set but no stack trace is captured
+            assertEquals("User john not found", exception.getMessage());
+            assertNull(exception.getCause());
+            assertNotNull(exception.getTraceId());
+            assertNotNull(exception.getTimestamp());
+            assertEquals(0, exception.getStackTrace().length);
+        }
+
+        @Test
+        void whenCreatingStacklessWithCauseThenCauseIsSet() {
+            // Given a cause
+            var cause = new RuntimeException("Root cause");
+            var exception = DomainException.stackless(cause, "Operation failed");
+
+            // Then the cause is kept and no stack trace is captured
+            assertSame(cause, exception.getCause());
+            assertEquals(0, exception.getStackTrace().length);
+        }
+    }
+
+    @Nested
+    class GivenLazyTraceIds {
+        @Test
+        void whenTraceIdIsNotReadThenGeneratorIsNotCalled() {
+            // Given a counting generator
+            var calls = new AtomicInteger();
+            var original = DomainException.getTraceIdGenerator();
+            DomainException.setTraceIdGenerator(() -> {
+                calls.incrementAndGet();
+                return new UUID(0L, calls.get());
+            });
+
+            try {
+                // When the exception is created but its trace id is not read
+                var exception = new DomainException("Unread");
+                assertEquals(0, calls.get());
+
+                // Then the id is generated once on first read and kept
+                var traceId = exception.getTraceId();
+                assertSame(traceId, exception.getTraceId());
+                assertEquals(1, calls.get());
+            }
+            finally {
+                DomainException.setTraceIdGenerator(original);
+            }
+        }
+
+        @Test
+        void whenTraceIdIsReadLaterThenItCarriesTheCreationTime() throws Exception {
+            // Given an exception created before another one
+            var earlier = new DomainException("Earlier");
+            Thread.sleep(5);
+            var later = new DomainException("Later");
+
+            // When the trace id of the later one is read first
+            var laterId = later.getTraceId();
+            Thread.sleep(5);
+            var earlierId = earlier.getTraceId();
+
+            // Then the ids carry the creation times and sort by them
+            assertEquals(earlier.getTimestamp().toEpochMilli(), earlierId.getMostSignificantBits() >>> 16);
+            assertTrue(earlierId.compareTo(laterId) < 0);
+        }
+
+        @Test
+        void whenTimestampIsReadThenItIsTheCreationTime() {
+            // Given an exception created now
+            var before = Instant.now().minusMillis(1);
+            var exception = new DomainException("Timed");
+            var after = Instant.now().plusMillis(1);
+
+            // Then the timestamp falls within the creation window
+            assertTrue(!exception.getTimestamp().isBefore(before) && !exception.getTimestamp().isAfter(after));
+            assertTrue(Duration.between(exception.getTimestamp(), Instant.now()).toSeconds() < 5);
+        }
+
+        @Test
+        void whenSerializedThenTraceIdSurvives() throws Exception {
+            // Given an exception whose trace id has not been read
+            var exception = new DomainException("Serialized");
+
+            // When it is serialized and deserialized
+            var bytes = new ByteArrayOutputStream();
+            try (var out = new ObjectOutputStream(bytes)) {
+                out.writeObject(exception);
+            }
+
+            DomainException copy;
+            try (var in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+                copy = (DomainException) in.readObject();
+            }
+
+            // Then both carry the same trace id and timestamp
+            assertEquals(exception.getTraceId(), copy.getTraceId());
+            assertEquals(exception.getTimestamp(), copy.getTimestamp());
+        }
+    }
 } 
\ No newline at end of file
@@ -241,4 +241,68 @@ class FormattedUncheckedExceptionTest {
         // Then
         assertThat(exception.getMessage()).contains(username, items.toString());
     }
+
+    @Nested
+    class WhenCreatingStackless {
+
+        @Test
+        void withTemplateAndArgsThenMessageIsExpandedAndNoStackTraceIsCaptured() {
+            // When
+            var exception = FormattedUncheckedException.stackless("User {} not found", "john");
+
+            // Then
+            assertEquals("User john not found", exception.getMessage());
+            assertNull(exception.getCause());
+            assertThat(exception.getStackTrace()).isEmpty();
+        }
+
+        @Test
+        void withCauseThenCauseIsSetAndNoStackTraceIsCaptured() {
+            // Given
+            var cause = new RuntimeException("Root cause");
+
+            // When
+            var exception = FormattedUncheckedException.stackless(cause, "Operation {} failed", "save");
+
+            // Then
+            assertEquals("Operation save failed", exception.getMessage());
+            assertSame(cause, exception.getCause());
+            assertThat(exception.getStackTrace()).isEmpty();
+        }
+
+        @Test
+        void thenSuppressedExceptionsAreNotRecorded() {
+            // Given
+            var exception = FormattedUncheckedException.stackless("Closing failed");
+
+            // When
+            exception.addSuppressed(new IllegalStateException("Suppressed"));
+
+            // Then
+            assertThat(exception.getSuppressed()).isEmpty();
+        }
+
+        @Test
+        void andStackCaptureIsSwitchedBackOnThenStackTraceIsCaptured() {
+            FormattedUncheckedException.setCaptureStackTraces(true);
+
+            try {
+                // When
+                var exception = FormattedUncheckedException.stackless("Debugging");
+                exception.addSuppressed(new IllegalStateException("Suppressed"));
+
+                // Then
+                assertThat(exception.getStackTrace()).isNotEmpty();
+                assertThat(exception.getSuppressed()).hasSize(1);
+            }
+            finally {
+                FormattedUncheckedException.setCaptureStackTraces(false);
+            }
+        }
+
+        @Test
+        void thenRegularConstructorsStillCaptureStackTraces() {
+            assertThat(new FormattedUncheckedException("Traced").getStackTrace()).isNotEmpty();
+        }
+    }
 } 
\ No newline at end of file
@@ -0,0 +1,81 @@
+package org.saltations.endeavour.exception;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TraceIdGeneratorTest {
+
+    @Test
+    void whenGeneratingTimeOrderedIdsThenTheyAreVersion7AndCarryTheTime() {
+        // Given the time-ordered generator
+        var generator = TraceIdGenerator.timeOrdered();
+        var before = System.currentTimeMillis();
+
+        // When an id is generated
+        UUID id = generator.next();
+        var after = System.currentTimeMillis();
+
+        // Then it is a version 7, IETF variant id with the current time in its leading 48 bits
+        var millis = id.getMostSignificantBits() >>> 16;
+        assertEquals(7, id.version());
+        assertEquals(2, id.variant());
+        assertTrue(millis >= before && millis <= after);
+    }
+
+    @Test
+    void whenGeneratingManyTimeOrderedIdsThenTheyAreUnique() {
+        // Given the time-ordered generator
+        var generator = TraceIdGenerator.timeOrdered();
+        var ids = new HashSet<UUID>();
+
+        // When many ids are generated
+        for (int i = 0; i < 100_000; i++) {
+            ids.add(generator.next());
+        }
+
+        // Then none repeat
+        assertEquals(100_000, ids.size());
+    }
+
+    @Test
+    void whenGeneratingForACreationTimeThenItLeadsTheId() {
+        // Given the time-ordered generator and a creation time in the past
+        var generator = TraceIdGenerator.timeOrdered();
+        var createdAtMillis = System.currentTimeMillis() - 60_000;
+
+        // When an id is generated for that time
+        UUID id = generator.next(createdAtMillis);
+
+        // Then the id carries the creation time rather than the current time
+        assertEquals(7, id.version());
+        assertEquals(createdAtMillis, id.getMostSignificantBits() >>> 16);
+    }
+
+    @Test
+    void whenGeneratingIdsForTheSameMillisecondThenTheyAreOrderedByGeneration() {
+        // Given the time-ordered generator and a single creation time
+        var generator = TraceIdGenerator.timeOrdered();
+        var createdAtMillis = System.currentTimeMillis();
+
+        // When ids are generated one after another for that time
+        var previous = generator.next(createdAtMillis);
+
+        for (int i = 1; i < 4096; i++) {
+            var id = generator.next(createdAtMillis);
+
+            // Then each sorts after the one before
+            assertTrue(previous.compareTo(id) < 0, "Id " + i + " sorts after the one before");
+            previous = id;
+        }
+    }
+
+    @Test
+    void whenGeneratingRandomIdsThenTheyAreVersion4() {
+        assertEquals(4, TraceIdGenerator.random().next().version());
+    }
+}